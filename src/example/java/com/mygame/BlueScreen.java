@@ -11,7 +11,7 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import de.eskalon.commons.screen.ManagedScreen;
 import de.eskalon.commons.screen.transition.impl.HorizontalSlicingTransition;
 import de.eskalon.commons.screen.transition.impl.SlidingDirection;
-import de.eskalon.commons.screen.transition.impl.SlidingOutTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingOutQuadTransition;
 
 public class BlueScreen extends ManagedScreen {
 
@@ -34,8 +34,8 @@ public class BlueScreen extends ManagedScreen {
 						new HorizontalSlicingTransition(game.getBatch(), 5,
 								1F));
 				game.getScreenManager().pushScreen(new GreenScreen(),
-						new SlidingOutTransition(game.getBatch(),
-								SlidingDirection.DOWN, 0.35F));
+						new SlidingOutQuadTransition(SlidingDirection.DOWN,
+								0.35F));
 				return true;
 			}
 		});
@@ -10,7 +10,7 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 import de.eskalon.commons.screen.ManagedScreen;
-import de.eskalon.commons.screen.transition.impl.BlendingTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingQuadTransition;
 
 public class GreenScreen extends ManagedScreen {
 
@@ -30,8 +30,7 @@ public class GreenScreen extends ManagedScreen {
 				 * Switch using a blending transition.
 				 */
 				game.getScreenManager().pushScreen(new BlueScreen(),
-						new BlendingTransition(game.getBatch(), 1F,
-								Interpolation.pow2In));
+						new BlendingQuadTransition(1F, Interpolation.pow2In));
 				return true;
 			}
 		});
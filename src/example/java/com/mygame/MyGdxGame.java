@@ -7,7 +7,7 @@ import com.badlogic.gdx.math.Interpolation;
 import de.eskalon.commons.core.ManagedGame;
 import de.eskalon.commons.screen.ManagedScreen;
 import de.eskalon.commons.screen.transition.ScreenTransition;
-import de.eskalon.commons.screen.transition.impl.BlendingTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingQuadTransition;
 
 public class MyGdxGame extends ManagedGame<ManagedScreen, ScreenTransition> {
 
@@ -26,7 +26,7 @@ public class MyGdxGame extends ManagedGame<ManagedScreen, ScreenTransition> {
 
 		// Push the first screen using a blending transition
 		this.screenManager.pushScreen(new GreenScreen(),
-				new BlendingTransition(batch, 1F, Interpolation.pow2In));
+				new BlendingQuadTransition(1F, Interpolation.pow2In));
 
 		Gdx.app.debug("Game", "Initialization finished.");
 	}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Is emitted when the screen manager (re)created its framebuffers. Records
+ * the stack trace, so the cause of the rebuild can be seen.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+@Name("de.eskalon.commons.FramebufferRebuild")
+@Label("Framebuffer Rebuild")
+@Category({ "libGDX", "Screen Manager" })
+@Description("The screen manager's framebuffers were (re)created")
+public class FramebufferRebuildEvent extends jdk.jfr.Event {
+
+	@Label("Width")
+	int width;
+
+	@Label("Height")
+	int height;
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.jfr;
+
+import org.jspecify.annotations.Nullable;
+
+import de.eskalon.commons.screen.FrameTimings;
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.ScreenManagerListener;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+
+/**
+ * Emits Java Flight Recorder events for the life-cycle of a
+ * {@link ScreenManager} and the frames of its transitions. This allows
+ * attributing hitches in a recording to the screen or transition causing
+ * them.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * screenManager.addListener(new JfrScreenManagerListener());
+ * </pre>
+ * <p>
+ * The events are only created if they are enabled in the recording's
+ * settings. Needs a JVM with the {@code jdk.jfr} API, i.e. Java 11+ or
+ * OpenJDK 8u262+; as it isn't available on GWT, Android or iOS, this class
+ * isn't part of the core library.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenLifecycleEvent
+ * @see TransitionEvent
+ * @see TransitionFrameEvent
+ * @see FramebufferRebuildEvent
+ */
+public class JfrScreenManagerListener implements ScreenManagerListener {
+
+	private @Nullable Class<?> lastScreen, currScreen;
+	private @Nullable TransitionEvent transitionEvent;
+	private @Nullable Class<?> transition;
+	/**
+	 * The event of the current frame; is begun at the start of every frame, as
+	 * a transition may be started during the frame.
+	 */
+	private @Nullable TransitionFrameEvent frameEvent;
+
+	@Override
+	public void onScreenPushed(int queueSize) {
+		commitLifecycleEvent(ScreenLifecycleEvent.PUSHED, null, null,
+				queueSize);
+	}
+
+	@Override
+	public void onScreenDequeued(ManagedScreen screen,
+			@Nullable ScreenTransition transition) {
+		commitLifecycleEvent(ScreenLifecycleEvent.DEQUEUED, screen.getClass(),
+				transition == null ? null : transition.getClass(), 0);
+	}
+
+	@Override
+	public void onScreenShown(ManagedScreen screen) {
+		lastScreen = currScreen;
+		currScreen = screen.getClass();
+
+		commitLifecycleEvent(ScreenLifecycleEvent.SHOWN, currScreen, null, 0);
+	}
+
+	@Override
+	public void onScreenHidden(ManagedScreen screen) {
+		commitLifecycleEvent(ScreenLifecycleEvent.HIDDEN, screen.getClass(),
+				null, 0);
+	}
+
+	@Override
+	public void onScreenDisposed(ManagedScreen screen) {
+		commitLifecycleEvent(ScreenLifecycleEvent.DISPOSED, screen.getClass(),
+				null, 0);
+	}
+
+	private void commitLifecycleEvent(String step, @Nullable Class<?> screen,
+			@Nullable Class<?> transition, int queueSize) {
+		ScreenLifecycleEvent event = new ScreenLifecycleEvent();
+		if (event.isEnabled()) {
+			event.step = step;
+			event.screen = screen;
+			event.transition = transition;
+			event.queueSize = queueSize;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void onTransitionStarted(ScreenTransition transition) {
+		this.transition = transition.getClass();
+
+		TransitionEvent event = new TransitionEvent();
+		if (event.isEnabled()) {
+			event.begin();
+			event.transition = this.transition;
+			event.fromScreen = lastScreen;
+			event.toScreen = currScreen;
+			this.transitionEvent = event;
+		}
+	}
+
+	@Override
+	public void onTransitionFinished(ScreenTransition transition) {
+		if (transitionEvent != null) {
+			transitionEvent.commit();
+			transitionEvent = null;
+		}
+
+		this.transition = null;
+	}
+
+	@Override
+	public void onFramebuffersCreated(int width, int height) {
+		FramebufferRebuildEvent event = new FramebufferRebuildEvent();
+		if (event.isEnabled()) {
+			event.width = width;
+			event.height = height;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void onFrameStarted() {
+		TransitionFrameEvent event = new TransitionFrameEvent();
+		if (event.isEnabled()) {
+			event.begin();
+			frameEvent = event;
+		} else {
+			frameEvent = null;
+		}
+	}
+
+	@Override
+	public void onFrameRendered(FrameTimings timings) {
+		TransitionFrameEvent event = frameEvent;
+		frameEvent = null;
+
+		if (transition == null)
+			return;
+
+		if (transitionEvent != null)
+			transitionEvent.frameCount++;
+
+		if (event != null) {
+			event.transition = transition;
+			event.screen = currScreen;
+			event.lastScreenTime = timings.getLastScreenNanos();
+			event.currentScreenTime = timings.getCurrentScreenNanos();
+			event.transitionTime = timings.getTransitionNanos();
+			event.frameTime = timings.getFrameNanos();
+			event.commit();
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Is emitted when a screen is pushed, dequeued, shown, hidden or disposed by
+ * the screen manager.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+@Name("de.eskalon.commons.ScreenLifecycle")
+@Label("Screen Lifecycle")
+@Category({ "libGDX", "Screen Manager" })
+@Description("A screen was pushed, dequeued, shown, hidden or disposed")
+@StackTrace(false)
+public class ScreenLifecycleEvent extends jdk.jfr.Event {
+
+	public static final String PUSHED = "Pushed", DEQUEUED = "Dequeued",
+			SHOWN = "Shown", HIDDEN = "Hidden", DISPOSED = "Disposed";
+
+	@Label("Step")
+	String step;
+
+	@Label("Screen")
+	@Description("The screen's class; not known yet when it is pushed")
+	Class<?> screen;
+
+	@Label("Transition")
+	@Description("The transition used to show the screen")
+	Class<?> transition;
+
+	@Label("Queue Size")
+	@Description("The count of queued screens")
+	int queueSize;
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spans a transition from its start until it is finished.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+@Name("de.eskalon.commons.Transition")
+@Label("Screen Transition")
+@Category({ "libGDX", "Screen Manager" })
+@Description("A transition between two screens")
+@StackTrace(false)
+public class TransitionEvent extends jdk.jfr.Event {
+
+	@Label("Transition")
+	Class<?> transition;
+
+	@Label("From Screen")
+	Class<?> fromScreen;
+
+	@Label("To Screen")
+	Class<?> toScreen;
+
+	@Label("Frame Count")
+	int frameCount;
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Is emitted for every frame rendered while a transition is going on. The
+ * event spans the whole frame, so it can be lined up with other events of the
+ * recording, e.g. GC pauses. The phase durations are measured by the screen
+ * manager.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+@Name("de.eskalon.commons.TransitionFrame")
+@Label("Transition Frame")
+@Category({ "libGDX", "Screen Manager" })
+@Description("The phase durations of a frame rendered during a transition")
+@StackTrace(false)
+public class TransitionFrameEvent extends jdk.jfr.Event {
+
+	@Label("Transition")
+	Class<?> transition;
+
+	@Label("Screen")
+	Class<?> screen;
+
+	@Label("Last Screen Pass")
+	@Timespan(Timespan.NANOSECONDS)
+	long lastScreenTime;
+
+	@Label("Current Screen Pass")
+	@Timespan(Timespan.NANOSECONDS)
+	long currentScreenTime;
+
+	@Label("Transition Composite")
+	@Timespan(Timespan.NANOSECONDS)
+	long transitionTime;
+
+	@Label("Frame Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long frameTime;
+
+}
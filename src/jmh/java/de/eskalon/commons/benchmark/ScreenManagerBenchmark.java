@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.eskalon.commons.perf.HeadlessEnvironment;
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+/**
+ * Benchmarks the CPU side of {@link ScreenManager#render(float)}. OpenGL is
+ * replaced by a no-op implementation.
+ *
+ * @author damios
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScreenManagerBenchmark {
+
+	private static final int WIDTH = 1280, HEIGHT = 720;
+	private static final float DELTA = 1 / 60F;
+
+	/**
+	 * The count of screens pushed at once in {@link #queueBacklog()}.
+	 */
+	@Param({ "1", "16", "64" })
+	public int backlog;
+
+	private ScreenManager<ManagedScreen, ScreenTransition> idleManager;
+	private ScreenManager<ManagedScreen, ScreenTransition> transitioningManager;
+	private ScreenManager<ManagedScreen, ScreenTransition> backlogManager;
+	private ManagedScreen firstScreen, secondScreen;
+
+	@Setup
+	public void setUp() {
+		HeadlessEnvironment.setUp(WIDTH, HEIGHT);
+
+		firstScreen = new EmptyScreen();
+		secondScreen = new EmptyScreen();
+
+		idleManager = createManager();
+		idleManager.pushScreen(firstScreen, null);
+		idleManager.render(DELTA);
+
+		// The transition never finishes
+		transitioningManager = createManager();
+		transitioningManager.pushScreen(new EmptyScreen(), null);
+		transitioningManager.pushScreen(new EmptyScreen(),
+				new BlankTimedTransition(Float.MAX_VALUE));
+		transitioningManager.render(DELTA);
+
+		backlogManager = createManager();
+		backlogManager.pushScreen(secondScreen, null);
+		backlogManager.render(DELTA);
+	}
+
+	private ScreenManager<ManagedScreen, ScreenTransition> createManager() {
+		ScreenManager<ManagedScreen, ScreenTransition> screenManager = new ScreenManager<>();
+		screenManager.initialize(new BasicInputMultiplexer(), WIDTH, HEIGHT,
+				false);
+		return screenManager;
+	}
+
+	@TearDown
+	public void tearDown() {
+		idleManager.dispose();
+		transitioningManager.dispose();
+		backlogManager.dispose();
+	}
+
+	/**
+	 * A frame without any transition going on.
+	 */
+	@Benchmark
+	public void steadyState() {
+		idleManager.render(DELTA);
+	}
+
+	/**
+	 * A frame of an ongoing transition.
+	 */
+	@Benchmark
+	public void transition() {
+		transitioningManager.render(DELTA);
+	}
+
+	/**
+	 * A frame in which a backlog of queued screens is worked off.
+	 */
+	@Benchmark
+	public void queueBacklog() {
+		// Consecutive screens have to differ, as a screen cannot be pushed
+		// twice in a row
+		ManagedScreen next = backlogManager.getCurrentScreen() == firstScreen
+				? secondScreen
+				: firstScreen;
+		for (int i = 0; i < backlog; i++) {
+			backlogManager.pushScreen(next, null);
+			next = next == firstScreen ? secondScreen : firstScreen;
+		}
+		backlogManager.render(DELTA);
+	}
+
+	private static class EmptyScreen extends ManagedScreen {
+		@Override
+		public void render(float delta) {
+			// don't render anything
+		}
+
+		@Override
+		public void resize(int width, int height) {
+			// not needed
+		}
+
+		@Override
+		public void dispose() {
+			// not needed
+		}
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+
+import de.eskalon.commons.perf.HeadlessEnvironment;
+import de.eskalon.commons.screen.quality.QualityTier;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingQuadTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingTransition;
+import de.eskalon.commons.screen.transition.impl.BlurTransition;
+import de.eskalon.commons.screen.transition.impl.GLTransitionsShaderTransition;
+import de.eskalon.commons.screen.transition.impl.HorizontalSlicingShaderTransition;
+import de.eskalon.commons.screen.transition.impl.HorizontalSlicingTransition;
+import de.eskalon.commons.screen.transition.impl.PushQuadTransition;
+import de.eskalon.commons.screen.transition.impl.PushTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingDirection;
+import de.eskalon.commons.screen.transition.impl.SlidingInQuadTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingInTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingOutQuadTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingOutTransition;
+import de.eskalon.commons.screen.transition.impl.VerticalSlicingShaderTransition;
+import de.eskalon.commons.screen.transition.impl.VerticalSlicingTransition;
+import de.eskalon.commons.utils.FrameBufferPool;
+
+/**
+ * Benchmarks the CPU side of rendering a frame of each of the built-in
+ * transitions. OpenGL is replaced by a no-op implementation.
+ *
+ * @author damios
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransitionBenchmark {
+
+	private static final int WIDTH = 1280, HEIGHT = 720;
+	private static final float DELTA = 1 / 60F;
+	/**
+	 * Long enough for the transitions to never finish.
+	 */
+	private static final float DURATION = Float.MAX_VALUE;
+
+	@Param({ "BlankTimed", "Blending", "BlendingQuad", "Push", "PushQuad",
+			"SlidingIn", "SlidingInQuad", "SlidingOut", "SlidingOutQuad",
+			"HorizontalSlicing", "VerticalSlicing", "HorizontalSlicingShader",
+			"VerticalSlicingShader", "GLTransitionsShader", "Blur" })
+	public String transitionName;
+
+	private SpriteBatch batch;
+	private FrameBufferPool fboPool;
+	private FrameBuffer lastFbo, currFbo;
+	private TextureRegion lastScreen, currScreen;
+	private ScreenTransition transition;
+
+	@Setup
+	public void setUp() {
+		HeadlessEnvironment.setUp(WIDTH, HEIGHT);
+
+		batch = new SpriteBatch();
+		fboPool = new FrameBufferPool();
+		fboPool.setSize(WIDTH, HEIGHT);
+
+		lastFbo = new FrameBuffer(Format.RGBA8888, WIDTH, HEIGHT, false);
+		currFbo = new FrameBuffer(Format.RGBA8888, WIDTH, HEIGHT, false);
+		lastScreen = new TextureRegion(lastFbo.getColorBufferTexture());
+		currScreen = new TextureRegion(currFbo.getColorBufferTexture());
+
+		transition = createTransition(transitionName);
+		transition.show();
+		transition.resize(WIDTH, HEIGHT);
+	}
+
+	private ScreenTransition createTransition(String name) {
+		switch (name) {
+		case "BlankTimed":
+			return new BlankTimedTransition(DURATION);
+		case "Blending":
+			return new BlendingTransition(batch, DURATION);
+		case "BlendingQuad":
+			return new BlendingQuadTransition(DURATION);
+		case "Push":
+			return new PushTransition(batch, SlidingDirection.LEFT, DURATION);
+		case "PushQuad":
+			return new PushQuadTransition(SlidingDirection.LEFT, DURATION);
+		case "SlidingIn":
+			return new SlidingInTransition(batch, SlidingDirection.UP,
+					DURATION);
+		case "SlidingInQuad":
+			return new SlidingInQuadTransition(SlidingDirection.UP, DURATION);
+		case "SlidingOut":
+			return new SlidingOutTransition(batch, SlidingDirection.DOWN,
+					DURATION);
+		case "SlidingOutQuad":
+			return new SlidingOutQuadTransition(SlidingDirection.DOWN,
+					DURATION);
+		case "HorizontalSlicing":
+			return new HorizontalSlicingTransition(batch, 8, DURATION);
+		case "VerticalSlicing":
+			return new VerticalSlicingTransition(batch, 8, DURATION);
+		case "HorizontalSlicingShader":
+			return new HorizontalSlicingShaderTransition(8, DURATION);
+		case "VerticalSlicingShader":
+			return new VerticalSlicingShaderTransition(8, DURATION);
+		case "GLTransitionsShader":
+			return new GLTransitionsShaderTransition(
+					"vec4 transition(vec2 uv) {\n"
+							+ "	return mix(getFromColor(uv), getToColor(uv), progress);\n"
+							+ "}",
+					DURATION, null);
+		case "Blur":
+			return new BlurTransition(fboPool, QualityTier.HIGH, DURATION);
+		default:
+			throw new IllegalArgumentException(
+					"Unknown transition: " + name);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		transition.hide();
+		transition.dispose();
+		lastFbo.dispose();
+		currFbo.dispose();
+		fboPool.dispose();
+		batch.dispose();
+	}
+
+	@Benchmark
+	public void render() {
+		transition.render(DELTA, lastScreen, currScreen);
+	}
+
+}
@@ -15,6 +15,8 @@
 
 package de.eskalon.commons.core;
 
+import org.jspecify.annotations.Nullable;
+
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
@@ -23,8 +25,10 @@ import com.badlogic.gdx.InputProcessor;
 
 import de.eskalon.commons.screen.ManagedScreen;
 import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.quality.DeviceCapabilityProbe;
 import de.eskalon.commons.screen.transition.ScreenTransition;
 import de.eskalon.commons.utils.BasicInputMultiplexer;
+import de.eskalon.commons.utils.GLStateCache;
 
 /**
  * A game class that utilizes a {@linkplain ScreenManager screen manager}. Use
@@ -68,11 +72,42 @@ public class ManagedGame<S extends ManagedScreen, T extends ScreenTransition>
 		Gdx.input.setInputProcessor(inputProcessor);
 		screenManager.initialize(inputProcessor, Gdx.graphics.getWidth(),
 				Gdx.graphics.getHeight(), false);
+
+		DeviceCapabilityProbe probe = createDeviceCapabilityProbe();
+		if (probe != null)
+			screenManager.setQualityTier(probe.probe(screenManager));
+	}
+
+	/**
+	 * Override this method to classify the device into a
+	 * {@linkplain ScreenManager#getQualityTier() quality tier} on startup. The
+	 * probe is run in {@link #create()}, right after the screen manager was
+	 * initialized.
+	 * 
+	 * @return the probe to run; {@code null} by default, which means that the
+	 *         {@linkplain de.eskalon.commons.screen.quality.QualityTier#HIGH
+	 *         highest tier} is used
+	 */
+	protected @Nullable DeviceCapabilityProbe createDeviceCapabilityProbe() {
+		return null;
 	}
 
 	@Override
 	public void render() {
-		screenManager.render(Gdx.graphics.getDeltaTime());
+		render(Gdx.graphics.getDeltaTime());
+	}
+
+	/**
+	 * Renders a frame with the given time delta. Is used for running the game
+	 * with a fixed delta, e.g. when replaying recorded input.
+	 * 
+	 * @param delta
+	 *            the time delta in seconds
+	 * @since 0.8.0
+	 */
+	public void render(float delta) {
+		inputProcessor.flush(); // pass on the coalesced pointer motion
+		screenManager.render(delta);
 	}
 
 	/**
@@ -105,8 +140,18 @@ public class ManagedGame<S extends ManagedScreen, T extends ScreenTransition>
 		screenManager.pause();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If a {@link GLStateCache} is installed, it is
+	 * {@linkplain GLStateCache#invalidate() invalidated}, as the GL context
+	 * may have been lost in the meantime.
+	 */
 	@Override
 	public void resume() {
+		if (Gdx.gl instanceof GLStateCache)
+			((GLStateCache) Gdx.gl).invalidate();
+
 		screenManager.resume();
 	}
 
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.input;
+
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.ScreenManager;
+
+/**
+ * An input processor that stores the events it receives, so that they can be
+ * {@linkplain #replay(Array) replayed} later on. The events are kept in a
+ * preallocated ring buffer, i.e. buffering doesn't allocate any objects. If the
+ * buffer is full, the oldest event is dropped.
+ * <p>
+ * The {@linkplain ScreenManager#setInputEventBuffer(InputEventBuffer) screen
+ * manager} uses a buffer to collect the input received while a transition is
+ * rendered; the events are then replayed to the processors of the new screen.
+ * <p>
+ * By default, all event types except for {@linkplain
+ * InputEventType#isPointerMotion() pointer motion} are buffered.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class InputEventBuffer implements InputProcessor {
+
+	private final int capacity;
+	private final InputEventType[] types;
+	/**
+	 * The integer parameters of the events; four per event.
+	 */
+	private final int[] ints;
+	/**
+	 * The float parameters of the events; two per event.
+	 */
+	private final float[] floats;
+	private final long[] timestamps;
+	private int head, size;
+
+	private final boolean[] enabledTypes = new boolean[InputEventType
+			.values().length];
+	private long maxAge = 500 * 1_000_000L;
+	private int droppedCount;
+
+	/**
+	 * @param capacity
+	 *            the maximum count of buffered events
+	 */
+	public InputEventBuffer(int capacity) {
+		Preconditions.checkArgument(capacity > 0,
+				"The capacity has to be positive");
+
+		this.capacity = capacity;
+		this.types = new InputEventType[capacity];
+		this.ints = new int[capacity * 4];
+		this.floats = new float[capacity * 2];
+		this.timestamps = new long[capacity];
+
+		for (InputEventType type : InputEventType.values()) {
+			enabledTypes[type.ordinal()] = !type.isPointerMotion();
+		}
+	}
+
+	public InputEventBuffer() {
+		this(64);
+	}
+
+	/**
+	 * @param type
+	 *            the event type
+	 * @param enabled
+	 *            whether events of this type should be buffered
+	 */
+	public void setEnabled(InputEventType type, boolean enabled) {
+		enabledTypes[type.ordinal()] = enabled;
+	}
+
+	public boolean isEnabled(InputEventType type) {
+		return enabledTypes[type.ordinal()];
+	}
+
+	/**
+	 * @param maxAge
+	 *            the maximum age (in seconds) of an event at the time it is
+	 *            {@linkplain #replay(Array) replayed}; older events are
+	 *            discarded. {@code 0.5} by default
+	 */
+	public void setMaxAge(float maxAge) {
+		Preconditions.checkArgument(maxAge >= 0);
+		this.maxAge = (long) (maxAge * 1_000_000_000L);
+	}
+
+	/**
+	 * Buffers an event.
+	 *
+	 * @return whether the event was buffered; {@code false} if events of this
+	 *         type are {@linkplain #setEnabled(InputEventType, boolean)
+	 *         filtered}
+	 */
+	public boolean add(InputEventType type, int a, int b, int c, int d,
+			float amountX, float amountY) {
+		if (!enabledTypes[type.ordinal()])
+			return false;
+
+		if (size == capacity) {
+			// Drop the oldest event
+			head = (head + 1) % capacity;
+			size--;
+			droppedCount++;
+		}
+
+		int index = (head + size) % capacity;
+		types[index] = type;
+		ints[index * 4] = a;
+		ints[index * 4 + 1] = b;
+		ints[index * 4 + 2] = c;
+		ints[index * 4 + 3] = d;
+		floats[index * 2] = amountX;
+		floats[index * 2 + 1] = amountY;
+		timestamps[index] = TimeUtils.nanoTime();
+		size++;
+
+		return true;
+	}
+
+	/**
+	 * Passes the buffered events to the given input processors and clears the
+	 * buffer afterwards. Events that are too old are discarded.
+	 *
+	 * @param processors
+	 *            the input processors; an event is passed to them in order,
+	 *            until one of them handles it
+	 * @return the count of replayed events
+	 */
+	public int replay(Array<InputProcessor> processors) {
+		long minTimestamp = TimeUtils.nanoTime() - maxAge;
+		int replayed = 0;
+
+		int n = size;
+		for (int i = 0; i < n; i++) {
+			int index = (head + i) % capacity;
+			if (timestamps[index] < minTimestamp) {
+				droppedCount++;
+				continue;
+			}
+
+			types[index].dispatch(processors, ints[index * 4],
+					ints[index * 4 + 1], ints[index * 4 + 2],
+					ints[index * 4 + 3], floats[index * 2],
+					floats[index * 2 + 1]);
+			replayed++;
+		}
+
+		clear();
+		return replayed;
+	}
+
+	/**
+	 * Discards all buffered events.
+	 */
+	public void clear() {
+		for (int i = 0; i < capacity; i++) {
+			types[i] = null;
+		}
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * @return the count of buffered events
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the count of events that were dropped because the buffer was
+	 *         full or they were too old
+	 */
+	public int getDroppedCount() {
+		return droppedCount;
+	}
+
+	@Override
+	public boolean keyDown(int keycode) {
+		return add(InputEventType.KEY_DOWN, keycode, 0, 0, 0, 0, 0);
+	}
+
+	@Override
+	public boolean keyUp(int keycode) {
+		return add(InputEventType.KEY_UP, keycode, 0, 0, 0, 0, 0);
+	}
+
+	@Override
+	public boolean keyTyped(char character) {
+		return add(InputEventType.KEY_TYPED, character, 0, 0, 0, 0, 0);
+	}
+
+	@Override
+	public boolean touchDown(int screenX, int screenY, int pointer,
+			int button) {
+		return add(InputEventType.TOUCH_DOWN, screenX, screenY, pointer,
+				button, 0, 0);
+	}
+
+	@Override
+	public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+		return add(InputEventType.TOUCH_UP, screenX, screenY, pointer, button,
+				0, 0);
+	}
+
+	@Override
+	public boolean touchCancelled(int screenX, int screenY, int pointer,
+			int button) {
+		return add(InputEventType.TOUCH_CANCELLED, screenX, screenY, pointer,
+				button, 0, 0);
+	}
+
+	@Override
+	public boolean touchDragged(int screenX, int screenY, int pointer) {
+		return add(InputEventType.TOUCH_DRAGGED, screenX, screenY, pointer, 0,
+				0, 0);
+	}
+
+	@Override
+	public boolean mouseMoved(int screenX, int screenY) {
+		return add(InputEventType.MOUSE_MOVED, screenX, screenY, 0, 0, 0, 0);
+	}
+
+	@Override
+	public boolean scrolled(float amountX, float amountY) {
+		return add(InputEventType.SCROLLED, 0, 0, 0, 0, amountX, amountY);
+	}
+
+}
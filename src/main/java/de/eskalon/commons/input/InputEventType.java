@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.input;
+
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.SnapshotArray;
+
+/**
+ * The types of events handled by an {@link InputProcessor}.
+ * <p>
+ * The parameters of an event are passed in a uniform way, so that events can
+ * be stored without allocating objects: the integer parameters are passed in
+ * the order of the respective {@link InputProcessor} method ({@code keycode},
+ * {@code character} or {@code screenX, screenY, pointer, button}); the scroll
+ * amounts are passed as floats.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public enum InputEventType {
+	KEY_DOWN, KEY_UP, KEY_TYPED, TOUCH_DOWN, TOUCH_UP, TOUCH_CANCELLED,
+	TOUCH_DRAGGED, MOUSE_MOVED, SCROLLED;
+
+	/**
+	 * @return whether this event merely reports the current position of a
+	 *         pointer
+	 */
+	public boolean isPointerMotion() {
+		return this == TOUCH_DRAGGED || this == MOUSE_MOVED;
+	}
+
+	/**
+	 * Passes an event of this type to an input processor.
+	 *
+	 * @return whether the event was handled
+	 */
+	public boolean dispatch(InputProcessor processor, int a, int b, int c,
+			int d, float amountX, float amountY) {
+		switch (this) {
+		case KEY_DOWN:
+			return processor.keyDown(a);
+		case KEY_UP:
+			return processor.keyUp(a);
+		case KEY_TYPED:
+			return processor.keyTyped((char) a);
+		case TOUCH_DOWN:
+			return processor.touchDown(a, b, c, d);
+		case TOUCH_UP:
+			return processor.touchUp(a, b, c, d);
+		case TOUCH_CANCELLED:
+			return processor.touchCancelled(a, b, c, d);
+		case TOUCH_DRAGGED:
+			return processor.touchDragged(a, b, c);
+		case MOUSE_MOVED:
+			return processor.mouseMoved(a, b);
+		default:
+			return processor.scrolled(amountX, amountY);
+		}
+	}
+
+	/**
+	 * Passes an event of this type to the given input processors in order,
+	 * until one of them handles it.
+	 *
+	 * @param processors
+	 *            the processors; if a {@link SnapshotArray} is passed, it may
+	 *            be modified by the processors
+	 * @return whether the event was handled
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean dispatch(Array<InputProcessor> processors, int a, int b,
+			int c, int d, float amountX, float amountY) {
+		SnapshotArray<InputProcessor> snapshot = processors instanceof SnapshotArray
+				? (SnapshotArray<InputProcessor>) processors
+				: null;
+		Object[] items = snapshot != null ? snapshot.begin()
+				: processors.items;
+		int n = processors.size;
+		try {
+			for (int i = 0; i < n; i++) {
+				if (dispatch((InputProcessor) items[i], a, b, c, d, amountX,
+						amountY))
+					return true;
+			}
+		} finally {
+			if (snapshot != null)
+				snapshot.end();
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen;
+
+/**
+ * The time the phases of a {@linkplain ScreenManager#render(float) frame}
+ * took, in nanoseconds. The phases are accumulated over the frame.
+ * <p>
+ * The screen passes are only timed when the screens are actually rendered;
+ * if the {@linkplain de.eskalon.commons.screen.quality.TransitionQualityGovernor
+ * quality governor} reuses the image of a screen, its pass takes {@code 0}
+ * nanoseconds.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenManagerListener#onFrameRendered(FrameTimings)
+ */
+public final class FrameTimings {
+
+	long lastScreenNanos;
+	long currScreenNanos;
+	long transitionNanos;
+	long frameNanos;
+
+	FrameTimings() {
+		// only created by the screen manager
+	}
+
+	void reset() {
+		lastScreenNanos = 0;
+		currScreenNanos = 0;
+		transitionNanos = 0;
+		frameNanos = 0;
+	}
+
+	/**
+	 * @return the time spent rendering the {@linkplain ScreenManager#getLastScreen()
+	 *         last screen} into its framebuffer
+	 */
+	public long getLastScreenNanos() {
+		return lastScreenNanos;
+	}
+
+	/**
+	 * @return the time spent rendering the
+	 *         {@linkplain ScreenManager#getCurrentScreen() current screen};
+	 *         while a transition is going on, it is rendered into a framebuffer
+	 */
+	public long getCurrentScreenNanos() {
+		return currScreenNanos;
+	}
+
+	/**
+	 * @return the time the transition took to compose the images of the
+	 *         screens, excluding the screen passes
+	 */
+	public long getTransitionNanos() {
+		return transitionNanos;
+	}
+
+	/**
+	 * @return the time the whole frame took, including the work not covered by
+	 *         the other phases (e.g. showing a new screen)
+	 */
+	public long getFrameNanos() {
+		return frameNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "FrameTimings[lastScreen=" + lastScreenNanos + "ns, currScreen="
+				+ currScreenNanos + "ns, transition=" + transitionNanos
+				+ "ns, frame=" + frameNanos + "ns]";
+	}
+
+}
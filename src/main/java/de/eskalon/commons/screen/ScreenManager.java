@@ -24,11 +24,14 @@ import com.badlogic.gdx.Application;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.HdpiUtils;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongArray;
 import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.TimeUtils;
 
 import de.damios.guacamole.Preconditions;
 import de.damios.guacamole.annotations.Beta;
@@ -36,8 +39,22 @@ import de.damios.guacamole.gdx.graphics.NestableFrameBuffer;
 import de.damios.guacamole.gdx.log.Logger;
 import de.damios.guacamole.gdx.log.LoggerService;
 import de.damios.guacamole.tuple.Pair;
+import de.eskalon.commons.input.InputEventBuffer;
+import de.eskalon.commons.screen.gpu.GpuPass;
+import de.eskalon.commons.screen.gpu.GpuPassTimer;
+import de.eskalon.commons.screen.hud.PerformanceHud;
+import de.eskalon.commons.screen.latency.ScreenLatencies;
+import de.eskalon.commons.screen.latency.ScreenLatencyTracker;
+import de.eskalon.commons.screen.quality.QualityTier;
+import de.eskalon.commons.screen.quality.TransitionQualityGovernor;
+import de.eskalon.commons.screen.quality.TransitionQualityStep;
+import de.eskalon.commons.screen.trace.TraceRecorder;
 import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.TransitionClock;
+import de.eskalon.commons.screen.watchdog.FrameWatchdog;
+import de.eskalon.commons.screen.watchdog.WatchdogPhase;
 import de.eskalon.commons.utils.BasicInputMultiplexer;
+import de.eskalon.commons.utils.FrameBufferPool;
 import de.eskalon.commons.utils.ScreenFboUtils;
 import de.eskalon.commons.utils.Supplier;
 
@@ -53,7 +70,9 @@ import de.eskalon.commons.utils.Supplier;
  * <p>
  * As the screen manager is using framebuffers internally, screens and
  * transitions have to use a {@link NestableFrameBuffer} if they want to use
- * framebuffers as well!
+ * framebuffers as well! Intermediate render targets for transitions can be
+ * leased from the manager's {@linkplain #getFrameBufferPool() framebuffer
+ * pool}.
  * 
  * @author damios
  * 
@@ -80,6 +99,11 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 	 */
 	private FrameBuffer currFBO;
 
+	/**
+	 * The pool of intermediate render targets used by transitions.
+	 */
+	private final FrameBufferPool fboPool = new FrameBufferPool();
+
 	/**
 	 * The screen that was shown before the {@linkplain #currScreen current
 	 * screen}.
@@ -92,9 +116,24 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 	protected @Nullable ManagedScreen currScreen;
 
 	/**
-	 * The input processors of the {@linkplain #currScreen current screen}.
+	 * The input processors of the {@linkplain #currScreen current screen}. Is
+	 * registered as the {@linkplain BasicInputMultiplexer#SCREEN_GROUP screen
+	 * group} of the game's input multiplexer.
+	 */
+	private final Array<InputProcessor> currentProcessors = new Array<>();
+
+	/**
+	 * Collects the input received while a transition is rendered.
+	 */
+	protected @Nullable InputEventBuffer inputEventBuffer;
+	private final Array<InputProcessor> inputEventBufferProcessors = new Array<>(
+			1);
+	/**
+	 * Whether the input processors of the {@linkplain #lastScreen last screen}
+	 * stay registered until the input is handed off to the new screen.
 	 */
-	private Array<InputProcessor> currentProcessors = new Array<>();
+	protected boolean routingInputToLastScreen = false;
+	private boolean inputHandedOff = true;
 
 	/**
 	 * The blank screen used internally when no screen has been pushed yet.
@@ -106,7 +145,60 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 	 */
 	protected @Nullable T transition;
 
+	/**
+	 * The clock converting the frame deltas for the transitions.
+	 */
+	protected @Nullable TransitionClock transitionClock;
+
+	/**
+	 * Adapts the quality of the transitions to the measured frame times.
+	 */
+	protected @Nullable TransitionQualityGovernor qualityGovernor;
+
+	/**
+	 * The quality tier of the device.
+	 */
+	protected QualityTier qualityTier = QualityTier.HIGH;
+
+	/**
+	 * The transition used instead of the pushed one when the
+	 * {@linkplain #qualityGovernor quality governor} reaches
+	 * {@link TransitionQualityStep#FALLBACK_TRANSITION}.
+	 */
+	protected @Nullable Supplier<T> fallbackTransition;
+	private boolean usingFallbackTransition = false;
+
+	/**
+	 * The images of the screens rendered as part of the transition; they are
+	 * reused when the {@linkplain #qualityGovernor quality governor} reduces
+	 * the refresh rate. The regions themselves are reused as well, so that
+	 * rendering a transition doesn't allocate any objects.
+	 */
+	private final TextureRegion lastScreenTexture = new TextureRegion(),
+			currScreenTexture = new TextureRegion();
+	private boolean lastScreenRendered, currScreenRendered;
+	private float currScreenSkippedDelta;
+	private int currScreenSkippedFrames;
+
 	protected final Queue<Pair<Supplier<T>, Supplier<S>>> transitionQueue = new LinkedList<>();
+	/**
+	 * The times the entries of the {@linkplain #transitionQueue queue} were
+	 * pushed at.
+	 */
+	private final LongArray pushTimes = new LongArray();
+
+	/**
+	 * Measures the time it takes from pushing a screen until it is visible and
+	 * interactive.
+	 */
+	protected @Nullable ScreenLatencyTracker latencyTracker;
+	/**
+	 * The latencies of the current screen, as long as it didn't become
+	 * visible and interactive yet.
+	 */
+	private @Nullable ScreenLatencies pendingLatencies;
+	private long pendingPushTime;
+	private boolean firstFrameRecorded, inputActivationRecorded;
 
 	private BasicInputMultiplexer gameInputMultiplexer;
 
@@ -118,6 +210,34 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 	protected boolean autoDisposeScreens = false;
 	protected boolean autoDisposeTransitions = false;
 
+	/**
+	 * Reports the calls to screens and transitions that take too long.
+	 */
+	protected @Nullable FrameWatchdog watchdog;
+
+	/**
+	 * Records the frames and the calls to screens and transitions.
+	 */
+	protected @Nullable TraceRecorder traceRecorder;
+
+	/**
+	 * Measures the GPU time of the render passes.
+	 */
+	protected @Nullable GpuPassTimer gpuTimer;
+
+	/**
+	 * The overlay drawn at the end of every frame.
+	 */
+	protected @Nullable PerformanceHud performanceHud;
+
+	/**
+	 * The listeners notified about the life-cycle events and frame timings.
+	 * If there are none, the frames aren't timed.
+	 */
+	private final Array<ScreenManagerListener> listeners = new Array<>(false,
+			4);
+	private final FrameTimings frameTimings = new FrameTimings();
+
 	public void initialize(BasicInputMultiplexer gameInputMultiplexer,
 			int screenWidth, int screenHeight, boolean hasDepth) {
 		this.gameInputMultiplexer = gameInputMultiplexer;
@@ -139,6 +259,14 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 		if (currFBO != null)
 			currFBO.dispose();
 		currFBO = createFrameBuffer();
+
+		fboPool.setSize(HdpiUtils.toBackBufferX(currentWidth),
+				HdpiUtils.toBackBufferY(currentHeight));
+
+		for (int i = 0; i < listeners.size; i++) {
+			listeners.get(i).onFramebuffersCreated(lastFBO.getWidth(),
+					lastFBO.getHeight());
+		}
 	}
 
 	protected NestableFrameBuffer createFrameBuffer() {
@@ -183,6 +311,242 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 		this.autoDisposeTransitions = autoDisposeTransitions;
 	}
 
+	/**
+	 * Sets the clock that converts the frame deltas before they are passed to
+	 * the {@linkplain ScreenTransition#render(float, TextureRegion, TextureRegion)
+	 * transitions}. This allows absorbing hitches, e.g. the one caused by
+	 * starting a transition. The screens rendered as part of a transition
+	 * still get the raw deltas.
+	 * 
+	 * @param transitionClock
+	 *            the clock; {@code null} to use the raw deltas, which is the
+	 *            default
+	 */
+	public void setTransitionClock(@Nullable TransitionClock transitionClock) {
+		this.transitionClock = transitionClock;
+	}
+
+	public @Nullable TransitionClock getTransitionClock() {
+		return transitionClock;
+	}
+
+	/**
+	 * Sets the buffer that collects the input events received while a
+	 * transition is rendered. The events are replayed to the input processors
+	 * of the new screen as soon as the transition is finished.
+	 * 
+	 * @param inputEventBuffer
+	 *            the buffer; {@code null} to drop the input received during a
+	 *            transition, which is the default
+	 */
+	public void setInputEventBuffer(
+			@Nullable InputEventBuffer inputEventBuffer) {
+		this.inputEventBuffer = inputEventBuffer;
+
+		this.inputEventBufferProcessors.clear();
+		if (inputEventBuffer != null)
+			this.inputEventBufferProcessors.add(inputEventBuffer);
+	}
+
+	public @Nullable InputEventBuffer getInputEventBuffer() {
+		return inputEventBuffer;
+	}
+
+	/**
+	 * Sets whether the input processors of the old screen stay registered
+	 * while a transition is rendered, until the input is
+	 * {@linkplain ScreenTransition#isHandingOffInput() handed off} to the new
+	 * screen. Otherwise, the input received in the meantime is dropped or
+	 * {@linkplain #setInputEventBuffer(InputEventBuffer) buffered}.
+	 * 
+	 * @param routingInputToLastScreen
+	 *            whether the input should be passed to the old screen;
+	 *            {@code false} by default
+	 */
+	public void setRoutingInputToLastScreen(boolean routingInputToLastScreen) {
+		this.routingInputToLastScreen = routingInputToLastScreen;
+	}
+
+	public boolean isRoutingInputToLastScreen() {
+		return routingInputToLastScreen;
+	}
+
+	/**
+	 * Sets the governor which measures the duration of the transition frames
+	 * and lowers the quality of the transitions if they take too long.
+	 * 
+	 * @param qualityGovernor
+	 *            the governor; {@code null} to always render in full quality,
+	 *            which is the default
+	 * 
+	 * @see #setFallbackTransition(Supplier)
+	 */
+	public void setQualityGovernor(
+			@Nullable TransitionQualityGovernor qualityGovernor) {
+		this.qualityGovernor = qualityGovernor;
+
+		onQualityLevelChanged();
+	}
+
+	public @Nullable TransitionQualityGovernor getQualityGovernor() {
+		return qualityGovernor;
+	}
+
+	/**
+	 * Sets the quality tier of the device. The intermediate render targets of
+	 * the {@linkplain #getFrameBufferPool() framebuffer pool} are limited to
+	 * the {@linkplain QualityTier#renderScale tier's resolution}; transitions
+	 * can use the tier to pick cheaper variants.
+	 * 
+	 * @param qualityTier
+	 *            the tier; {@link QualityTier#HIGH} by default
+	 * 
+	 * @see de.eskalon.commons.screen.quality.DeviceCapabilityProbe
+	 */
+	public void setQualityTier(QualityTier qualityTier) {
+		Preconditions.checkNotNull(qualityTier);
+		this.qualityTier = qualityTier;
+
+		updateScaleBias();
+	}
+
+	public QualityTier getQualityTier() {
+		return qualityTier;
+	}
+
+	/**
+	 * Sets the cheap transition which replaces the pushed ones when the
+	 * {@linkplain #setQualityGovernor(TransitionQualityGovernor) quality
+	 * governor} reaches {@link TransitionQualityStep#FALLBACK_TRANSITION}.
+	 * Since the fallback starts from the beginning, it should be short.
+	 * 
+	 * @param fallbackTransition
+	 *            a supplier for the fallback transition; if {@code null}, the
+	 *            transitions are cut short instead and the governor steps up a
+	 *            level whenever a transition is started, so the quality can
+	 *            recover
+	 */
+	public void setFallbackTransition(@Nullable Supplier<T> fallbackTransition) {
+		this.fallbackTransition = fallbackTransition;
+	}
+
+	/**
+	 * Sets the tracker which measures the time it takes from
+	 * {@linkplain #pushScreen(Supplier, Supplier) pushing} a screen until it is
+	 * visible and interactive.
+	 * 
+	 * @param latencyTracker
+	 *            the tracker; {@code null} to not measure the latencies, which
+	 *            is the default
+	 */
+	public void setLatencyTracker(
+			@Nullable ScreenLatencyTracker latencyTracker) {
+		this.latencyTracker = latencyTracker;
+		this.pendingLatencies = null;
+	}
+
+	public @Nullable ScreenLatencyTracker getLatencyTracker() {
+		return latencyTracker;
+	}
+
+	/**
+	 * Sets the watchdog which times the calls to the screens and transitions
+	 * and reports the ones taking too long.
+	 * 
+	 * @param watchdog
+	 *            the watchdog; {@code null} to not time the calls, which is the
+	 *            default
+	 */
+	public void setWatchdog(@Nullable FrameWatchdog watchdog) {
+		this.watchdog = watchdog;
+	}
+
+	public @Nullable FrameWatchdog getWatchdog() {
+		return watchdog;
+	}
+
+	/**
+	 * Sets the recorder which records the frames, the framebuffer passes and
+	 * the calls to screens and transitions, so they can be exported as a
+	 * Chrome trace.
+	 * 
+	 * @param traceRecorder
+	 *            the recorder; {@code null} to not record anything, which is
+	 *            the default
+	 */
+	public void setTraceRecorder(@Nullable TraceRecorder traceRecorder) {
+		this.traceRecorder = traceRecorder;
+	}
+
+	public @Nullable TraceRecorder getTraceRecorder() {
+		return traceRecorder;
+	}
+
+	/**
+	 * Sets the timer which measures the GPU time of the framebuffer passes,
+	 * the transitions and the current screen. The timer isn't disposed by the
+	 * screen manager.
+	 * 
+	 * @param gpuTimer
+	 *            the timer; {@code null} to not issue any timer queries, which
+	 *            is the default
+	 */
+	public void setGpuTimer(@Nullable GpuPassTimer gpuTimer) {
+		this.gpuTimer = gpuTimer;
+	}
+
+	public @Nullable GpuPassTimer getGpuTimer() {
+		return gpuTimer;
+	}
+
+	/**
+	 * Sets the overlay which shows the frame times and other statistics. It is
+	 * drawn at the end of every frame and registered as a
+	 * {@linkplain #addListener(ScreenManagerListener) listener}.
+	 * 
+	 * @param performanceHud
+	 *            the overlay; {@code null} to not draw any, which is the
+	 *            default
+	 */
+	public void setPerformanceHud(@Nullable PerformanceHud performanceHud) {
+		if (this.performanceHud != null)
+			removeListener(this.performanceHud);
+
+		this.performanceHud = performanceHud;
+
+		if (performanceHud != null)
+			addListener(performanceHud);
+	}
+
+	public @Nullable PerformanceHud getPerformanceHud() {
+		return performanceHud;
+	}
+
+	/**
+	 * Adds a listener which is notified about the life-cycle events of this
+	 * screen manager and the time its frames take. As long as no listener is
+	 * registered, the frames aren't timed at all.
+	 * <p>
+	 * Listeners must not be added or removed from within a callback.
+	 * 
+	 * @param listener
+	 *            the listener
+	 */
+	public void addListener(ScreenManagerListener listener) {
+		Preconditions.checkNotNull(listener, "listener cannot be null");
+
+		listeners.add(listener);
+	}
+
+	/**
+	 * @param listener
+	 *            the listener to remove
+	 * @return whether the listener was registered
+	 */
+	public boolean removeListener(ScreenManagerListener listener) {
+		return listeners.removeValue(listener, true);
+	}
+
 	/**
 	 * Pushes a screen to be the active screen. If there is still a transition
 	 * ongoing, the pushed one is queued. If screen and transition should be
@@ -247,6 +611,11 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 
 		transitionQueue.add(new Pair<Supplier<T>, Supplier<S>>(
 				transitionSupplier, screenSupplier));
+		pushTimes.add(TimeUtils.nanoTime());
+
+		for (int i = 0; i < listeners.size; i++) {
+			listeners.get(i).onScreenPushed(transitionQueue.size());
+		}
 	}
 
 	/**
@@ -260,11 +629,46 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 		Preconditions.checkState(initialized,
 				"The screen manager has to be initalized first!");
 
+		if (traceRecorder != null)
+			traceRecorder.beginFrame();
+		if (gpuTimer != null)
+			gpuTimer.beginFrame();
+
+		if (listeners.size == 0) {
+			renderFrame(delta);
+		} else {
+			for (int i = 0; i < listeners.size; i++) {
+				listeners.get(i).onFrameStarted();
+			}
+
+			frameTimings.reset();
+			long startTime = TimeUtils.nanoTime();
+
+			renderFrame(delta);
+
+			frameTimings.frameNanos = TimeUtils.nanoTime() - startTime;
+			for (int i = 0; i < listeners.size; i++) {
+				listeners.get(i).onFrameRendered(frameTimings);
+			}
+
+			if (performanceHud != null)
+				performanceHud.render(this);
+		}
+
+		if (traceRecorder != null)
+			traceRecorder.end();
+	}
+
+	private void renderFrame(float delta) {
 		if (transition == null) {
 			if (!transitionQueue.isEmpty()) {
 				/* Start the next queued transition */
 				Pair<Supplier<T>, Supplier<S>> nextTransition = transitionQueue
 						.poll();
+				long dequeueTime = latencyTracker == null ? 0
+						: TimeUtils.nanoTime();
+				long pushTime = pushTimes.size == 0 ? dequeueTime
+						: pushTimes.removeIndex(0);
 				ManagedScreen tmp = nextTransition.y.get();
 				if (tmp == currScreen) { // one can't push the same screen twice
 											// in a row
@@ -273,7 +677,7 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 								"Screens cannot be pushed twice; the second call to push '%s' was ignored",
 								tmp.getClass().getSimpleName());
 
-					render(delta); // render again so no frame is skipped
+					renderFrame(delta); // render again so no frame is skipped
 					return;
 				}
 
@@ -282,75 +686,360 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 				this.transition = nextTransition.x == null ? null
 						: nextTransition.x.get();
 
-				this.gameInputMultiplexer.removeProcessors(currentProcessors);
+				for (int i = 0; i < listeners.size; i++) {
+					listeners.get(i).onScreenDequeued(this.currScreen,
+							this.transition);
+				}
+				this.usingFallbackTransition = false;
+				if (this.transition != null && qualityGovernor != null
+						&& fallbackTransition == null
+						&& qualityGovernor.isApplied(
+								TransitionQualityStep.FALLBACK_TRANSITION)
+						&& qualityGovernor.stepUp()) {
+					// Cut transitions can't be measured; give this one a chance
+					onQualityLevelChanged();
+				}
+				this.lastScreenRendered = false;
+				this.currScreenRendered = false;
+				this.currScreenSkippedDelta = 0;
+				this.currScreenSkippedFrames = 0;
+
+				this.inputHandedOff = false;
+				if (!routingInputToLastScreen) {
+					if (inputEventBuffer != null)
+						inputEventBuffer.clear();
+					this.gameInputMultiplexer.setGroup(
+							BasicInputMultiplexer.SCREEN_GROUP,
+							inputEventBuffer == null ? null
+									: inputEventBufferProcessors);
+				}
 
 				initializeScreen(this.currScreen);
 
-				if (this.transition != null) {
+				if (this.transition != null)
 					initializeTransition(this.transition);
-				} else { // a screen was pushed without transition
-					finalizeScreen(this.lastScreen);
-					this.lastScreen = null;
 
-					this.currentProcessors = new Array<>(
-							this.currScreen.getInputProcessors());
-					this.gameInputMultiplexer.addProcessors(currentProcessors);
+				if (latencyTracker != null) {
+					this.pendingLatencies = latencyTracker
+							.obtainLatencies(this.currScreen.getClass());
+					this.pendingLatencies.getQueueWait()
+							.record(dequeueTime - pushTime);
+					this.pendingLatencies.getConstruction()
+							.record(TimeUtils.nanoTime() - dequeueTime);
+					this.pendingPushTime = pushTime;
+					this.firstFrameRecorded = false;
+					this.inputActivationRecorded = false;
+				} else {
+					this.pendingLatencies = null;
+				}
+
+				if (this.transition == null) {
+					// a screen was pushed without transition
+					completeScreenChange();
 				}
 
-				render(delta); // render again so no frame is skipped
+				renderFrame(delta); // render again so no frame is skipped
 			} else {
 				/* Render the current screen; no transition is going on */
+				long startTime = listeners.size == 0 ? 0 : TimeUtils.nanoTime();
+
 				if (currScreen.getClearColor() != null)
 					ScreenUtils.clear(currScreen.getClearColor(), true);
+
+				beginRender(currScreen, WatchdogPhase.SCREEN_RENDER,
+						GpuPass.CURRENT_SCREEN);
 				this.currScreen.render(delta);
+				endRender();
+
+				if (pendingLatencies != null && !firstFrameRecorded)
+					recordFirstFrame();
+
+				if (listeners.size > 0)
+					frameTimings.currScreenNanos += TimeUtils.nanoTime()
+							- startTime;
 			}
 		} else {
-			if (!this.transition.isDone()) {
+			if (qualityGovernor != null && !usingFallbackTransition
+					&& qualityGovernor.isApplied(
+							TransitionQualityStep.FALLBACK_TRANSITION)) {
+				/* Replace the transition with the cheap fallback */
+				finalizeTransition(this.transition);
+				this.transition = fallbackTransition == null ? null
+						: fallbackTransition.get();
+				this.usingFallbackTransition = true;
+
+				if (this.transition != null)
+					initializeTransition(this.transition);
+				else
+					completeScreenChange();
+
+				renderFrame(delta); // render again so no frame is skipped
+			} else if (!this.transition.isDone()) {
 				/* Render the current transition */
+				long startTime = qualityGovernor == null && listeners.size == 0
+						? 0
+						: TimeUtils.nanoTime();
+				long screenNanos = frameTimings.lastScreenNanos
+						+ frameTimings.currScreenNanos;
+
 				if (this.transition.getClearColor() != null)
 					ScreenUtils.clear(this.transition.getClearColor(), true);
-				this.transition.render(delta,
-						ScreenFboUtils.screenToTexture(this.lastScreen,
-								this.lastFBO, delta),
-						ScreenFboUtils.screenToTexture(this.currScreen,
-								this.currFBO, delta));
+
+				TextureRegion lastScreenImage = renderLastScreen(delta);
+				TextureRegion currScreenImage = renderCurrScreen(delta);
+
+				beginRender(transition, WatchdogPhase.TRANSITION_RENDER,
+						GpuPass.TRANSITION);
+				this.transition.render(
+						transitionClock == null ? delta
+								: transitionClock.tick(delta),
+						lastScreenImage, currScreenImage);
+				endRender();
+
+				if (pendingLatencies != null && !firstFrameRecorded)
+					recordFirstFrame();
+
+				if (qualityGovernor != null || listeners.size > 0) {
+					long duration = TimeUtils.nanoTime() - startTime;
+
+					// The screen passes are timed separately
+					if (listeners.size > 0)
+						frameTimings.transitionNanos += duration
+								- (frameTimings.lastScreenNanos
+										+ frameTimings.currScreenNanos
+										- screenNanos);
+
+					if (qualityGovernor != null
+							&& qualityGovernor.update(duration))
+						onQualityLevelChanged();
+				}
+
+				if (!inputHandedOff && this.transition.isHandingOffInput())
+					handOffInput();
 			} else {
 				/* The current transition is finished; remove it */
 				finalizeTransition(this.transition);
 				this.transition = null;
 
-				finalizeScreen(this.lastScreen);
-				this.lastScreen = null;
+				completeScreenChange();
 
-				this.currentProcessors = new Array<>(
-						this.currScreen.getInputProcessors());
-				this.gameInputMultiplexer.addProcessors(currentProcessors);
-
-				render(delta); // render again so no frame is skipped
+				renderFrame(delta); // render again so no frame is skipped
 			}
 		}
 	}
 
+	/**
+	 * Hides the last screen and registers the input processors of the current
+	 * one, if that didn't happen already.
+	 */
+	private void completeScreenChange() {
+		finalizeScreen(this.lastScreen);
+		this.lastScreen = null;
+
+		if (!inputHandedOff)
+			handOffInput();
+	}
+
+	/**
+	 * Registers the input processors of the current screen and replays the
+	 * {@linkplain #inputEventBuffer buffered input}.
+	 */
+	private void handOffInput() {
+		this.inputHandedOff = true;
+
+		if (pendingLatencies != null && !inputActivationRecorded) {
+			pendingLatencies.getInputActivation()
+					.record(TimeUtils.nanoTime() - pendingPushTime);
+			inputActivationRecorded = true;
+			if (firstFrameRecorded)
+				pendingLatencies = null;
+		}
+
+		this.currentProcessors.clear();
+		this.currentProcessors.addAll(this.currScreen.getInputProcessors());
+		this.gameInputMultiplexer.setGroup(BasicInputMultiplexer.SCREEN_GROUP,
+				currentProcessors);
+
+		if (inputEventBuffer != null && !routingInputToLastScreen)
+			inputEventBuffer.replay(currentProcessors);
+	}
+
+	private void recordFirstFrame() {
+		pendingLatencies.getFirstFrame()
+				.record(TimeUtils.nanoTime() - pendingPushTime);
+		firstFrameRecorded = true;
+		if (inputActivationRecorded)
+			pendingLatencies = null;
+	}
+
+	private void beginCall(Object culprit, WatchdogPhase phase) {
+		if (watchdog != null)
+			watchdog.begin(culprit, phase);
+		if (traceRecorder != null)
+			traceRecorder.begin(culprit, phase);
+	}
+
+	private void beginPass(ManagedScreen screen, GpuPass pass) {
+		if (watchdog != null)
+			watchdog.begin(screen, WatchdogPhase.SCREEN_RENDER);
+		if (traceRecorder != null)
+			traceRecorder.beginPass(screen);
+		if (gpuTimer != null)
+			gpuTimer.begin(pass);
+	}
+
+	private void beginRender(Object culprit, WatchdogPhase phase,
+			GpuPass pass) {
+		beginCall(culprit, phase);
+		if (gpuTimer != null)
+			gpuTimer.begin(pass);
+	}
+
+	private void endRender() {
+		if (gpuTimer != null)
+			gpuTimer.end();
+		endCall();
+	}
+
+	private void endCall() {
+		if (traceRecorder != null)
+			traceRecorder.end();
+		if (watchdog != null)
+			watchdog.end();
+	}
+
+	private TextureRegion renderLastScreen(float delta) {
+		if (!lastScreenRendered || qualityGovernor == null
+				|| !qualityGovernor.isApplied(
+						TransitionQualityStep.FROZEN_LAST_SCREEN)) {
+			long startTime = listeners.size == 0 ? 0 : TimeUtils.nanoTime();
+
+			beginPass(lastScreen, GpuPass.LAST_SCREEN);
+			ScreenFboUtils.screenToTexture(lastScreen, lastFBO, delta,
+					lastScreenTexture);
+			endRender();
+			lastScreenRendered = true;
+
+			if (listeners.size > 0)
+				frameTimings.lastScreenNanos += TimeUtils.nanoTime()
+						- startTime;
+		}
+		return lastScreenTexture;
+	}
+
+	private TextureRegion renderCurrScreen(float delta) {
+		currScreenSkippedDelta += delta;
+
+		if (!currScreenRendered || qualityGovernor == null
+				|| !qualityGovernor.isApplied(
+						TransitionQualityStep.REDUCED_REFRESH_RATE)
+				|| ++currScreenSkippedFrames >= qualityGovernor
+						.getRefreshInterval()) {
+			long startTime = listeners.size == 0 ? 0 : TimeUtils.nanoTime();
+
+			// The screen gets the time of the skipped frames as well
+			beginPass(currScreen, GpuPass.CURRENT_SCREEN);
+			ScreenFboUtils.screenToTexture(currScreen, currFBO,
+					currScreenSkippedDelta, currScreenTexture);
+			endRender();
+
+			if (listeners.size > 0)
+				frameTimings.currScreenNanos += TimeUtils.nanoTime()
+						- startTime;
+			currScreenRendered = true;
+			currScreenSkippedDelta = 0;
+			currScreenSkippedFrames = 0;
+		}
+		return currScreenTexture;
+	}
+
+	private void updateScaleBias() {
+		fboPool.setScaleBias(qualityTier.renderScale.ordinal()
+				+ (qualityGovernor != null && qualityGovernor
+						.isApplied(TransitionQualityStep.REDUCED_SCALE) ? 1
+								: 0));
+	}
+
+	/**
+	 * Called when the {@linkplain #qualityGovernor quality governor} changed
+	 * its level.
+	 */
+	protected void onQualityLevelChanged() {
+		updateScaleBias();
+
+		if (qualityGovernor != null && LoggerService.isDebugEnabled())
+			LOG.debug("The transition quality level changed to %s (%s)",
+					qualityGovernor.getLevel(),
+					qualityGovernor.getCurrentStep());
+	}
+
 	protected void initializeScreen(ManagedScreen newScreen) {
+		beginCall(newScreen, WatchdogPhase.SCREEN_SHOW);
 		newScreen.show();
+		endCall();
 		newScreen.resize(currentWidth, currentHeight);
+
+		for (int i = 0; i < listeners.size; i++) {
+			listeners.get(i).onScreenShown(newScreen);
+		}
 	}
 
 	protected void initializeTransition(T newTransition) {
+		if (transitionClock != null)
+			transitionClock.reset();
+
+		beginCall(newTransition, WatchdogPhase.TRANSITION_SHOW);
 		newTransition.show();
+		endCall();
 		newTransition.resize(currentWidth, currentHeight);
+
+		for (int i = 0; i < listeners.size; i++) {
+			listeners.get(i).onTransitionStarted(newTransition);
+		}
 	}
 
 	protected void finalizeScreen(ManagedScreen oldScreen) {
+		beginCall(oldScreen, WatchdogPhase.SCREEN_HIDE);
 		oldScreen.hide();
-		if (autoDisposeScreens)
+		endCall();
+
+		if (autoDisposeScreens) {
+			beginCall(oldScreen, WatchdogPhase.SCREEN_DISPOSE);
 			oldScreen.dispose();
+			endCall();
+		}
+
+		if (oldScreen != blankScreen) {
+			for (int i = 0; i < listeners.size; i++) {
+				listeners.get(i).onScreenHidden(oldScreen);
+				if (autoDisposeScreens)
+					listeners.get(i).onScreenDisposed(oldScreen);
+			}
+		}
 	}
 
 	protected void finalizeTransition(T oldTransition) {
+		if (transitionClock != null && LoggerService.isDebugEnabled())
+			LOG.debug(
+					"Transition '%s' was advanced by %ss over %s frames (raw: %ss)",
+					oldTransition.getClass().getSimpleName(),
+					transitionClock.getAnimationTime(),
+					transitionClock.getFrameCount(),
+					transitionClock.getRawTime());
+
+		beginCall(oldTransition, WatchdogPhase.TRANSITION_HIDE);
 		oldTransition.hide();
-		if (autoDisposeTransitions)
+		endCall();
+
+		if (autoDisposeTransitions) {
+			beginCall(oldTransition, WatchdogPhase.TRANSITION_DISPOSE);
 			oldTransition.dispose();
+			endCall();
+		}
+
+		for (int i = 0; i < listeners.size; i++) {
+			listeners.get(i).onTransitionFinished(oldTransition);
+		}
 	}
 
 	/**
@@ -376,6 +1065,8 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 
 			// Recreate buffers
 			initBuffers();
+			lastScreenRendered = false;
+			currScreenRendered = false;
 		}
 	}
 
@@ -417,28 +1108,32 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 	public void dispose() {
 		// Current screens & transitions
 		if (lastScreen != null) {
-			lastScreen.dispose();
+			disposeScreen(lastScreen);
 			lastScreen = null;
 		}
 
 		if (currScreen != null) {
-			currScreen.dispose();
+			disposeScreen(currScreen);
 			currScreen = null;
 		}
 
 		if (transition != null) {
+			beginCall(transition, WatchdogPhase.TRANSITION_DISPOSE);
 			transition.dispose();
+			endCall();
 			transition = null;
 		}
 
 		// Queued screens & transitions
 		for (Pair<Supplier<T>, Supplier<S>> pair : transitionQueue) {
-			pair.y.get().dispose();
+			disposeScreen(pair.y.get());
 
 			if (pair.x != null)
 				pair.x.get().dispose();
 		}
 		transitionQueue.clear();
+		pushTimes.clear();
+		pendingLatencies = null;
 
 		// FBOs
 		if (lastFBO != null) {
@@ -450,6 +1145,20 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 			currFBO.dispose();
 			currFBO = null;
 		}
+
+		fboPool.dispose();
+	}
+
+	private void disposeScreen(ManagedScreen screen) {
+		beginCall(screen, WatchdogPhase.SCREEN_DISPOSE);
+		screen.dispose();
+		endCall();
+
+		if (screen != blankScreen) {
+			for (int i = 0; i < listeners.size; i++) {
+				listeners.get(i).onScreenDisposed(screen);
+			}
+		}
 	}
 
 	/**
@@ -479,6 +1188,35 @@ public class ScreenManager<S extends ManagedScreen, /* @Nullable */ T extends Sc
 		return (S) currScreen;
 	}
 
+	/**
+	 * @return the count of pushed screens which weren't shown yet
+	 */
+	public int getQueuedScreenCount() {
+		return transitionQueue.size();
+	}
+
+	/**
+	 * @return an estimate of the memory used by the color buffers of the
+	 *         internal framebuffers and the
+	 *         {@linkplain #getFrameBufferPool() framebuffer pool}; in bytes
+	 */
+	public long getFrameBufferMemoryUsage() {
+		long memoryUsage = fboPool.getMemoryUsage();
+		if (lastFBO != null)
+			memoryUsage += 4L * lastFBO.getWidth() * lastFBO.getHeight();
+		if (currFBO != null)
+			memoryUsage += 4L * currFBO.getWidth() * currFBO.getHeight();
+		return memoryUsage;
+	}
+
+	/**
+	 * @return the pool of intermediate render targets; it is resized together
+	 *         with the screen manager
+	 */
+	public FrameBufferPool getFrameBufferPool() {
+		return fboPool;
+	}
+
 	/**
 	 * @return {@code true} when a transition is currently rendered
 	 */
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen;
+
+import org.jspecify.annotations.Nullable;
+
+import de.eskalon.commons.screen.transition.ScreenTransition;
+
+/**
+ * Convenience implementation of {@link ScreenManagerListener}. Inherit from
+ * this class and only override the methods that you need.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class ScreenManagerAdapter implements ScreenManagerListener {
+
+	@Override
+	public void onScreenPushed(int queueSize) {
+		// don't do anything by default
+	}
+
+	@Override
+	public void onScreenDequeued(ManagedScreen screen,
+			@Nullable ScreenTransition transition) {
+		// don't do anything by default
+	}
+
+	@Override
+	public void onScreenShown(ManagedScreen screen) {
+		// don't do anything by default
+	}
+
+	@Override
+	public void onScreenHidden(ManagedScreen screen) {
+		// don't do anything by default
+	}
+
+	@Override
+	public void onScreenDisposed(ManagedScreen screen) {
+		// don't do anything by default
+	}
+
+	@Override
+	public void onTransitionStarted(ScreenTransition transition) {
+		// don't do anything by default
+	}
+
+	@Override
+	public void onTransitionFinished(ScreenTransition transition) {
+		// don't do anything by default
+	}
+
+	@Override
+	public void onFramebuffersCreated(int width, int height) {
+		// don't do anything by default
+	}
+
+	@Override
+	public void onFrameStarted() {
+		// don't do anything by default
+	}
+
+	@Override
+	public void onFrameRendered(FrameTimings timings) {
+		// don't do anything by default
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen;
+
+import org.jspecify.annotations.Nullable;
+
+import de.eskalon.commons.screen.transition.ScreenTransition;
+
+/**
+ * Is notified about the life-cycle events of a {@link ScreenManager} and the
+ * time its frames take. All methods are called on the rendering thread.
+ * <p>
+ * The screen manager's internal blank screen, which is shown before the first
+ * screen is pushed, isn't reported.
+ * <p>
+ * If only some of the events are of interest, extend
+ * {@link ScreenManagerAdapter} instead.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenManager#addListener(ScreenManagerListener)
+ */
+public interface ScreenManagerListener {
+
+	/**
+	 * Called when a screen was pushed. The screen is only dequeued when it is
+	 * its turn to be shown.
+	 * 
+	 * @param queueSize
+	 *            the count of queued screens, including the pushed one
+	 */
+	public void onScreenPushed(int queueSize);
+
+	/**
+	 * Called when a pushed screen was taken from the queue, right before it is
+	 * shown. Screens that were ignored because they were pushed twice in a row
+	 * aren't reported.
+	 * 
+	 * @param screen
+	 *            the screen
+	 * @param transition
+	 *            the transition used to show the screen; {@code null} if there
+	 *            is none
+	 */
+	public void onScreenDequeued(ManagedScreen screen,
+			@Nullable ScreenTransition transition);
+
+	/**
+	 * Called after a screen was {@linkplain ManagedScreen#show() shown} and
+	 * resized.
+	 * 
+	 * @param screen
+	 *            the screen
+	 */
+	public void onScreenShown(ManagedScreen screen);
+
+	/**
+	 * Called after a screen was {@linkplain ManagedScreen#hide() hidden}.
+	 * 
+	 * @param screen
+	 *            the screen
+	 */
+	public void onScreenHidden(ManagedScreen screen);
+
+	/**
+	 * Called after a screen was {@linkplain ManagedScreen#dispose() disposed}
+	 * by the screen manager.
+	 * 
+	 * @param screen
+	 *            the screen
+	 */
+	public void onScreenDisposed(ManagedScreen screen);
+
+	/**
+	 * Called after a transition was {@linkplain ScreenTransition#show() shown}
+	 * and resized. Its first frame is rendered right afterwards.
+	 * 
+	 * @param transition
+	 *            the transition
+	 */
+	public void onTransitionStarted(ScreenTransition transition);
+
+	/**
+	 * Called after a transition was {@linkplain ScreenTransition#hide()
+	 * hidden}, i.e. when it is done or was replaced by the fallback
+	 * transition.
+	 * 
+	 * @param transition
+	 *            the transition
+	 */
+	public void onTransitionFinished(ScreenTransition transition);
+
+	/**
+	 * Called after the internal framebuffers were (re)created, e.g. because
+	 * the game was resized.
+	 * 
+	 * @param width
+	 *            the width of the framebuffers in pixels
+	 * @param height
+	 *            the height of the framebuffers in pixels
+	 */
+	public void onFramebuffersCreated(int width, int height);
+
+	/**
+	 * Called at the start of every {@linkplain ScreenManager#render(float)
+	 * frame}, before the next queued screen is dequeued. Together with
+	 * {@link #onFrameRendered(FrameTimings)}, this brackets the frame.
+	 */
+	public void onFrameStarted();
+
+	/**
+	 * Called at the end of every {@linkplain ScreenManager#render(float)
+	 * frame}.
+	 * 
+	 * @param timings
+	 *            the time the phases of the frame took; the instance is reused
+	 *            for every frame, so it must not be kept
+	 */
+	public void onFrameRendered(FrameTimings timings);
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.gpu;
+
+/**
+ * The render passes of the screen manager timed by the {@link GpuPassTimer}.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public enum GpuPass {
+	/**
+	 * Rendering the last screen into its framebuffer.
+	 */
+	LAST_SCREEN,
+	/**
+	 * Rendering the current screen; into its framebuffer while a transition
+	 * is going on, directly to the screen otherwise.
+	 */
+	CURRENT_SCREEN,
+	/**
+	 * Compositing both screens via the transition.
+	 */
+	TRANSITION;
+}
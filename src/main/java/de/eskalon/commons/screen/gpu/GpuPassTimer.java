@@ -0,0 +1,278 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.gpu;
+
+import java.nio.IntBuffer;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+
+import de.eskalon.commons.screen.ScreenManager;
+
+/**
+ * Measures the time the GPU spends on the render passes of the screen manager
+ * via timer queries. Unlike the CPU timings, these include the fill-rate costs
+ * of the framebuffer passes and the shader composites.
+ * <p>
+ * The results are read back {@value #FRAMES_IN_FLIGHT} frames later, so
+ * waiting for the GPU never stalls the pipeline; if a frame's results aren't
+ * available by then, they are dropped. Timing a pass doesn't allocate any
+ * objects.
+ * <p>
+ * Timer queries need OpenGL 3.3 (or {@code GL_ARB_timer_query}) on desktop
+ * and {@code GL_EXT_disjoint_timer_query} on OpenGL ES. If they aren't
+ * available, e.g. on WebGL, the timer does nothing and only the CPU timings
+ * of the {@linkplain de.eskalon.commons.screen.ScreenManagerListener
+ * listeners} are left.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * GpuPassTimer gpuTimer = new GpuPassTimer();
+ * screenManager.setGpuTimer(gpuTimer);
+ * // ...
+ * float transitionMs = gpuTimer.getNanos(GpuPass.TRANSITION) / 1_000_000F;
+ * </pre>
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenManager#setGpuTimer(GpuPassTimer)
+ */
+public class GpuPassTimer implements Disposable {
+
+	/**
+	 * The count of frames after which the results of a frame are read back.
+	 */
+	public static final int FRAMES_IN_FLIGHT = 3;
+
+	/**
+	 * From {@code GL_ARB_timer_query}/{@code GL_EXT_disjoint_timer_query};
+	 * not part of {@link GL30}.
+	 */
+	static final int GL_TIME_ELAPSED = 0x88BF;
+	static final int GL_GPU_DISJOINT = 0x8FBB;
+
+	private static final int PASS_COUNT = GpuPass.values().length;
+
+	private final @Nullable GL30 gl;
+	private final boolean disjointCheck;
+
+	private final int[] queries = new int[FRAMES_IN_FLIGHT * PASS_COUNT];
+	private final boolean[] issued = new boolean[FRAMES_IN_FLIGHT
+			* PASS_COUNT];
+	private final IntBuffer result = BufferUtils.newIntBuffer(16);
+	private boolean initialized = false;
+	private int slot;
+	private int activeQuery = -1;
+
+	private final long[] nanos = new long[PASS_COUNT];
+	private int frameCount, droppedFrameCount;
+
+	/**
+	 * Creates a timer using {@link Gdx#gl30}, if timer queries are
+	 * {@linkplain #isTimerQuerySupported() supported}.
+	 */
+	public GpuPassTimer() {
+		this(isTimerQuerySupported() ? Gdx.gl30 : null,
+				Gdx.app.getType() != ApplicationType.Desktop);
+	}
+
+	/**
+	 * @param gl
+	 *            the GL used to issue the queries; {@code null} if timer
+	 *            queries aren't supported
+	 * @param disjointCheck
+	 *            whether to check for {@code GL_GPU_DISJOINT_EXT} and drop
+	 *            the results measured during a disjoint operation (e.g. a
+	 *            change of the GPU's clock); needed for
+	 *            {@code GL_EXT_disjoint_timer_query}
+	 */
+	public GpuPassTimer(@Nullable GL30 gl, boolean disjointCheck) {
+		this.gl = gl;
+		this.disjointCheck = disjointCheck;
+	}
+
+	/**
+	 * @return whether the current GL context supports timer queries
+	 */
+	public static boolean isTimerQuerySupported() {
+		if (Gdx.gl30 == null)
+			return false;
+
+		if (Gdx.app.getType() == ApplicationType.Desktop)
+			return Gdx.graphics.getGLVersion().isVersionEqualToOrHigher(3, 3)
+					|| Gdx.graphics.supportsExtension("GL_ARB_timer_query");
+
+		return Gdx.app.getType() != ApplicationType.WebGL && Gdx.graphics
+				.supportsExtension("GL_EXT_disjoint_timer_query");
+	}
+
+	/**
+	 * @return whether the passes are timed; if not, only CPU timings are
+	 *         available
+	 */
+	public boolean isSupported() {
+		return gl != null;
+	}
+
+	/**
+	 * Starts a new frame and reads back the results of the frame issued
+	 * {@value #FRAMES_IN_FLIGHT} frames ago. Is called by the screen manager.
+	 */
+	public void beginFrame() {
+		if (gl == null)
+			return;
+
+		if (!initialized) {
+			gl.glGenQueries(queries.length, queries, 0);
+			initialized = true;
+		}
+
+		slot = (slot + 1) % FRAMES_IN_FLIGHT;
+		readResults(slot * PASS_COUNT);
+	}
+
+	private void readResults(int offset) {
+		boolean anyIssued = false, available = true;
+		for (int i = 0; i < PASS_COUNT; i++) {
+			if (issued[offset + i]) {
+				anyIssued = true;
+				gl.glGetQueryObjectuiv(queries[offset + i],
+						GL30.GL_QUERY_RESULT_AVAILABLE, result);
+				if (result.get(0) == 0) {
+					available = false;
+					break;
+				}
+			}
+		}
+
+		if (!anyIssued)
+			return;
+
+		if (available && disjointCheck) {
+			gl.glGetIntegerv(GL_GPU_DISJOINT, result);
+			available = result.get(0) == 0;
+		}
+
+		if (available) {
+			for (int i = 0; i < PASS_COUNT; i++) {
+				if (issued[offset + i]) {
+					gl.glGetQueryObjectuiv(queries[offset + i],
+							GL30.GL_QUERY_RESULT, result);
+					nanos[i] = result.get(0) & 0xFFFFFFFFL; // unsigned
+				} else {
+					nanos[i] = 0;
+				}
+			}
+			frameCount++;
+		} else {
+			droppedFrameCount++;
+		}
+
+		for (int i = 0; i < PASS_COUNT; i++) {
+			issued[offset + i] = false;
+		}
+	}
+
+	/**
+	 * Starts timing a pass. Passes mustn't overlap; a pass is only timed
+	 * once per frame. Is called by the screen manager.
+	 * 
+	 * @param pass
+	 *            the pass
+	 */
+	public void begin(GpuPass pass) {
+		if (!initialized || activeQuery != -1)
+			return;
+
+		int index = slot * PASS_COUNT + pass.ordinal();
+		if (issued[index])
+			return;
+
+		issued[index] = true;
+		activeQuery = index;
+		gl.glBeginQuery(GL_TIME_ELAPSED, queries[index]);
+	}
+
+	/**
+	 * Stops timing the current pass. Is called by the screen manager.
+	 */
+	public void end() {
+		if (activeQuery == -1)
+			return;
+
+		gl.glEndQuery(GL_TIME_ELAPSED);
+		activeQuery = -1;
+	}
+
+	/**
+	 * @param pass
+	 *            the pass
+	 * @return the GPU time of the pass in the latest frame read back; in
+	 *         nanoseconds; {@code 0} if the pass wasn't rendered in that frame
+	 */
+	public long getNanos(GpuPass pass) {
+		return nanos[pass.ordinal()];
+	}
+
+	/**
+	 * @return the GPU time of all passes in the latest frame read back; in
+	 *         nanoseconds
+	 */
+	public long getTotalNanos() {
+		long total = 0;
+		for (int i = 0; i < PASS_COUNT; i++) {
+			total += nanos[i];
+		}
+		return total;
+	}
+
+	/**
+	 * @return the count of frames whose results were read back
+	 */
+	public int getFrameCount() {
+		return frameCount;
+	}
+
+	/**
+	 * @return the count of frames whose results were dropped, because they
+	 *         weren't available in time or were measured during a disjoint
+	 *         operation
+	 */
+	public int getDroppedFrameCount() {
+		return droppedFrameCount;
+	}
+
+	@Override
+	public void dispose() {
+		if (initialized) {
+			end();
+			gl.glDeleteQueries(queries.length, queries, 0);
+			initialized = false;
+
+			for (int i = 0; i < issued.length; i++) {
+				issued[i] = false;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.hud;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+
+/**
+ * A tiny bitmap font with glyphs of 3x5 pixels. Only upper case letters,
+ * digits and a few symbols are supported; lower case letters are drawn in
+ * upper case.
+ * <p>
+ * The glyphs are stored in a single row of the atlas, each in a cell of 4x6
+ * pixels. The last cell is completely filled, so that solid rectangles can be
+ * drawn with the same texture.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+final class HudFont {
+
+	static final int GLYPH_WIDTH = 3, GLYPH_HEIGHT = 5;
+	static final int CELL_WIDTH = 4;
+	static final int ATLAS_WIDTH = 256, ATLAS_HEIGHT = 8;
+
+	private static final String CHARACTERS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ.:/%-()=_";
+	/**
+	 * The glyphs; every glyph is encoded row by row from the top, three bits
+	 * per row.
+	 */
+	private static final int[] GLYPHS = { 0x7B6F, 0x2C97, 0x73E7, 0x73CF,
+			0x5BC9, 0x79CF, 0x79EF, 0x7252, 0x7BEF, 0x7BCF, 0x2BED, 0x6BAE,
+			0x3923, 0x6B6E, 0x79A7, 0x79A4, 0x396B, 0x5BED, 0x7497, 0x126A,
+			0x5BAD, 0x4927, 0x5FED, 0x6B6D, 0x2B6A, 0x6BA4, 0x2B73, 0x6BAD,
+			0x388E, 0x7492, 0x5B6F, 0x5B6A, 0x5BFD, 0x5AAD, 0x5A92, 0x72A7,
+			0x0002, 0x0410, 0x12A4, 0x52A5, 0x01C0, 0x1491, 0x4494, 0x0E38,
+			0x0007, 0x7FFF };
+
+	/**
+	 * The index of the completely filled cell.
+	 */
+	static final int SOLID = GLYPHS.length - 1;
+
+	private HudFont() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @param c
+	 *            a character
+	 * @return the index of the character's cell; {@code -1} if the character
+	 *         isn't supported, e.g. for spaces
+	 */
+	static int getGlyph(char c) {
+		if (c >= 'a' && c <= 'z')
+			c = (char) (c - 'a' + 'A');
+		return CHARACTERS.indexOf(c);
+	}
+
+	/**
+	 * @return a texture containing all glyphs in white
+	 */
+	static Texture createTexture() {
+		Pixmap pixmap = new Pixmap(ATLAS_WIDTH, ATLAS_HEIGHT,
+				Format.RGBA8888);
+		pixmap.setBlending(Pixmap.Blending.None);
+		pixmap.setColor(0, 0, 0, 0);
+		pixmap.fill();
+		pixmap.setColor(1, 1, 1, 1);
+
+		for (int i = 0; i < GLYPHS.length; i++) {
+			for (int y = 0; y < GLYPH_HEIGHT; y++) {
+				for (int x = 0; x < GLYPH_WIDTH; x++) {
+					int bit = (GLYPH_HEIGHT - 1 - y) * GLYPH_WIDTH
+							+ (GLYPH_WIDTH - 1 - x);
+					if ((GLYPHS[i] & (1 << bit)) != 0)
+						pixmap.drawPixel(i * CELL_WIDTH + x, y);
+				}
+			}
+		}
+
+		Texture texture = new Texture(pixmap);
+		texture.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
+		pixmap.dispose();
+		return texture;
+	}
+
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.hud;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.FrameTimings;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.ScreenManagerAdapter;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+
+/**
+ * An overlay showing the frame times, the time taken by the phases of the last
+ * frame, the GL calls, the memory used by the framebuffers, the count of
+ * queued screens and the active transition. Intended for QA builds.
+ * <p>
+ * The overlay is drawn by the screen manager at the end of every frame, after
+ * the screen or transition was rendered; the time it takes isn't part of the
+ * shown frame times. It is drawn via a single mesh, created once, and a tiny
+ * font atlas, so drawing it doesn't allocate any objects and issues only one
+ * draw call.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * PerformanceHud hud = new PerformanceHud();
+ * hud.setGLProfiler(profiler); // optional
+ * screenManager.setPerformanceHud(hud);
+ * </pre>
+ * <p>
+ * Has to be created on the rendering thread and
+ * {@linkplain #dispose() disposed} by the user.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenManager#setPerformanceHud(PerformanceHud)
+ */
+public class PerformanceHud extends ScreenManagerAdapter
+		implements Disposable {
+
+	// @formatter:off
+	private static final String VERT_SHADER =
+			"attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+			"attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+			"attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+			"\n" +
+			"uniform mat4 u_projTrans;\n" +
+			"\n" +
+			"varying vec4 v_color;\n" +
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"void main() {\n" +
+			"	v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+			"	v_texCoord0 = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+			"	gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+			"}";
+	private static final String FRAG_SHADER =
+			"#ifdef GL_ES\n" +
+			"precision mediump float;\n" +
+			"#endif\n" +
+			"\n" +
+			"varying vec4 v_color;\n" +
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"uniform sampler2D u_texture;\n" +
+			"\n" +
+			"void main() {\n" +
+			"	gl_FragColor = v_color * texture2D(u_texture, v_texCoord0);\n" +
+			"}";
+	// @formatter:on
+
+	private static final int MAX_QUADS = 1024;
+	private static final int FLOATS_PER_VERTEX = 5;
+	private static final int FLOATS_PER_QUAD = 4 * FLOATS_PER_VERTEX;
+
+	private static final int GRAPH_FRAMES = 120;
+	private static final int GRAPH_HEIGHT = 20;
+	private static final long GRAPH_RANGE_NANOS = 33_333_333L;
+	private static final long BUDGET_NANOS = 16_666_667L;
+
+	private static final float BACKGROUND_COLOR = Color.toFloatBits(0, 0, 0,
+			160);
+	private static final float TEXT_COLOR = Color.toFloatBits(255, 255, 255,
+			255);
+	private static final float GOOD_COLOR = Color.toFloatBits(64, 200, 64,
+			255);
+	private static final float SLOW_COLOR = Color.toFloatBits(230, 200, 40,
+			255);
+	private static final float BAD_COLOR = Color.toFloatBits(230, 50, 50, 255);
+	private static final float BUDGET_LINE_COLOR = Color.toFloatBits(255, 255,
+			255, 96);
+
+	private final Mesh mesh;
+	private final ShaderProgram shader;
+	private final Texture fontTexture;
+	private final float[] vertices = new float[MAX_QUADS * FLOATS_PER_QUAD];
+	private int quadCount;
+	private final Matrix4 projection = new Matrix4();
+
+	/**
+	 * The text of the line currently written.
+	 */
+	private final char[] line = new char[64];
+	private int lineLength;
+
+	private int scale = 2;
+
+	private final long[] frameTimes = new long[GRAPH_FRAMES];
+	private int frameIndex;
+	private long lastScreenNanos, currScreenNanos, transitionNanos;
+	private @Nullable String transitionName;
+
+	private @Nullable GLProfiler glProfiler;
+	private int glCalls, drawCalls, textureBindings, shaderSwitches;
+
+	public PerformanceHud() {
+		this.fontTexture = HudFont.createTexture();
+
+		this.shader = new ShaderProgram(VERT_SHADER, FRAG_SHADER);
+		Preconditions.checkState(shader.isCompiled(), shader.getLog());
+
+		this.mesh = new Mesh(false, MAX_QUADS * 4, MAX_QUADS * 6,
+				new VertexAttribute(Usage.Position, 2,
+						ShaderProgram.POSITION_ATTRIBUTE),
+				VertexAttribute.ColorPacked(), VertexAttribute.TexCoords(0));
+
+		short[] indices = new short[MAX_QUADS * 6];
+		for (int i = 0, vertex = 0; i < indices.length; i += 6, vertex += 4) {
+			indices[i] = (short) vertex;
+			indices[i + 1] = (short) (vertex + 1);
+			indices[i + 2] = (short) (vertex + 2);
+			indices[i + 3] = (short) (vertex + 2);
+			indices[i + 4] = (short) (vertex + 3);
+			indices[i + 5] = (short) vertex;
+		}
+		this.mesh.setIndices(indices);
+	}
+
+	/**
+	 * @param scale
+	 *            the size of a font pixel in screen pixels; {@code 2} by
+	 *            default
+	 */
+	public void setScale(int scale) {
+		Preconditions.checkArgument(scale > 0, "The scale has to be positive");
+		this.scale = scale;
+	}
+
+	/**
+	 * Sets the profiler whose counts are shown. It has to be
+	 * {@linkplain GLProfiler#enable() enabled} by the user and is
+	 * {@linkplain GLProfiler#reset() reset} by the overlay at the end of every
+	 * frame.
+	 * 
+	 * @param glProfiler
+	 *            the profiler; {@code null} to not show any GL calls, which is
+	 *            the default
+	 */
+	public void setGLProfiler(@Nullable GLProfiler glProfiler) {
+		this.glProfiler = glProfiler;
+	}
+
+	@Override
+	public void onTransitionStarted(ScreenTransition transition) {
+		transitionName = transition.getClass().getSimpleName();
+	}
+
+	@Override
+	public void onTransitionFinished(ScreenTransition transition) {
+		transitionName = null;
+	}
+
+	@Override
+	public void onFrameRendered(FrameTimings timings) {
+		frameIndex = (frameIndex + 1) % GRAPH_FRAMES;
+		frameTimes[frameIndex] = timings.getFrameNanos();
+		lastScreenNanos = timings.getLastScreenNanos();
+		currScreenNanos = timings.getCurrentScreenNanos();
+		transitionNanos = timings.getTransitionNanos();
+
+		if (glProfiler != null) {
+			glCalls = glProfiler.getCalls();
+			drawCalls = glProfiler.getDrawCalls();
+			textureBindings = glProfiler.getTextureBindings();
+			shaderSwitches = glProfiler.getShaderSwitches();
+		}
+	}
+
+	/**
+	 * Draws the overlay into the currently bound framebuffer. Is called by
+	 * the screen manager after each frame.
+	 * 
+	 * @param screenManager
+	 *            the screen manager
+	 */
+	public void render(ScreenManager<?, ?> screenManager) {
+		int width = Gdx.graphics.getWidth();
+		int height = Gdx.graphics.getHeight();
+
+		quadCount = 1; // the first quad is reserved for the background
+		int margin = 2 * scale;
+		int lineHeight = (HudFont.GLYPH_HEIGHT + 2) * scale;
+		int x = margin * 2;
+		int y = height - margin * 2 - HudFont.GLYPH_HEIGHT * scale;
+		int maxX = x + GRAPH_FRAMES * scale;
+
+		// Frame times
+		long sum = 0, max = 0;
+		for (int i = 0; i < GRAPH_FRAMES; i++) {
+			sum += frameTimes[i];
+			max = Math.max(max, frameTimes[i]);
+		}
+		beginLine().append("FRAME ").appendMillis(frameTimes[frameIndex])
+				.append(" AVG ").appendMillis(sum / GRAPH_FRAMES)
+				.append(" MAX ").appendMillis(max);
+		maxX = Math.max(maxX, drawLine(x, y));
+		y -= lineHeight;
+
+		// Phases
+		beginLine().append("LAST ").appendMillis(lastScreenNanos)
+				.append(" CURR ").appendMillis(currScreenNanos)
+				.append(" TRANS ").appendMillis(transitionNanos);
+		maxX = Math.max(maxX, drawLine(x, y));
+		y -= lineHeight;
+
+		// GL calls
+		if (glProfiler != null) {
+			beginLine().append("GL ").append(glCalls).append(" DRAW ")
+					.append(drawCalls).append(" TEX ").append(textureBindings)
+					.append(" SHADER ").append(shaderSwitches);
+			maxX = Math.max(maxX, drawLine(x, y));
+			y -= lineHeight;
+		}
+
+		// Framebuffers & queue
+		beginLine().append("FBO ")
+				.appendMegabytes(screenManager.getFrameBufferMemoryUsage())
+				.append(" QUEUE ").append(screenManager.getQueuedScreenCount());
+		maxX = Math.max(maxX, drawLine(x, y));
+		y -= lineHeight;
+
+		// Transition
+		beginLine().append("TRANSITION ")
+				.append(transitionName == null ? "-" : transitionName);
+		maxX = Math.max(maxX, drawLine(x, y));
+		y -= lineHeight;
+
+		// Frame time graph; the oldest frame is drawn on the left
+		int graphHeight = GRAPH_HEIGHT * scale;
+		y -= graphHeight - lineHeight + margin;
+		for (int i = 1; i <= GRAPH_FRAMES; i++) {
+			long frameTime = frameTimes[(frameIndex + i) % GRAPH_FRAMES];
+			float barHeight = Math.min(1F,
+					frameTime / (float) GRAPH_RANGE_NANOS) * graphHeight;
+			addQuad(x + (i - 1) * scale, y, scale, Math.max(barHeight, 1),
+					HudFont.SOLID,
+					frameTime <= BUDGET_NANOS ? GOOD_COLOR
+							: frameTime <= GRAPH_RANGE_NANOS ? SLOW_COLOR
+									: BAD_COLOR);
+		}
+		addQuad(x, y + graphHeight * (BUDGET_NANOS / (float) GRAPH_RANGE_NANOS),
+				GRAPH_FRAMES * scale, 1, HudFont.SOLID, BUDGET_LINE_COLOR);
+
+		// Background
+		int bottom = y - margin;
+		int quads = quadCount;
+		quadCount = 0;
+		addQuad(margin, bottom, maxX, height - margin - bottom,
+				HudFont.SOLID, BACKGROUND_COLOR);
+		quadCount = quads;
+
+		// Draw everything in one call
+		mesh.setVertices(vertices, 0, quadCount * FLOATS_PER_QUAD);
+		projection.setToOrtho2D(0, 0, width, height);
+
+		HdpiUtils.glViewport(0, 0, width, height);
+		Gdx.gl.glEnable(GL20.GL_BLEND);
+		Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+		fontTexture.bind(0);
+		shader.bind();
+		shader.setUniformMatrix("u_projTrans", projection);
+		shader.setUniformi("u_texture", 0);
+		mesh.render(shader, GL20.GL_TRIANGLES, 0, quadCount * 6);
+
+		Gdx.gl.glDisable(GL20.GL_BLEND);
+
+		if (glProfiler != null)
+			glProfiler.reset();
+	}
+
+	private PerformanceHud beginLine() {
+		lineLength = 0;
+		return this;
+	}
+
+	private PerformanceHud append(char c) {
+		if (lineLength < line.length)
+			line[lineLength++] = c;
+		return this;
+	}
+
+	private PerformanceHud append(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			append(text.charAt(i));
+		}
+		return this;
+	}
+
+	private PerformanceHud append(long value) {
+		if (value < 0) {
+			append('-');
+			value = -value;
+		}
+
+		long divisor = 1;
+		while (value / divisor >= 10) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			append((char) ('0' + (value / divisor) % 10));
+		}
+		return this;
+	}
+
+	/**
+	 * Appends the given duration in milliseconds with two decimals.
+	 */
+	private PerformanceHud appendMillis(long nanos) {
+		long hundredths = nanos / 10_000L;
+		append(hundredths / 100).append('.');
+		append((char) ('0' + (hundredths / 10) % 10));
+		append((char) ('0' + hundredths % 10));
+		return this;
+	}
+
+	/**
+	 * Appends the given size in megabytes with one decimal.
+	 */
+	private PerformanceHud appendMegabytes(long bytes) {
+		long tenths = bytes * 10 / (1024 * 1024);
+		append(tenths / 10).append('.')
+				.append((char) ('0' + tenths % 10)).append("MB");
+		return this;
+	}
+
+	/**
+	 * Adds the quads for the current line.
+	 * 
+	 * @return the right edge of the line
+	 */
+	private int drawLine(int x, int y) {
+		for (int i = 0; i < lineLength; i++) {
+			int glyph = HudFont.getGlyph(line[i]);
+			if (glyph >= 0)
+				addQuad(x, y, HudFont.GLYPH_WIDTH * scale,
+						HudFont.GLYPH_HEIGHT * scale, glyph, TEXT_COLOR);
+			x += HudFont.CELL_WIDTH * scale;
+		}
+		return x;
+	}
+
+	private void addQuad(float x, float y, float width, float height,
+			int glyph, float color) {
+		if (quadCount >= MAX_QUADS)
+			return;
+
+		float u, v, u2, v2;
+		if (glyph == HudFont.SOLID) {
+			// Sample the middle of the filled cell
+			u = u2 = (glyph * HudFont.CELL_WIDTH + 1.5F) / HudFont.ATLAS_WIDTH;
+			v = v2 = 2.5F / HudFont.ATLAS_HEIGHT;
+		} else {
+			u = glyph * HudFont.CELL_WIDTH / (float) HudFont.ATLAS_WIDTH;
+			u2 = u + HudFont.GLYPH_WIDTH / (float) HudFont.ATLAS_WIDTH;
+			v = 0; // the top of the glyph
+			v2 = HudFont.GLYPH_HEIGHT / (float) HudFont.ATLAS_HEIGHT;
+		}
+
+		int i = quadCount * FLOATS_PER_QUAD;
+		float[] vertices = this.vertices;
+		// bottom left
+		vertices[i++] = x;
+		vertices[i++] = y;
+		vertices[i++] = color;
+		vertices[i++] = u;
+		vertices[i++] = v2;
+		// bottom right
+		vertices[i++] = x + width;
+		vertices[i++] = y;
+		vertices[i++] = color;
+		vertices[i++] = u2;
+		vertices[i++] = v2;
+		// top right
+		vertices[i++] = x + width;
+		vertices[i++] = y + height;
+		vertices[i++] = color;
+		vertices[i++] = u2;
+		vertices[i++] = v;
+		// top left
+		vertices[i++] = x;
+		vertices[i++] = y + height;
+		vertices[i++] = color;
+		vertices[i++] = u;
+		vertices[i] = v;
+
+		quadCount++;
+	}
+
+	@Override
+	public void dispose() {
+		mesh.dispose();
+		shader.dispose();
+		fontTexture.dispose();
+	}
+
+}
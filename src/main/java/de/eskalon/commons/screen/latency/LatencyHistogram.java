@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.latency;
+
+import de.damios.guacamole.Preconditions;
+
+/**
+ * A histogram of durations in nanoseconds. The values are sorted into
+ * logarithmic buckets, four per power of two, so the
+ * {@linkplain #getPercentile(double) percentiles} have a relative error of at
+ * most 25%. Recording a value doesn't allocate any objects.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private final int[] buckets = new int[64 * SUB_BUCKETS];
+	private int count;
+	private long total;
+	private long min = Long.MAX_VALUE, max;
+
+	/**
+	 * @param nanos
+	 *            the duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		Preconditions.checkArgument(nanos >= 0,
+				"The duration cannot be negative");
+
+		buckets[getBucket(nanos)]++;
+		count++;
+		total += nanos;
+		if (nanos < min)
+			min = nanos;
+		if (nanos > max)
+			max = nanos;
+	}
+
+	private static int getBucket(long nanos) {
+		if (nanos < SUB_BUCKETS)
+			return (int) nanos;
+
+		int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS))
+				& (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * @return the largest value sorted into the given bucket
+	 */
+	private static long getUpperBound(int bucket) {
+		if (bucket < SUB_BUCKETS)
+			return bucket;
+
+		int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		if (exponent >= 61)
+			return Long.MAX_VALUE;
+		long subBucket = bucket % SUB_BUCKETS;
+		return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS))
+				- 1;
+	}
+
+	/**
+	 * @param percentile
+	 *            the percentile, e.g. {@code 0.95}
+	 * @return an upper bound for the duration the given share of the values
+	 *         doesn't exceed; {@code 0} if nothing was recorded
+	 */
+	public long getPercentile(double percentile) {
+		Preconditions.checkArgument(percentile >= 0 && percentile <= 1,
+				"The percentile has to be between 0 and 1");
+
+		if (count == 0)
+			return 0;
+
+		int rank = Math.max(1, (int) Math.ceil(percentile * count));
+		int seen = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			seen += buckets[i];
+			if (seen >= rank)
+				return Math.min(getUpperBound(i), max);
+		}
+		return max;
+	}
+
+	/**
+	 * @return the count of recorded values
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the smallest recorded value; {@code 0} if nothing was recorded
+	 */
+	public long getMin() {
+		return count == 0 ? 0 : min;
+	}
+
+	/**
+	 * @return the largest recorded value
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * @return the mean of the recorded values; {@code 0} if nothing was
+	 *         recorded
+	 */
+	public long getMean() {
+		return count == 0 ? 0 : total / count;
+	}
+
+	public void reset() {
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = 0;
+		}
+		count = 0;
+		total = 0;
+		min = Long.MAX_VALUE;
+		max = 0;
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram[count=" + count + ", mean=" + getMean()
+				+ "ns, p50=" + getPercentile(0.5) + "ns, p95="
+				+ getPercentile(0.95) + "ns, max=" + max + "ns]";
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.latency;
+
+import de.eskalon.commons.screen.ScreenManager;
+
+/**
+ * The latencies measured for the pushes of a screen class. All durations are
+ * in nanoseconds.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenLatencyTracker
+ */
+public class ScreenLatencies {
+
+	private final LatencyHistogram queueWait = new LatencyHistogram();
+	private final LatencyHistogram construction = new LatencyHistogram();
+	private final LatencyHistogram firstFrame = new LatencyHistogram();
+	private final LatencyHistogram inputActivation = new LatencyHistogram();
+
+	/**
+	 * @return the time from the push until the screen was taken from the
+	 *         queue; the screens are dequeued when the previous transition is
+	 *         finished
+	 */
+	public LatencyHistogram getQueueWait() {
+		return queueWait;
+	}
+
+	/**
+	 * @return the time taken to create the screen and its transition (i.e.
+	 *         the {@linkplain ScreenManager#pushScreen(de.eskalon.commons.utils.Supplier, de.eskalon.commons.utils.Supplier)
+	 *         suppliers}) as well as to show and resize them
+	 */
+	public LatencyHistogram getConstruction() {
+		return construction;
+	}
+
+	/**
+	 * @return the time from the push until the first frame showing the screen
+	 *         was rendered; if a transition is used, this is its first frame
+	 */
+	public LatencyHistogram getFirstFrame() {
+		return firstFrame;
+	}
+
+	/**
+	 * @return the time from the push until the input processors of the screen
+	 *         were registered, i.e. until the screen became interactive
+	 */
+	public LatencyHistogram getInputActivation() {
+		return inputActivation;
+	}
+
+	public void reset() {
+		queueWait.reset();
+		construction.reset();
+		firstFrame.reset();
+		inputActivation.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "ScreenLatencies[queueWait=" + queueWait + ", construction="
+				+ construction + ", firstFrame=" + firstFrame
+				+ ", inputActivation=" + inputActivation + "]";
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.latency;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.utils.ObjectMap;
+
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ScreenManager;
+
+/**
+ * Collects the time it takes from pushing a screen until it is visible and
+ * interactive, grouped by the screen's class.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * ScreenLatencyTracker tracker = new ScreenLatencyTracker();
+ * screenManager.setLatencyTracker(tracker);
+ *
+ * // later on
+ * ScreenLatencies latencies = tracker.getLatencies(MenuScreen.class);
+ * long p95 = latencies.getInputActivation().getPercentile(0.95);
+ * </pre>
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenManager#setLatencyTracker(ScreenLatencyTracker)
+ */
+public class ScreenLatencyTracker {
+
+	private final ObjectMap<Class<?>, ScreenLatencies> latencies = new ObjectMap<>();
+
+	/**
+	 * @param screenClass
+	 *            the class of the pushed screens
+	 * @return the latencies of the screens of the given class; {@code null}
+	 *         if no such screen was shown yet
+	 */
+	public @Nullable ScreenLatencies getLatencies(
+			Class<? extends ManagedScreen> screenClass) {
+		return latencies.get(screenClass);
+	}
+
+	/**
+	 * Returns the latencies of the screens of the given class. Is called by
+	 * the screen manager when a screen is dequeued.
+	 * 
+	 * @param screenClass
+	 *            the class of the pushed screens
+	 * @return the latencies; created if necessary
+	 */
+	public ScreenLatencies obtainLatencies(Class<?> screenClass) {
+		ScreenLatencies screenLatencies = latencies.get(screenClass);
+		if (screenLatencies == null) {
+			screenLatencies = new ScreenLatencies();
+			latencies.put(screenClass, screenLatencies);
+		}
+		return screenLatencies;
+	}
+
+	/**
+	 * @return the latencies of all screen classes shown so far; must not be
+	 *         modified
+	 */
+	public ObjectMap<Class<?>, ScreenLatencies> getAllLatencies() {
+		return latencies;
+	}
+
+	/**
+	 * Removes all measured latencies.
+	 */
+	public void clear() {
+		latencies.clear();
+	}
+
+}
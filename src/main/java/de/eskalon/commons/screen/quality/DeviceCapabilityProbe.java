@@ -0,0 +1,269 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.quality;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.gdx.log.Logger;
+import de.damios.guacamole.gdx.log.LoggerService;
+import de.eskalon.commons.core.ManagedGame;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.transition.MultiPassTransition;
+import de.eskalon.commons.screen.transition.TransitionPass;
+import de.eskalon.commons.screen.transition.TransitionPass.Input;
+import de.eskalon.commons.utils.FrameBufferPool;
+import de.eskalon.commons.utils.RenderScale;
+
+/**
+ * Classifies the device into a {@link QualityTier} by rendering a few frames of
+ * a reference transition offscreen. The result is cached in the
+ * {@linkplain Preferences preferences} and only measured again if the GPU
+ * changes.
+ * <p>
+ * The probe is run by the {@link ManagedGame} on startup, if
+ * {@link ManagedGame#createDeviceCapabilityProbe()} is overridden.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class DeviceCapabilityProbe {
+
+	private static final Logger LOG = LoggerService
+			.getLogger(DeviceCapabilityProbe.class);
+
+	private static final String TIER_KEY = "screenmanager.qualityTier";
+	private static final String RENDERER_KEY = "screenmanager.glRenderer";
+
+	private static final int WARMUP_FRAMES = 2;
+
+	// @formatter:off
+	private static final String BLUR_FRAG_SHADER =
+			"#ifdef GL_ES\n" +
+			"precision mediump float;\n" +
+			"#endif\n" +
+			"\n" +
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"uniform sampler2D u_texture;\n" +
+			"uniform vec2 u_texelSize;\n" +
+			"\n" +
+			"void main() {\n" +
+			"	vec4 sum = vec4(0.0);\n" +
+			"	for (int x = -2; x <= 2; x++) {\n" +
+			"		for (int y = -2; y <= 2; y++) {\n" +
+			"			sum += texture2D(u_texture, v_texCoord0 + vec2(float(x), float(y)) * u_texelSize);\n" +
+			"		}\n" +
+			"	}\n" +
+			"	gl_FragColor = sum / 25.0;\n" +
+			"}";
+	private static final String COMPOSITE_FRAG_SHADER =
+			"#ifdef GL_ES\n" +
+			"precision mediump float;\n" +
+			"#endif\n" +
+			"\n" +
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"uniform sampler2D u_blurred;\n" +
+			"uniform sampler2D currScreen;\n" +
+			"uniform float progress;\n" +
+			"\n" +
+			"void main() {\n" +
+			"	gl_FragColor = mix(texture2D(u_blurred, v_texCoord0), texture2D(currScreen, v_texCoord0), progress);\n" +
+			"}";
+	// @formatter:on
+
+	private final String preferencesName;
+	private int frameCount = 5;
+	private float highThreshold = 3F, mediumThreshold = 8F;
+
+	/**
+	 * @param preferencesName
+	 *            the name of the {@linkplain Preferences preferences} the
+	 *            result is cached in
+	 */
+	public DeviceCapabilityProbe(String preferencesName) {
+		Preconditions.checkNotNull(preferencesName);
+		this.preferencesName = preferencesName;
+	}
+
+	/**
+	 * @param frameCount
+	 *            the count of frames measured; {@code 5} by default
+	 */
+	public void setFrameCount(int frameCount) {
+		Preconditions.checkArgument(frameCount > 0);
+		this.frameCount = frameCount;
+	}
+
+	/**
+	 * @param highThreshold
+	 *            the maximum average duration of a reference frame in
+	 *            milliseconds for the {@link QualityTier#HIGH high} tier;
+	 *            {@code 3} by default
+	 * @param mediumThreshold
+	 *            the maximum average duration of a reference frame in
+	 *            milliseconds for the {@link QualityTier#MEDIUM medium} tier;
+	 *            {@code 8} by default
+	 */
+	public void setThresholds(float highThreshold, float mediumThreshold) {
+		Preconditions.checkArgument(
+				highThreshold > 0 && mediumThreshold >= highThreshold);
+		this.highThreshold = highThreshold;
+		this.mediumThreshold = mediumThreshold;
+	}
+
+	/**
+	 * Returns the cached tier or, if there is none for the current GPU, runs
+	 * the probe and caches its result. Has to be called on the rendering
+	 * thread, after the screen manager was initialized.
+	 *
+	 * @param screenManager
+	 *            the screen manager whose framebuffers are used
+	 * @return the quality tier of this device; {@link QualityTier#MEDIUM} if
+	 *         the probe failed, as the device may not support the shaders or
+	 *         framebuffers of the most demanding tier
+	 */
+	public QualityTier probe(ScreenManager<?, ?> screenManager) {
+		Preferences prefs = Gdx.app.getPreferences(preferencesName);
+		String renderer = Gdx.gl.glGetString(GL20.GL_RENDERER) + " / "
+				+ Gdx.gl.glGetString(GL20.GL_VERSION);
+
+		if (renderer.equals(prefs.getString(RENDERER_KEY, null))) {
+			try {
+				return QualityTier.valueOf(prefs.getString(TIER_KEY));
+			} catch (IllegalArgumentException e) {
+				// the cached value is invalid; probe again
+			}
+		}
+
+		QualityTier tier;
+		try {
+			tier = classify(measure(screenManager));
+		} catch (RuntimeException e) {
+			// e.g. if a shader or framebuffer isn't supported; not cached
+			LOG.error(
+					"The device capability probe failed; using the medium tier",
+					e);
+			return QualityTier.MEDIUM;
+		}
+
+		prefs.putString(RENDERER_KEY, renderer);
+		prefs.putString(TIER_KEY, tier.name());
+		prefs.flush();
+
+		return tier;
+	}
+
+	/**
+	 * Renders the reference transition offscreen. Afterwards, the pooled
+	 * framebuffers are disposed, as the full-resolution ones used by the
+	 * probe are usually not needed anymore once the tier is applied.
+	 *
+	 * @param screenManager
+	 *            the screen manager whose framebuffers are used
+	 * @return the average duration of a frame in milliseconds
+	 */
+	protected float measure(ScreenManager<?, ?> screenManager) {
+		FrameBufferPool pool = screenManager.getFrameBufferPool();
+		int scaleBias = pool.getScaleBias();
+		pool.setScaleBias(0);
+
+		FrameBuffer lastFbo = null, currFbo = null, target = null;
+		MultiPassTransition reference = null;
+		long totalNanos = 0;
+		try {
+			lastFbo = pool.obtain(RenderScale.FULL);
+			currFbo = pool.obtain(RenderScale.FULL);
+			target = pool.obtain(RenderScale.FULL);
+			TextureRegion lastScreen = new TextureRegion(
+					lastFbo.getColorBufferTexture());
+			TextureRegion currScreen = new TextureRegion(
+					currFbo.getColorBufferTexture());
+
+			reference = new MultiPassTransition(pool, 1F);
+			reference.addPass(
+					new TransitionPass(BLUR_FRAG_SHADER, RenderScale.FULL)
+							.addInput("u_texture", Input.LAST_SCREEN));
+			reference.addPass(
+					new TransitionPass(COMPOSITE_FRAG_SHADER, RenderScale.FULL)
+							.addInput("u_blurred", Input.PREVIOUS_PASS)
+							.addInput("currScreen", Input.CURR_SCREEN));
+			reference.show();
+			reference.resize(Gdx.graphics.getWidth(),
+					Gdx.graphics.getHeight());
+
+			for (int i = 0; i < WARMUP_FRAMES + frameCount; i++) {
+				long start = TimeUtils.nanoTime();
+
+				target.begin();
+				reference.render(1 / 60F, lastScreen, currScreen);
+				target.end();
+				Gdx.gl.glFinish(); // wait for the GPU
+
+				if (i >= WARMUP_FRAMES)
+					totalNanos += TimeUtils.nanoTime() - start;
+			}
+		} finally {
+			if (reference != null)
+				reference.dispose();
+			if (lastFbo != null)
+				pool.free(lastFbo);
+			if (currFbo != null)
+				pool.free(currFbo);
+			if (target != null)
+				pool.free(target);
+			pool.setScaleBias(scaleBias);
+			pool.clear();
+		}
+
+		float millis = totalNanos / (frameCount * 1_000_000F);
+
+		if (LoggerService.isDebugEnabled())
+			LOG.debug("A reference transition frame took %sms", millis);
+
+		return millis;
+	}
+
+	/**
+	 * @param frameMillis
+	 *            the average duration of a reference frame in milliseconds
+	 * @return the corresponding tier
+	 */
+	public QualityTier classify(float frameMillis) {
+		if (frameMillis <= highThreshold)
+			return QualityTier.HIGH;
+		if (frameMillis <= mediumThreshold)
+			return QualityTier.MEDIUM;
+		return QualityTier.LOW;
+	}
+
+	/**
+	 * Removes the cached result, so that the probe is run again.
+	 */
+	public void clearCache() {
+		Preferences prefs = Gdx.app.getPreferences(preferencesName);
+		prefs.remove(TIER_KEY);
+		prefs.remove(RENDERER_KEY);
+		prefs.flush();
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.quality;
+
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.utils.RenderScale;
+
+/**
+ * The quality tiers devices are classified into by the
+ * {@link DeviceCapabilityProbe}. Transitions can use the tier to pick cheaper
+ * variants on low-end devices.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenManager#getQualityTier()
+ */
+public enum QualityTier {
+	LOW(RenderScale.HALF, "mediump", 2),
+	MEDIUM(RenderScale.FULL, "mediump", 4),
+	HIGH(RenderScale.FULL, "highp", 8);
+
+	/**
+	 * The highest resolution of the intermediate render targets leased from
+	 * the manager's {@linkplain ScreenManager#getFrameBufferPool() pool}. This
+	 * is applied automatically by the screen manager.
+	 */
+	public final RenderScale renderScale;
+	/**
+	 * The precision used for floats in fragment shaders; only relevant for
+	 * OpenGL ES. If {@code highp} isn't supported by the device's fragment
+	 * shaders, {@code mediump} is used instead.
+	 */
+	public final String floatPrecision;
+	/**
+	 * The maximum count of passes a transition should render.
+	 */
+	public final int maxPassCount;
+
+	private final String precisionHeader;
+
+	QualityTier(RenderScale renderScale, String floatPrecision,
+			int maxPassCount) {
+		this.renderScale = renderScale;
+		this.floatPrecision = floatPrecision;
+		this.maxPassCount = maxPassCount;
+		if ("highp".equals(floatPrecision)) {
+			// highp is optional in fragment shaders on OpenGL ES 2.0
+			// @formatter:off
+			this.precisionHeader =
+					"#ifdef GL_ES\n" +
+					"#ifdef GL_FRAGMENT_PRECISION_HIGH\n" +
+					"precision highp float;\n" +
+					"#else\n" +
+					"precision mediump float;\n" +
+					"#endif\n" +
+					"#endif\n";
+			// @formatter:on
+		} else {
+			this.precisionHeader = "#ifdef GL_ES\nprecision " + floatPrecision
+					+ " float;\n#endif\n";
+		}
+	}
+
+	/**
+	 * @return the precision declaration to prepend to fragment shader code
+	 */
+	public String getPrecisionHeader() {
+		return precisionHeader;
+	}
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.quality;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.ScreenManager;
+
+/**
+ * Adapts the quality of transitions to the measured frame times. If the
+ * transition frames take longer than the budget, the governor steps down a
+ * ladder of {@linkplain TransitionQualityStep steps}; the steps are
+ * cumulative, i.e. on level {@code n}, the first {@code n} steps of the ladder
+ * are applied. If the frames are well within budget again, the governor steps
+ * back up.
+ * <p>
+ * To prevent oscillation, a level change requires a number of consecutive
+ * frames over or under budget (hysteresis). The level is kept across
+ * transitions.
+ * <p>
+ * Transitions that are cut short because of
+ * {@link TransitionQualityStep#FALLBACK_TRANSITION} don't render any frames
+ * that could be measured. In this case, the screen manager
+ * {@linkplain #stepUp() steps up} a level whenever a transition is started.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenManager#setQualityGovernor(TransitionQualityGovernor)
+ */
+public class TransitionQualityGovernor {
+
+	private final TransitionQualityStep[] ladder;
+	private final long budgetNanos;
+
+	private int downgradeFrames = 3;
+	private int upgradeFrames = 60;
+	private float upgradeThreshold = 0.6F;
+	private int refreshInterval = 2;
+
+	private int level;
+	private int overBudgetFrames, underBudgetFrames;
+	private int downgradeCount, upgradeCount;
+
+	/**
+	 * @param budget
+	 *            the budget for a transition frame in seconds, e.g.
+	 *            {@code 1/60F}
+	 * @param ladder
+	 *            the steps in the order they are applied
+	 */
+	public TransitionQualityGovernor(float budget,
+			TransitionQualityStep... ladder) {
+		Preconditions.checkArgument(budget > 0);
+		Preconditions.checkArgument(ladder.length > 0,
+				"The ladder needs at least one step");
+
+		this.budgetNanos = (long) (budget * 1_000_000_000L);
+		this.ladder = ladder.clone();
+	}
+
+	/**
+	 * Creates a governor using all steps in the order declared in
+	 * {@link TransitionQualityStep}.
+	 *
+	 * @param budget
+	 *            the budget for a transition frame in seconds
+	 */
+	public TransitionQualityGovernor(float budget) {
+		this(budget, TransitionQualityStep.values());
+	}
+
+	/**
+	 * @param downgradeFrames
+	 *            the count of consecutive frames over budget after which the
+	 *            quality is lowered; {@code 3} by default
+	 * @param upgradeFrames
+	 *            the count of consecutive frames under the upgrade threshold
+	 *            after which the quality is raised again; {@code 60} by
+	 *            default
+	 * @param upgradeThreshold
+	 *            the fraction of the budget a frame has to stay under to count
+	 *            towards an upgrade; {@code 0.6} by default
+	 */
+	public void setHysteresis(int downgradeFrames, int upgradeFrames,
+			float upgradeThreshold) {
+		Preconditions.checkArgument(downgradeFrames > 0 && upgradeFrames > 0);
+		Preconditions.checkArgument(
+				upgradeThreshold > 0 && upgradeThreshold <= 1);
+
+		this.downgradeFrames = downgradeFrames;
+		this.upgradeFrames = upgradeFrames;
+		this.upgradeThreshold = upgradeThreshold;
+	}
+
+	/**
+	 * @param refreshInterval
+	 *            the current screen is rendered every {@code refreshInterval}
+	 *            frames when the {@link TransitionQualityStep#REDUCED_REFRESH_RATE}
+	 *            step is applied; {@code 2} by default
+	 */
+	public void setRefreshInterval(int refreshInterval) {
+		Preconditions.checkArgument(refreshInterval > 0);
+		this.refreshInterval = refreshInterval;
+	}
+
+	public int getRefreshInterval() {
+		return refreshInterval;
+	}
+
+	/**
+	 * Reports the duration of a transition frame.
+	 *
+	 * @param frameNanos
+	 *            the frame's duration in nanoseconds
+	 * @return whether the level changed
+	 */
+	public boolean update(long frameNanos) {
+		if (frameNanos > budgetNanos) {
+			underBudgetFrames = 0;
+			if (++overBudgetFrames >= downgradeFrames
+					&& level < ladder.length) {
+				level++;
+				downgradeCount++;
+				overBudgetFrames = 0;
+				return true;
+			}
+		} else {
+			overBudgetFrames = 0;
+			if (frameNanos < budgetNanos * upgradeThreshold) {
+				if (++underBudgetFrames >= upgradeFrames && level > 0) {
+					level--;
+					upgradeCount++;
+					underBudgetFrames = 0;
+					return true;
+				}
+			} else {
+				underBudgetFrames = 0;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Raises the quality by one level, regardless of the measured frame
+	 * times. If the frames are still over budget, the quality is lowered
+	 * again after the usual count of frames.
+	 *
+	 * @return whether the level changed
+	 */
+	public boolean stepUp() {
+		if (level == 0)
+			return false;
+
+		level--;
+		upgradeCount++;
+		overBudgetFrames = 0;
+		underBudgetFrames = 0;
+		return true;
+	}
+
+	/**
+	 * @param step
+	 *            a step
+	 * @return whether the step is applied on the current level
+	 */
+	public boolean isApplied(TransitionQualityStep step) {
+		for (int i = 0; i < level; i++) {
+			if (ladder[i] == step)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return the current level; {@code 0} is full quality, every level above
+	 *         applies one more step of the ladder
+	 */
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * @return the highest possible level
+	 */
+	public int getMaxLevel() {
+		return ladder.length;
+	}
+
+	/**
+	 * @return the step applied last; {@code null} on full quality
+	 */
+	public @Nullable TransitionQualityStep getCurrentStep() {
+		return level == 0 ? null : ladder[level - 1];
+	}
+
+	/**
+	 * @return how often the quality was lowered
+	 */
+	public int getDowngradeCount() {
+		return downgradeCount;
+	}
+
+	/**
+	 * @return how often the quality was raised
+	 */
+	public int getUpgradeCount() {
+		return upgradeCount;
+	}
+
+	/**
+	 * Returns to full quality.
+	 */
+	public void reset() {
+		level = 0;
+		overBudgetFrames = 0;
+		underBudgetFrames = 0;
+	}
+
+}
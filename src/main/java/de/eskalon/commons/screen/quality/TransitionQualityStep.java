@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.quality;
+
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.utils.FrameBufferPool;
+
+/**
+ * The measures a {@link TransitionQualityGovernor} can take to lower the cost
+ * of a transition frame.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public enum TransitionQualityStep {
+	/**
+	 * The intermediate render targets leased from the manager's
+	 * {@linkplain ScreenManager#getFrameBufferPool() pool} are rendered at a
+	 * lower resolution.
+	 * 
+	 * @see FrameBufferPool#setScaleBias(int)
+	 */
+	REDUCED_SCALE,
+	/**
+	 * The last screen is no longer rendered every frame; instead, its last
+	 * rendered image is reused.
+	 */
+	FROZEN_LAST_SCREEN,
+	/**
+	 * The current screen is only rendered every
+	 * {@linkplain TransitionQualityGovernor#setRefreshInterval(int) n-th}
+	 * frame.
+	 */
+	REDUCED_REFRESH_RATE,
+	/**
+	 * The transition is replaced by the
+	 * {@linkplain ScreenManager#setFallbackTransition(de.eskalon.commons.utils.Supplier)
+	 * fallback transition}.
+	 */
+	FALLBACK_TRANSITION;
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.trace;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.utils.TimeUtils;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.watchdog.WatchdogPhase;
+
+/**
+ * Records the begin and end of the frames, the
+ * {@linkplain de.eskalon.commons.utils.ScreenFboUtils#screenToTexture(de.eskalon.commons.screen.ManagedScreen, com.badlogic.gdx.graphics.glutils.FrameBuffer, float)
+ * framebuffer passes} and the calls to screens and transitions of a screen
+ * manager. The events are stored in a ring buffer allocated up front, so
+ * recording doesn't allocate any objects; once the buffer is full, the oldest
+ * events are overwritten.
+ * <p>
+ * A {@linkplain #snapshot() snapshot} of the recorded events can be written
+ * in the Chrome Trace Event format, which can be opened in
+ * {@code chrome://tracing} or <a href="https://ui.perfetto.dev">Perfetto</a>.
+ * On desktop, the {@code ChromeTraceExporter} of the {@code trace} artifact
+ * writes the snapshots on a background thread.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenManager#setTraceRecorder(TraceRecorder)
+ */
+public class TraceRecorder {
+
+	/**
+	 * The event types; the first ones are the ordinals of the
+	 * {@link WatchdogPhase}s.
+	 */
+	static final byte FRAME = (byte) WatchdogPhase.values().length,
+			PASS = (byte) (FRAME + 1), END = (byte) (FRAME + 2);
+
+	private final long[] times;
+	private final @Nullable Object[] names;
+	private final byte[] types;
+	private int head, size;
+
+	/**
+	 * @param capacity
+	 *            the count of events kept; every call is recorded as two
+	 *            events
+	 */
+	public TraceRecorder(int capacity) {
+		Preconditions.checkArgument(capacity > 0,
+				"The capacity has to be positive");
+
+		this.times = new long[capacity];
+		this.names = new Object[capacity];
+		this.types = new byte[capacity];
+	}
+
+	/**
+	 * Creates a recorder keeping {@code 65536} events, i.e. a few hundred
+	 * frames of a transition.
+	 */
+	public TraceRecorder() {
+		this(65536);
+	}
+
+	/**
+	 * Records the begin of a frame.
+	 */
+	public void beginFrame() {
+		record(ScreenManager.class, FRAME);
+	}
+
+	/**
+	 * Records the begin of a pass rendering a screen into a framebuffer.
+	 * 
+	 * @param screen
+	 *            the rendered screen
+	 */
+	public void beginPass(Object screen) {
+		record(screen.getClass(), PASS);
+	}
+
+	/**
+	 * Records the begin of a call to a screen or transition.
+	 * 
+	 * @param culprit
+	 *            the called screen or transition
+	 * @param phase
+	 *            the called method
+	 */
+	public void begin(Object culprit, WatchdogPhase phase) {
+		record(culprit.getClass(), (byte) phase.ordinal());
+	}
+
+	/**
+	 * Records the end of the innermost frame, pass or call.
+	 */
+	public void end() {
+		record(null, END);
+	}
+
+	private void record(@Nullable Object name, byte type) {
+		times[head] = TimeUtils.nanoTime();
+		names[head] = name;
+		types[head] = type;
+
+		head = (head + 1) % times.length;
+		if (size < times.length)
+			size++;
+	}
+
+	/**
+	 * @return the count of recorded events
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Removes all recorded events.
+	 */
+	public void clear() {
+		for (int i = 0; i < names.length; i++) {
+			names[i] = null;
+		}
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Copies the recorded events. This allocates the copy, but is fast enough
+	 * to be called on the rendering thread; the events are only formatted
+	 * when the snapshot is {@linkplain TraceSnapshot#writeChromeTrace(Appendable)
+	 * written}.
+	 * 
+	 * @return the events recorded so far, oldest first
+	 */
+	public TraceSnapshot snapshot() {
+		long[] times = new long[size];
+		@Nullable Object[] names = new Object[size];
+		byte[] types = new byte[size];
+
+		int start = (head - size + this.times.length) % this.times.length;
+		for (int i = 0; i < size; i++) {
+			int index = (start + i) % this.times.length;
+			times[i] = this.times[index];
+			names[i] = this.names[index];
+			types[i] = this.types[index];
+		}
+
+		return new TraceSnapshot(times, names, types);
+	}
+
+}
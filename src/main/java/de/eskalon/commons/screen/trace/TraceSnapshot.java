@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.trace;
+
+import java.io.IOException;
+
+import org.jspecify.annotations.Nullable;
+
+import de.eskalon.commons.screen.watchdog.WatchdogPhase;
+
+/**
+ * The events recorded by a {@link TraceRecorder} up to a certain point in
+ * time. Immutable, so it can be written on any thread.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public final class TraceSnapshot {
+
+	private static final WatchdogPhase[] PHASES = WatchdogPhase.values();
+
+	private final long[] times;
+	private final @Nullable Object[] names;
+	private final byte[] types;
+
+	TraceSnapshot(long[] times, @Nullable Object[] names, byte[] types) {
+		this.times = times;
+		this.names = names;
+		this.types = types;
+	}
+
+	/**
+	 * @return the count of events
+	 */
+	public int getSize() {
+		return times.length;
+	}
+
+	/**
+	 * Writes the events in the
+	 * <a href="https://docs.google.com/document/d/1CvAClvFfyA5R-PhYUmn5OOQtYMH4h6I0nSsKchNAySU">Chrome
+	 * Trace Event format</a>. End events whose begin was already overwritten
+	 * in the ring buffer are left out.
+	 * 
+	 * @param out
+	 *            where the JSON is written to
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	public void writeChromeTrace(Appendable out) throws IOException {
+		out.append("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+
+		int depth = 0;
+		boolean first = true;
+		for (int i = 0; i < times.length; i++) {
+			if (types[i] == TraceRecorder.END) {
+				if (depth == 0)
+					continue; // the begin was overwritten
+				depth--;
+			} else {
+				depth++;
+			}
+
+			if (!first)
+				out.append(',');
+			first = false;
+
+			out.append("\n{\"ph\":\"");
+			if (types[i] == TraceRecorder.END) {
+				out.append('E');
+			} else {
+				out.append("B\",\"name\":\"");
+				appendName(out, i);
+				out.append("\",\"cat\":\"");
+				appendCategory(out, types[i]);
+			}
+			out.append("\",\"pid\":1,\"tid\":1,\"ts\":");
+			appendMicros(out, times[i]);
+			out.append('}');
+		}
+
+		out.append("\n]}\n");
+	}
+
+	private void appendName(Appendable out, int index) throws IOException {
+		byte type = types[index];
+		Class<?> name = (Class<?>) names[index];
+		// Anonymous classes don't have a simple name
+		String simpleName = name.getSimpleName();
+		out.append(simpleName.isEmpty() ? name.getName() : simpleName)
+				.append('.');
+
+		if (type == TraceRecorder.FRAME) {
+			out.append("render");
+		} else if (type == TraceRecorder.PASS) {
+			out.append("screenToTexture");
+		} else {
+			switch (PHASES[type]) {
+			case SCREEN_SHOW:
+			case TRANSITION_SHOW:
+				out.append("show");
+				break;
+			case SCREEN_RENDER:
+			case TRANSITION_RENDER:
+				out.append("render");
+				break;
+			case SCREEN_HIDE:
+			case TRANSITION_HIDE:
+				out.append("hide");
+				break;
+			default:
+				out.append("dispose");
+				break;
+			}
+		}
+	}
+
+	private static void appendCategory(Appendable out, byte type)
+			throws IOException {
+		if (type == TraceRecorder.FRAME)
+			out.append("frame");
+		else if (type == TraceRecorder.PASS)
+			out.append("pass");
+		else if (PHASES[type].name().startsWith("SCREEN"))
+			out.append("screen");
+		else
+			out.append("transition");
+	}
+
+	/**
+	 * Appends the given time in microseconds with three decimals.
+	 */
+	private static void appendMicros(Appendable out, long nanos)
+			throws IOException {
+		out.append(Long.toString(nanos / 1000)).append('.');
+		long fraction = nanos % 1000;
+		if (fraction < 100)
+			out.append('0');
+		if (fraction < 10)
+			out.append('0');
+		out.append(Long.toString(fraction));
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.utils.Array;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.utils.FrameBufferPool;
+
+/**
+ * A transition that renders a chain of {@linkplain TransitionPass shader
+ * passes}. Every pass but the last one renders into an intermediate render
+ * target leased from a {@link FrameBufferPool}; the last pass renders to the
+ * screen. As only the output of the previous pass is kept, at most two
+ * intermediate targets are leased at a time (ping-pong). They are returned to
+ * the pool right away and thus reused by subsequent passes and transitions.
+ * Can be reused.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenManager#getFrameBufferPool()
+ */
+public class MultiPassTransition extends TimedTransition {
+
+	protected final FrameBufferPool fboPool;
+	protected final Array<TransitionPass> passes = new Array<>(4);
+	protected int width, height;
+
+	private final RenderContext renderContext;
+	/**
+	 * A screen filling quad in normalized device coordinates.
+	 */
+	private final Mesh screenQuad;
+
+	/**
+	 * Creates a multi-pass transition. Please note that this needs to happen on
+	 * the rendering thread!
+	 *
+	 * @param fboPool
+	 *            the pool the intermediate render targets are leased from;
+	 *            usually the {@linkplain ScreenManager#getFrameBufferPool()
+	 *            screen manager's pool}
+	 * @param duration
+	 *            the transition's duration in seconds
+	 * @param interpolation
+	 *            the interpolation to use
+	 */
+	public MultiPassTransition(FrameBufferPool fboPool, float duration,
+			@Nullable Interpolation interpolation) {
+		super(duration, interpolation);
+		Preconditions.checkNotNull(fboPool);
+
+		this.fboPool = fboPool;
+		this.renderContext = new RenderContext(
+				new DefaultTextureBinder(DefaultTextureBinder.ROUNDROBIN));
+
+		this.screenQuad = new Mesh(true, 4, 0,
+				new VertexAttribute(Usage.Position, 2,
+						ShaderProgram.POSITION_ATTRIBUTE),
+				new VertexAttribute(Usage.TextureCoordinates, 2,
+						ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+		this.screenQuad.setVertices(new float[] { -1, -1, 0, 0, 1, -1, 1, 0,
+				-1, 1, 0, 1, 1, 1, 1, 1 });
+	}
+
+	/**
+	 * @param fboPool
+	 *            the pool the intermediate render targets are leased from
+	 * @param duration
+	 *            the transition's duration in seconds
+	 */
+	public MultiPassTransition(FrameBufferPool fboPool, float duration) {
+		this(fboPool, duration, null);
+	}
+
+	/**
+	 * Appends a pass. The passes are rendered in the order they were added.
+	 *
+	 * @param pass
+	 *            the pass; is disposed together with the transition
+	 * @return this transition for chaining
+	 */
+	public MultiPassTransition addPass(TransitionPass pass) {
+		Preconditions.checkNotNull(pass);
+		Preconditions.checkArgument(
+				passes.size > 0 || !pass.usesPreviousPass(),
+				"The first pass cannot sample a previous pass");
+
+		passes.add(pass);
+		return this;
+	}
+
+	@Override
+	public void render(float delta, TextureRegion lastScreen,
+			TextureRegion currScreen, float progress) {
+		Preconditions.checkState(passes.size > 0,
+				"At least one pass has to be added");
+
+		Texture lastTexture = lastScreen.getTexture();
+		Texture currTexture = currScreen.getTexture();
+
+		renderContext.begin();
+		renderContext.setBlending(false, GL20.GL_SRC_ALPHA,
+				GL20.GL_ONE_MINUS_SRC_ALPHA);
+		renderContext.setDepthTest(0);
+
+		FrameBuffer previousFbo = null;
+		for (int i = 0; i < passes.size; i++) {
+			TransitionPass pass = passes.get(i);
+
+			FrameBuffer target = null;
+			if (i < passes.size - 1) {
+				target = fboPool.obtain(pass.getScale());
+				target.begin();
+			} else {
+				HdpiUtils.glViewport(0, 0, width, height);
+			}
+
+			pass.render(renderContext, screenQuad, lastTexture, currTexture,
+					previousFbo == null ? null
+							: previousFbo.getColorBufferTexture(),
+					progress);
+
+			if (target != null)
+				target.end();
+
+			if (previousFbo != null)
+				fboPool.free(previousFbo);
+			previousFbo = target;
+		}
+
+		renderContext.end();
+	}
+
+	@Override
+	public void resize(int width, int height) {
+		this.width = width;
+		this.height = height;
+	}
+
+	@Override
+	public void dispose() {
+		for (int i = 0; i < passes.size; i++) {
+			passes.get(i).dispose();
+		}
+		passes.clear();
+
+		screenQuad.dispose();
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Interpolation;
+
+/**
+ * The base class for transitions that move, scale and fade the two screens as
+ * a whole. Rendering is done via a {@link QuadTransitionRenderer}, so no
+ * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch SpriteBatch} is needed.
+ * Can be reused.
+ * <p>
+ * The renderer is created lazily when the transition is first rendered, i.e.
+ * on the rendering thread.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public abstract class QuadTransition extends TimedTransition {
+
+	protected @Nullable QuadTransitionRenderer renderer;
+	protected int width, height;
+
+	/**
+	 * @param duration
+	 *            the transition's duration in seconds
+	 * @param interpolation
+	 *            the interpolation to use
+	 */
+	public QuadTransition(float duration,
+			@Nullable Interpolation interpolation) {
+		super(duration, interpolation);
+	}
+
+	@Override
+	public final void render(float delta, TextureRegion lastScreen,
+			TextureRegion currScreen) {
+		if (renderer == null)
+			renderer = new QuadTransitionRenderer();
+
+		renderer.begin(width, height);
+		super.render(delta, lastScreen, currScreen);
+		renderer.end();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The {@linkplain #renderer renderer} was already begun.
+	 *
+	 * @param delta
+	 *            the {@linkplain #interpolation interpolated} time delta in
+	 *            seconds
+	 * @param lastScreen
+	 *            the old screen as a texture region
+	 * @param currScreen
+	 *            the screen the manager is transitioning to as a texture region
+	 * @param progress
+	 *            the progress of the transition; from {@code 0} (excl.) to
+	 *            {@code 1} (incl.)
+	 */
+	@Override
+	public abstract void render(float delta, TextureRegion lastScreen,
+			TextureRegion currScreen, float progress);
+
+	@Override
+	public void resize(int width, int height) {
+		this.width = width;
+		this.height = height;
+	}
+
+	@Override
+	public void dispose() {
+		if (renderer != null) {
+			renderer.dispose();
+			renderer = null;
+		}
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Disposable;
+
+import de.damios.guacamole.gdx.graphics.ShaderProgramFactory;
+
+/**
+ * A lightweight renderer for screen textures. In contrast to a
+ * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch SpriteBatch}, the vertices
+ * of the screen filling quad are uploaded only once; the quad is moved, scaled
+ * and faded via uniforms. Like with a sprite batch, the
+ * {@linkplain TextureRegion#getU() UVs} of the drawn regions are respected, so
+ * flipped regions are drawn flipped.
+ * <p>
+ * Please note that creating the renderer entails a shader being compiled which
+ * needs to happen on the rendering thread!
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see QuadTransition
+ */
+public class QuadTransitionRenderer implements Disposable {
+
+	// @formatter:off
+	private static final String VERT_SHADER =
+			"#ifdef GL_ES\n" +
+			"precision mediump float;\n" +
+			"#endif\n" +
+			"\n" +
+			"attribute vec2 a_position;\n" +
+			"attribute vec2 a_texCoord0;\n" +
+			"\n" +
+			"uniform vec4 u_transform;\n" +
+			"uniform vec4 u_region;\n" +
+			"\n" +
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"void main() {\n" +
+			"	v_texCoord0 = mix(u_region.xy, u_region.zw, a_texCoord0);\n" +
+			"	gl_Position = vec4(a_position * u_transform.zw + u_transform.xy, 0.0, 1.0);\n" +
+			"}";
+	private static final String FRAG_SHADER =
+			"#ifdef GL_ES\n" +
+			"precision mediump float;\n" +
+			"#endif\n" +
+			"\n" +
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"uniform sampler2D u_texture;\n" +
+			"uniform float u_alpha;\n" +
+			"\n" +
+			"void main() {\n" +
+			"	vec4 color = texture2D(u_texture, v_texCoord0);\n" +
+			"	gl_FragColor = vec4(color.rgb, color.a * u_alpha);\n" +
+			"}";
+	// @formatter:on
+
+	private final ShaderProgram program;
+	/**
+	 * A static, screen filling quad in normalized device coordinates.
+	 */
+	private final Mesh quad;
+	private final int transformLoc, regionLoc, alphaLoc, textureLoc;
+
+	public QuadTransitionRenderer() {
+		this.program = ShaderProgramFactory.fromString(VERT_SHADER,
+				FRAG_SHADER, true, true);
+		this.transformLoc = program.fetchUniformLocation("u_transform",
+				false);
+		this.regionLoc = program.fetchUniformLocation("u_region", false);
+		this.alphaLoc = program.fetchUniformLocation("u_alpha", false);
+		this.textureLoc = program.fetchUniformLocation("u_texture", false);
+
+		this.quad = new Mesh(true, 4, 0,
+				new VertexAttribute(Usage.Position, 2,
+						ShaderProgram.POSITION_ATTRIBUTE),
+				new VertexAttribute(Usage.TextureCoordinates, 2,
+						ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+		this.quad.setVertices(new float[] { -1, -1, 0, 0, 1, -1, 1, 0, -1,
+				1, 0, 1, 1, 1, 1, 1 });
+	}
+
+	/**
+	 * Sets up the viewport, the shader and the blending state.
+	 *
+	 * @param width
+	 *            the width of the screen in pixels
+	 * @param height
+	 *            the height of the screen in pixels
+	 */
+	public void begin(int width, int height) {
+		HdpiUtils.glViewport(0, 0, width, height);
+
+		program.bind();
+		program.setUniformi(textureLoc, 0);
+
+		Gdx.gl.glEnable(GL20.GL_BLEND);
+		Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+	}
+
+	/**
+	 * Draws a screen texture. Like
+	 * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch#draw(TextureRegion, float, float, float, float)
+	 * SpriteBatch#draw(...)}, the bottom of the quad is textured with
+	 * {@link TextureRegion#getV2() v2}.
+	 *
+	 * @param region
+	 *            the texture region of the screen
+	 * @param offsetX
+	 *            the horizontal offset as a fraction of the screen width
+	 * @param offsetY
+	 *            the vertical offset as a fraction of the screen height
+	 * @param scale
+	 *            the scale; the quad is scaled around the center of the screen
+	 * @param alpha
+	 *            the opacity
+	 */
+	public void draw(TextureRegion region, float offsetX, float offsetY,
+			float scale, float alpha) {
+		region.getTexture().bind(0);
+		program.setUniformf(transformLoc, offsetX * 2, offsetY * 2, scale,
+				scale);
+		program.setUniformf(regionLoc, region.getU(), region.getV2(),
+				region.getU2(), region.getV());
+		program.setUniformf(alphaLoc, alpha);
+
+		quad.render(program, GL20.GL_TRIANGLE_STRIP);
+	}
+
+	/**
+	 * Resets the blending state.
+	 */
+	public void end() {
+		Gdx.gl.glDisable(GL20.GL_BLEND);
+	}
+
+	@Override
+	public void dispose() {
+		program.dispose();
+		quad.dispose();
+	}
+
+}
@@ -80,6 +80,19 @@ public abstract class ScreenTransition implements Disposable {
 	 */
 	public abstract boolean isDone();
 
+	/**
+	 * Is called by the screen manager after every rendered frame.
+	 * 
+	 * @return whether the input processors of the new screen should be
+	 *         registered before the transition is {@linkplain #isDone() done}.
+	 *         This makes long transitions feel more responsive. {@code false}
+	 *         by default
+	 * @since 0.8.0
+	 */
+	public boolean isHandingOffInput() {
+		return false;
+	}
+
 	/**
 	 * Called when the {@linkplain ApplicationListener#resize(int, int) game is
 	 * resized} while this transition is rendered and the new size is different
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Interpolation;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.transition.impl.SlidingDirection;
+import de.eskalon.commons.screen.transition.impl.SlidingInQuadTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingOutQuadTransition;
+
+/**
+ * The base class for sliding screen transitions that don't need a
+ * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch SpriteBatch}. Looks the
+ * same as a {@link SlidingTransition}. Can be reused.
+ *
+ * @since 0.8.0
+ * @author damios
+ * 
+ * @see SlidingInQuadTransition
+ * @see SlidingOutQuadTransition
+ */
+public class SlidingQuadTransition extends QuadTransition {
+
+	private SlidingDirection dir;
+	/**
+	 * {@code true} if the last screen should slide out; {@code false} if the
+	 * new screen should slide in.
+	 */
+	private boolean slideLastScreen;
+
+	public SlidingQuadTransition(SlidingDirection dir, boolean slideLastScreen,
+			float duration, @Nullable Interpolation interpolation) {
+		super(duration, interpolation);
+		Preconditions.checkNotNull(dir);
+
+		this.dir = dir;
+		this.slideLastScreen = slideLastScreen;
+	}
+
+	@Override
+	public void render(float delta, TextureRegion lastScreen,
+			TextureRegion currScreen, float progress) {
+		if (slideLastScreen) { // slide out
+			renderer.draw(currScreen, 0, 0, 1, 1);
+			renderer.draw(lastScreen, dir.xPosFactor * progress,
+					dir.yPosFactor * progress, 1, 1);
+		} else { // slide in
+			renderer.draw(lastScreen, 0, 0, 1, 1);
+			renderer.draw(currScreen, dir.xPosFactor * (progress - 1),
+					dir.yPosFactor * (progress - 1), 1, 1);
+		}
+	}
+
+}
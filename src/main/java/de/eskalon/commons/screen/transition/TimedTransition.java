@@ -21,6 +21,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Interpolation;
 
 import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.transition.curve.BakedCurve;
 
 /**
  * A screen transition that lasts for a certain duration.
@@ -34,12 +35,15 @@ public abstract class TimedTransition extends ScreenTransition {
 	protected @Nullable Interpolation interpolation;
 	protected float duration;
 	protected float timePassed;
+	private boolean earlyInputHandOff = false;
+	private float inputHandOffProgress, inputHandOffTimeRemaining;
 
 	/**
 	 * @param duration
 	 *            the transition's duration in seconds
 	 * @param interpolation
-	 *            the interpolation to use
+	 *            the interpolation to use; expensive curves can be
+	 *            {@linkplain BakedCurve baked} beforehand
 	 * 
 	 * @see <a href=
 	 *      "https://github.com/libgdx/libgdx/wiki/Interpolation#visual-display-of-interpolations">A
@@ -94,6 +98,36 @@ public abstract class TimedTransition extends ScreenTransition {
 	public abstract void render(float delta, TextureRegion lastScreen,
 			TextureRegion currScreen, float progress);
 
+	/**
+	 * Sets the point in time at which the input is
+	 * {@linkplain #isHandingOffInput() handed off} to the new screen. The
+	 * input is handed off as soon as one of the two thresholds is reached. By
+	 * default, the input is handed off when the transition is done.
+	 * 
+	 * @param progress
+	 *            the (uninterpolated) progress
+	 * @param timeRemaining
+	 *            the time (in seconds) before the end of the transition
+	 * @since 0.8.0
+	 */
+	public void setInputHandOff(float progress, float timeRemaining) {
+		Preconditions.checkArgument(progress >= 0 && progress <= 1,
+				"The progress has to be between 0 and 1");
+		Preconditions.checkArgument(timeRemaining >= 0,
+				"The remaining time cannot be negative");
+
+		this.earlyInputHandOff = true;
+		this.inputHandOffProgress = progress;
+		this.inputHandOffTimeRemaining = timeRemaining;
+	}
+
+	@Override
+	public boolean isHandingOffInput() {
+		return earlyInputHandOff && (timePassed >= duration
+				* inputHandOffProgress
+				|| duration - timePassed <= inputHandOffTimeRemaining);
+	}
+
 	@Override
 	public boolean isDone() {
 		if (this.timePassed >= this.duration) {
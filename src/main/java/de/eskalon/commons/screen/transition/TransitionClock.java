@@ -0,0 +1,232 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.ScreenManager;
+
+/**
+ * Converts the raw time delta of a frame into the time the transition is
+ * advanced by. This allows absorbing hitches, e.g. the one caused by
+ * instantiating and {@linkplain ScreenTransition#show() showing} the screen
+ * and transition, which would otherwise skip a large part of the animation.
+ * <p>
+ * A clock is {@linkplain #reset() reset} whenever a transition is started.
+ * Furthermore, it keeps track of how much animation time was lost compared to
+ * the raw deltas.
+ * <p>
+ * Clocks can be chained via {@link #andThen(TransitionClock)}.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenManager#setTransitionClock(TransitionClock)
+ */
+public abstract class TransitionClock {
+
+	private int frameCount;
+	private float rawTime, animationTime;
+	private float totalLostTime, maxLostTime;
+
+	/**
+	 * @param delta
+	 *            the raw time delta in seconds
+	 * @return the time delta the transition is advanced by
+	 */
+	public final float tick(float delta) {
+		float result = advance(delta);
+
+		frameCount++;
+		rawTime += delta;
+		animationTime += result;
+
+		float lost = delta - result;
+		if (lost > 0) {
+			totalLostTime += lost;
+			if (lost > maxLostTime)
+				maxLostTime = lost;
+		}
+
+		return result;
+	}
+
+	/**
+	 * @param delta
+	 *            the raw time delta in seconds
+	 * @return the time delta the transition is advanced by
+	 */
+	protected abstract float advance(float delta);
+
+	/**
+	 * Called when a new transition is started. Resets the per-transition
+	 * statistics.
+	 */
+	public void reset() {
+		frameCount = 0;
+		rawTime = 0;
+		animationTime = 0;
+	}
+
+	/**
+	 * Returns a clock that first applies this clock's policy and then the one
+	 * of the given clock.
+	 *
+	 * @param next
+	 *            the clock applied second
+	 * @return the chained clock
+	 */
+	public TransitionClock andThen(TransitionClock next) {
+		Preconditions.checkNotNull(next);
+		TransitionClock first = this;
+
+		return new TransitionClock() {
+			@Override
+			protected float advance(float delta) {
+				return next.tick(first.tick(delta));
+			}
+
+			@Override
+			public void reset() {
+				super.reset();
+				first.reset();
+				next.reset();
+			}
+		};
+	}
+
+	/**
+	 * @return the count of frames since the last reset
+	 */
+	public int getFrameCount() {
+		return frameCount;
+	}
+
+	/**
+	 * @return the sum of the raw deltas since the last reset
+	 */
+	public float getRawTime() {
+		return rawTime;
+	}
+
+	/**
+	 * @return the time the transition was advanced by since the last reset
+	 */
+	public float getAnimationTime() {
+		return animationTime;
+	}
+
+	/**
+	 * @return the animation time lost to hitches over all transitions; a
+	 *         frame loses time if the transition is advanced by less than the
+	 *         raw delta
+	 */
+	public float getTotalLostTime() {
+		return totalLostTime;
+	}
+
+	/**
+	 * @return the most animation time lost in a single frame
+	 */
+	public float getMaxLostTime() {
+		return maxLostTime;
+	}
+
+	/**
+	 * @param maxDelta
+	 *            the largest delta a transition is advanced by in a single
+	 *            frame; in seconds
+	 * @return a clock that clamps the delta
+	 */
+	public static TransitionClock clamped(float maxDelta) {
+		Preconditions.checkArgument(maxDelta > 0);
+
+		return new TransitionClock() {
+			@Override
+			protected float advance(float delta) {
+				return delta > maxDelta ? maxDelta : delta;
+			}
+		};
+	}
+
+	/**
+	 * Ignores the frames following the one a transition is started in. The
+	 * first frame of a transition is still advanced by its delta, as that
+	 * delta was measured before the screen and transition were created; the
+	 * hitch caused by {@linkplain ScreenTransition#show() showing} them only
+	 * shows up in the delta of the next frame.
+	 * 
+	 * @param frames
+	 *            the count of frames after the first frame of a transition
+	 *            that do not advance it
+	 * @return a clock that ignores the frames after the start of every
+	 *         transition
+	 */
+	public static TransitionClock skipFirstFrames(int frames) {
+		Preconditions.checkArgument(frames >= 0);
+
+		return new TransitionClock() {
+			@Override
+			protected float advance(float delta) {
+				int frame = getFrameCount();
+				return frame > 0 && frame <= frames ? 0 : delta;
+			}
+		};
+	}
+
+	/**
+	 * @param smoothing
+	 *            the weight of the current delta in the exponential moving
+	 *            average; in {@code (0, 1]}
+	 * @param expectedDelta
+	 *            the delta the average starts with, e.g. {@code 1/60F}
+	 * @return a clock that advances transitions by a smoothed delta; the
+	 *         average is kept across transitions
+	 */
+	public static TransitionClock smoothed(float smoothing,
+			float expectedDelta) {
+		Preconditions.checkArgument(smoothing > 0 && smoothing <= 1);
+		Preconditions.checkArgument(expectedDelta > 0);
+
+		return new TransitionClock() {
+			private float average = expectedDelta;
+
+			@Override
+			protected float advance(float delta) {
+				average += (delta - average) * smoothing;
+				return average;
+			}
+		};
+	}
+
+	/**
+	 * @param step
+	 *            the delta every frame advances the transition by; in
+	 *            seconds
+	 * @return a clock that ignores the raw deltas; useful for deterministic
+	 *         replays
+	 */
+	public static TransitionClock fixedStep(float step) {
+		Preconditions.checkArgument(step > 0);
+
+		return new TransitionClock() {
+			@Override
+			protected float advance(float delta) {
+				return step;
+			}
+		};
+	}
+
+}
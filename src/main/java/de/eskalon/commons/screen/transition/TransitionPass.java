@@ -0,0 +1,230 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.gdx.graphics.ShaderProgramFactory;
+import de.eskalon.commons.utils.RenderScale;
+
+/**
+ * A single pass of a {@link MultiPassTransition}. A pass renders a full screen
+ * quad with its shader into a render target of the given
+ * {@linkplain RenderScale scale}.
+ * <p>
+ * The following uniforms are set before rendering, if they are used in the
+ * shader code:
+ * <ul>
+ * <li>the samplers added via {@link #addInput(String, Input)}</li>
+ * <li>{@code uniform float progress}</li>
+ * <li>{@code uniform vec2 u_texelSize}: the size of a texel of the
+ * {@linkplain Input#PREVIOUS_PASS previous pass'} output or, for the first
+ * pass, of the screen textures</li>
+ * </ul>
+ * The vertices have the attributes {@code a_position} ({@code vec2}, in
+ * normalized device coordinates) and {@code a_texCoord0}.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class TransitionPass implements Disposable {
+
+	// @formatter:off
+	public static final String DEFAULT_VERT_SHADER =
+			"#ifdef GL_ES\n" +
+			"precision mediump float;\n" +
+			"#endif\n" +
+			"\n" +
+			"attribute vec2 a_position;\n" +
+			"attribute vec2 a_texCoord0;\n" +
+			"\n" +
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"void main() {\n" +
+			"	v_texCoord0 = a_texCoord0;\n" +
+			"	gl_Position = vec4(a_position, 0.0, 1.0);\n" +
+			"}";
+	// @formatter:on
+
+	/**
+	 * The textures a pass can sample from.
+	 */
+	public enum Input {
+		LAST_SCREEN, CURR_SCREEN, PREVIOUS_PASS;
+	}
+
+	protected final ShaderProgram program;
+	protected final RenderScale scale;
+
+	private final Array<Input> inputs = new Array<>(false, 2);
+	private int[] inputLocs = new int[0];
+	private int progressLoc, texelSizeLoc;
+
+	/**
+	 * Creates a pass using the {@linkplain #DEFAULT_VERT_SHADER default vertex
+	 * shader}. Please note that this entails the shader being compiled which
+	 * needs to happen on the rendering thread!
+	 *
+	 * @param frag
+	 *            the fragment shader code
+	 * @param scale
+	 *            the resolution of the pass' render target; ignored for the
+	 *            last pass of a transition, which renders to the screen
+	 */
+	public TransitionPass(String frag, RenderScale scale) {
+		this(ShaderProgramFactory.fromString(DEFAULT_VERT_SHADER, frag, true,
+				true), scale);
+	}
+
+	/**
+	 * @param program
+	 *            the shader; is disposed together with the pass
+	 * @param scale
+	 *            the resolution of the pass' render target; ignored for the
+	 *            last pass of a transition, which renders to the screen
+	 */
+	public TransitionPass(ShaderProgram program, RenderScale scale) {
+		Preconditions.checkNotNull(program, "The shader cannot be null.");
+		Preconditions.checkNotNull(scale, "The scale cannot be null.");
+
+		this.program = program;
+		this.scale = scale;
+
+		this.progressLoc = program.fetchUniformLocation("progress", false);
+		this.texelSizeLoc = program.fetchUniformLocation("u_texelSize",
+				false);
+	}
+
+	/**
+	 * Binds a texture to a sampler of this pass' shader.
+	 *
+	 * @param samplerName
+	 *            the name of the sampler uniform
+	 * @param input
+	 *            the texture to bind
+	 * @return this pass for chaining
+	 */
+	public TransitionPass addInput(String samplerName, Input input) {
+		Preconditions.checkNotNull(samplerName);
+		Preconditions.checkNotNull(input);
+
+		int[] tmp = new int[inputLocs.length + 1];
+		System.arraycopy(inputLocs, 0, tmp, 0, inputLocs.length);
+		tmp[inputLocs.length] = program.fetchUniformLocation(samplerName,
+				false);
+
+		this.inputLocs = tmp;
+		this.inputs.add(input);
+
+		return this;
+	}
+
+	/**
+	 * @return whether this pass samples the output of the previous pass
+	 */
+	public boolean usesPreviousPass() {
+		return inputs.contains(Input.PREVIOUS_PASS, true);
+	}
+
+	/**
+	 * Renders this pass into the currently bound framebuffer.
+	 *
+	 * @param context
+	 *            the render context; has to be begun
+	 * @param quad
+	 *            a screen filling quad
+	 * @param lastScreen
+	 *            the old screen
+	 * @param currScreen
+	 *            the screen the manager is transitioning to
+	 * @param previousPass
+	 *            the output of the previous pass; {@code null} for the first
+	 *            pass
+	 * @param progress
+	 *            the progress of the transition
+	 */
+	public void render(RenderContext context, Mesh quad, Texture lastScreen,
+			Texture currScreen, @Nullable Texture previousPass,
+			float progress) {
+		program.bind();
+
+		Texture source = previousPass != null ? previousPass : lastScreen;
+		program.setUniformf(texelSizeLoc, 1F / source.getWidth(),
+				1F / source.getHeight());
+		program.setUniformf(progressLoc, progress);
+
+		for (int i = 0; i < inputs.size; i++) {
+			Texture t;
+			switch (inputs.get(i)) {
+			case LAST_SCREEN:
+				t = lastScreen;
+				break;
+			case CURR_SCREEN:
+				t = currScreen;
+				break;
+			default:
+				t = previousPass;
+			}
+			program.setUniformi(inputLocs[i], context.textureBinder.bind(t));
+		}
+
+		applyUniforms(program, progress);
+
+		quad.render(program, GL20.GL_TRIANGLE_STRIP);
+	}
+
+	/**
+	 * Can be overridden to set additional uniforms. The shader is already
+	 * bound.
+	 *
+	 * @param program
+	 *            the shader of this pass
+	 * @param progress
+	 *            the progress of the transition
+	 */
+	protected void applyUniforms(ShaderProgram program, float progress) {
+		// don't do anything by default
+	}
+
+	/**
+	 * @return the resolution of the pass' render target
+	 */
+	public RenderScale getScale() {
+		return scale;
+	}
+
+	/**
+	 * @return the shader used by this pass
+	 */
+	public ShaderProgram getProgram() {
+		return program;
+	}
+
+	@Override
+	public void dispose() {
+		program.dispose();
+	}
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition.curve;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.Texture.TextureWrap;
+import com.badlogic.gdx.math.Interpolation;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.transition.TimedTransition;
+
+/**
+ * An interpolation that is sampled into a lookup table once, when it is
+ * created. Applying it afterwards only costs a table lookup and a linear
+ * interpolation, regardless of how expensive the original curve is (e.g.
+ * {@link Interpolation#elastic} or {@link Interpolation#bounce}).
+ * <p>
+ * As a baked curve is an {@link Interpolation}, it can be passed to any
+ * {@link TimedTransition}. The curve can also be uploaded as a texture for use
+ * in shaders; see {@link #createTexture()}.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class BakedCurve extends Interpolation {
+
+	public static final int DEFAULT_SAMPLE_COUNT = 256;
+
+	/**
+	 * GLSL code to sample a curve {@linkplain #createTexture() texture}. The
+	 * curve parameters are the {@linkplain #getSampleCount() sample count},
+	 * the {@linkplain #getMin() minimum} and the {@linkplain #getMax()
+	 * maximum}.
+	 */
+	// @formatter:off
+	public static final String GLSL_SAMPLE_FUNCTION =
+			"float sampleCurve(sampler2D curve, vec3 curveParams, float x) {\n" +
+			"	float pos = clamp(x, 0.0, 1.0) * (curveParams.x - 1.0);\n" +
+			"	float i = floor(pos);\n" +
+			"	vec2 a = texture2D(curve, vec2((i + 0.5) / curveParams.x, 0.5)).rg;\n" +
+			"	vec2 b = texture2D(curve, vec2((min(i + 1.0, curveParams.x - 1.0) + 0.5) / curveParams.x, 0.5)).rg;\n" +
+			"	float va = (a.r * 65280.0 + a.g * 255.0) / 65535.0;\n" +
+			"	float vb = (b.r * 65280.0 + b.g * 255.0) / 65535.0;\n" +
+			"	return mix(curveParams.y, curveParams.z, mix(va, vb, pos - i));\n" +
+			"}\n";
+	// @formatter:on
+
+	private final float[] samples;
+	private final float min, max;
+
+	/**
+	 * @param interpolation
+	 *            the curve to bake
+	 */
+	public BakedCurve(Interpolation interpolation) {
+		this(interpolation, DEFAULT_SAMPLE_COUNT);
+	}
+
+	/**
+	 * @param interpolation
+	 *            the curve to bake
+	 * @param sampleCount
+	 *            the size of the lookup table; has to be at least {@code 2}
+	 */
+	public BakedCurve(Interpolation interpolation, int sampleCount) {
+		Preconditions.checkNotNull(interpolation);
+		Preconditions.checkArgument(sampleCount >= 2,
+				"The sample count has to be at least 2");
+
+		this.samples = new float[sampleCount];
+
+		float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+		for (int i = 0; i < sampleCount; i++) {
+			float value = interpolation.apply(i / (float) (sampleCount - 1));
+			samples[i] = value;
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+		this.min = min;
+		this.max = max;
+	}
+
+	/**
+	 * Bakes a cubic bezier curve going from {@code (0, 0)} to {@code (1, 1)},
+	 * as known from CSS' {@code cubic-bezier()}.
+	 *
+	 * @param x1
+	 *            the x coordinate of the first control point; in
+	 *            {@code [0, 1]}
+	 * @param y1
+	 *            the y coordinate of the first control point
+	 * @param x2
+	 *            the x coordinate of the second control point; in
+	 *            {@code [0, 1]}
+	 * @param y2
+	 *            the y coordinate of the second control point
+	 * @return the baked curve
+	 */
+	public static BakedCurve cubicBezier(float x1, float y1, float x2,
+			float y2) {
+		Preconditions.checkArgument(x1 >= 0 && x1 <= 1 && x2 >= 0 && x2 <= 1,
+				"The x coordinates have to be in [0, 1]");
+
+		return new BakedCurve(new Interpolation() {
+			@Override
+			public float apply(float x) {
+				// Find t for x via bisection; the x coordinate is monotonic
+				float lower = 0, upper = 1, t = x;
+				for (int i = 0; i < 32; i++) {
+					float cx = bezier(t, x1, x2);
+					if (Math.abs(cx - x) < 1e-6F)
+						break;
+					if (cx < x)
+						lower = t;
+					else
+						upper = t;
+					t = (lower + upper) / 2;
+				}
+				return bezier(t, y1, y2);
+			}
+		});
+	}
+
+	private static float bezier(float t, float p1, float p2) {
+		float u = 1 - t;
+		return 3 * u * u * t * p1 + 3 * u * t * t * p2 + t * t * t;
+	}
+
+	@Override
+	public float apply(float a) {
+		if (a <= 0)
+			return samples[0];
+
+		float pos = a * (samples.length - 1);
+		int i = (int) pos;
+		if (i >= samples.length - 1)
+			return samples[samples.length - 1];
+
+		return samples[i] + (samples[i + 1] - samples[i]) * (pos - i);
+	}
+
+	/**
+	 * Creates a {@code sampleCount x 1} texture containing this curve. The
+	 * values are normalized to {@code [min, max]} and stored with 16 bit
+	 * precision in the red and green channel. Use
+	 * {@link #GLSL_SAMPLE_FUNCTION} to sample it.
+	 * <p>
+	 * This needs to happen on the rendering thread. The texture has to be
+	 * disposed by the caller.
+	 *
+	 * @return the texture
+	 */
+	public Texture createTexture() {
+		Pixmap pixmap = new Pixmap(samples.length, 1, Format.RGBA8888);
+		float range = max - min;
+		for (int i = 0; i < samples.length; i++) {
+			int value = range == 0 ? 0
+					: Math.round((samples[i] - min) / range * 65535);
+			pixmap.drawPixel(i, 0,
+					((value >> 8) << 24) | ((value & 0xFF) << 16) | 0xFF);
+		}
+
+		Texture texture = new Texture(pixmap);
+		texture.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
+		texture.setWrap(TextureWrap.ClampToEdge, TextureWrap.ClampToEdge);
+		pixmap.dispose();
+
+		return texture;
+	}
+
+	public int getSampleCount() {
+		return samples.length;
+	}
+
+	/**
+	 * @return the smallest value of the curve; may be less than {@code 0} for
+	 *         overshooting curves
+	 */
+	public float getMin() {
+		return min;
+	}
+
+	/**
+	 * @return the largest value of the curve; may be greater than {@code 1}
+	 *         for overshooting curves
+	 */
+	public float getMax() {
+		return max;
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition.curve;
+
+import com.badlogic.gdx.utils.Array;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.transition.TimedTransition;
+
+/**
+ * A set of {@linkplain CurveTrack tracks} that are animated over the same
+ * time, e.g. the alpha and the offset of a screen, each on its own curve.
+ * <p>
+ * In a {@link TimedTransition}, the timeline is usually evaluated with the
+ * linear progress of the transition:
+ *
+ * <pre>
+ * {@code
+ * // in the constructor:
+ * timeline = new CurveTimeline();
+ * alpha = timeline.addTrack().key(0, 0).key(0.5F, 1, Interpolation.pow2Out);
+ * offset = timeline.addTrack().key(0, 1).key(1, 0, Interpolation.elastic);
+ * values = new float[timeline.getTrackCount()];
+ * 
+ * // in render(...):
+ * timeline.evaluate(timePassed / duration, values);
+ * }
+ * </pre>
+ *
+ * Evaluating a timeline does not allocate.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class CurveTimeline {
+
+	private final Array<CurveTrack> tracks = new Array<>(4);
+
+	/**
+	 * Adds a new, empty track.
+	 *
+	 * @return the track; its index is the count of tracks added before
+	 */
+	public CurveTrack addTrack() {
+		CurveTrack track = new CurveTrack();
+		tracks.add(track);
+		return track;
+	}
+
+	public CurveTrack getTrack(int index) {
+		return tracks.get(index);
+	}
+
+	public int getTrackCount() {
+		return tracks.size;
+	}
+
+	/**
+	 * Evaluates all tracks.
+	 *
+	 * @param time
+	 *            the time
+	 * @param out
+	 *            the array the values are written to, in the order the tracks
+	 *            were added; has to be at least as big as the
+	 *            {@linkplain #getTrackCount() track count}
+	 * @return the given array
+	 */
+	public float[] evaluate(float time, float[] out) {
+		Preconditions.checkArgument(out.length >= tracks.size,
+				"The array is too small");
+
+		for (int i = 0; i < tracks.size; i++) {
+			out[i] = tracks.get(i).evaluate(time);
+		}
+		return out;
+	}
+
+}
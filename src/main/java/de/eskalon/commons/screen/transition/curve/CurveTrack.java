@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition.curve;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.math.Interpolation;
+
+import de.damios.guacamole.Preconditions;
+
+/**
+ * A single animated value of a {@link CurveTimeline}. The value is defined by
+ * keyframes; between two keyframes, it is eased using the curve of the latter
+ * one. Before the first and after the last keyframe, the value is constant.
+ * <p>
+ * Evaluating a track does not allocate.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class CurveTrack {
+
+	private float[] times = new float[4];
+	private float[] values = new float[4];
+	private @Nullable Interpolation[] curves = new Interpolation[4];
+	private int size;
+
+	/**
+	 * Adds a keyframe. Keyframes have to be added in chronological order.
+	 *
+	 * @param time
+	 *            the time of the keyframe; usually the linear progress of the
+	 *            transition in {@code [0, 1]}
+	 * @param value
+	 *            the value at this time
+	 * @param curve
+	 *            the curve used to ease from the previous keyframe to this one;
+	 *            {@code null} for a linear transition. Curves that are not
+	 *            {@linkplain BakedCurve baked} yet are baked automatically
+	 * @return this track for chaining
+	 */
+	public CurveTrack key(float time, float value,
+			@Nullable Interpolation curve) {
+		Preconditions.checkArgument(size == 0 || time > times[size - 1],
+				"Keyframes have to be added in chronological order");
+
+		if (size == times.length) {
+			times = resize(times, size * 2);
+			values = resize(values, size * 2);
+			Interpolation[] tmp = new Interpolation[size * 2];
+			System.arraycopy(curves, 0, tmp, 0, size);
+			curves = tmp;
+		}
+
+		times[size] = time;
+		values[size] = value;
+		curves[size] = curve == null || curve instanceof BakedCurve ? curve
+				: new BakedCurve(curve);
+		size++;
+
+		return this;
+	}
+
+	/**
+	 * Adds a keyframe that is reached linearly.
+	 *
+	 * @see #key(float, float, Interpolation)
+	 */
+	public CurveTrack key(float time, float value) {
+		return key(time, value, null);
+	}
+
+	private static float[] resize(float[] array, int newSize) {
+		float[] tmp = new float[newSize];
+		System.arraycopy(array, 0, tmp, 0, array.length);
+		return tmp;
+	}
+
+	/**
+	 * @param time
+	 *            the time
+	 * @return the value of this track at the given time
+	 */
+	public float evaluate(float time) {
+		Preconditions.checkState(size > 0, "The track has no keyframes");
+
+		if (time <= times[0])
+			return values[0];
+		if (time >= times[size - 1])
+			return values[size - 1];
+
+		// Binary search for the first keyframe after the given time
+		int low = 1, high = size - 1;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (times[mid] <= time)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+
+		float alpha = (time - times[low - 1]) / (times[low] - times[low - 1]);
+		Interpolation curve = curves[low];
+		if (curve != null)
+			alpha = curve.apply(alpha);
+
+		return values[low - 1] + (values[low] - values[low - 1]) * alpha;
+	}
+
+	/**
+	 * @return the count of keyframes
+	 */
+	public int getKeyCount() {
+		return size;
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition.impl;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Interpolation;
+
+import de.eskalon.commons.screen.transition.QuadTransition;
+
+/**
+ * A transition that blends two screens together over a certain time interval.
+ * Looks the same as a {@link BlendingTransition}, but no
+ * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch SpriteBatch} is needed. Can
+ * be reused.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class BlendingQuadTransition extends QuadTransition {
+
+	/**
+	 * @param duration
+	 *            the transition's duration in seconds
+	 * @param interpolation
+	 *            the interpolation to use
+	 */
+	public BlendingQuadTransition(float duration,
+			@Nullable Interpolation interpolation) {
+		super(duration, interpolation);
+	}
+
+	/**
+	 * @param duration
+	 *            the transition's duration in seconds
+	 */
+	public BlendingQuadTransition(float duration) {
+		this(duration, null);
+	}
+
+	@Override
+	public void render(float delta, TextureRegion lastScreen,
+			TextureRegion currScreen, float progress) {
+		// Blends the two screens
+		renderer.draw(lastScreen, 0, 0, 1, 1);
+		renderer.draw(currScreen, 0, 0, 1, progress);
+	}
+
+}
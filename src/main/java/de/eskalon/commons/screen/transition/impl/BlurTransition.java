@@ -0,0 +1,214 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition.impl;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.math.Interpolation;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.quality.QualityTier;
+import de.eskalon.commons.screen.transition.MultiPassTransition;
+import de.eskalon.commons.screen.transition.TransitionPass;
+import de.eskalon.commons.screen.transition.TransitionPass.Input;
+import de.eskalon.commons.utils.FrameBufferPool;
+import de.eskalon.commons.utils.RenderScale;
+
+/**
+ * A transition that blends two screens together while blurring them; the blur
+ * is strongest halfway through the transition. Can be reused.
+ * <p>
+ * The blur uses the dual Kawase technique: the blended screens are
+ * progressively downsampled to lower resolutions and then upsampled again.
+ * Every level halves the resolution, so the blur radius grows exponentially
+ * with the count of levels, while the cost is dominated by the first,
+ * half-resolution pass. The intermediate render targets are leased from the
+ * screen manager's {@linkplain ScreenManager#getFrameBufferPool() pool}.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see <a href=
+ *      "https://community.arm.com/cfs-file/__key/communityserver-blogs-components-weblogfiles/00-00-00-20-66/siggraph2015_2D00_mmg_2D00_marius_2D00_notes.pdf">The
+ *      dual Kawase blur technique</a>
+ */
+public class BlurTransition extends MultiPassTransition {
+
+	/**
+	 * The maximum count of downsampling steps.
+	 */
+	public static final int MAX_LEVELS = RenderScale.values().length - 1;
+
+	// @formatter:off
+	private static final String DOWNSAMPLE_KERNEL =
+			"vec4 downsample(sampler2D tex, vec2 uv, vec2 hp) {\n" +
+			"	vec4 sum = texture2D(tex, uv) * 4.0;\n" +
+			"	sum += texture2D(tex, uv - hp);\n" +
+			"	sum += texture2D(tex, uv + hp);\n" +
+			"	sum += texture2D(tex, uv + vec2(hp.x, -hp.y));\n" +
+			"	sum += texture2D(tex, uv - vec2(hp.x, -hp.y));\n" +
+			"	return sum / 8.0;\n" +
+			"}\n";
+	private static final String BLEND_DOWNSAMPLE_FRAG_SHADER =
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"uniform sampler2D lastScreen;\n" +
+			"uniform sampler2D currScreen;\n" +
+			"uniform vec2 u_texelSize;\n" +
+			"uniform float progress;\n" +
+			"\n" +
+			DOWNSAMPLE_KERNEL +
+			"\n" +
+			"void main() {\n" +
+			"	gl_FragColor = mix(downsample(lastScreen, v_texCoord0, u_texelSize),\n" +
+			"			downsample(currScreen, v_texCoord0, u_texelSize), progress);\n" +
+			"}";
+	private static final String DOWNSAMPLE_FRAG_SHADER =
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"uniform sampler2D u_texture;\n" +
+			"uniform vec2 u_texelSize;\n" +
+			"\n" +
+			DOWNSAMPLE_KERNEL +
+			"\n" +
+			"void main() {\n" +
+			"	gl_FragColor = downsample(u_texture, v_texCoord0, u_texelSize);\n" +
+			"}";
+	private static final String UPSAMPLE_FRAG_SHADER =
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"uniform sampler2D u_texture;\n" +
+			"uniform vec2 u_texelSize;\n" +
+			"\n" +
+			"void main() {\n" +
+			"	vec2 uv = v_texCoord0;\n" +
+			"	vec2 hp = u_texelSize * 0.5;\n" +
+			"	vec4 sum = texture2D(u_texture, uv + vec2(-hp.x * 2.0, 0.0));\n" +
+			"	sum += texture2D(u_texture, uv + vec2(-hp.x, hp.y)) * 2.0;\n" +
+			"	sum += texture2D(u_texture, uv + vec2(0.0, hp.y * 2.0));\n" +
+			"	sum += texture2D(u_texture, uv + vec2(hp.x, hp.y)) * 2.0;\n" +
+			"	sum += texture2D(u_texture, uv + vec2(hp.x * 2.0, 0.0));\n" +
+			"	sum += texture2D(u_texture, uv + vec2(hp.x, -hp.y)) * 2.0;\n" +
+			"	sum += texture2D(u_texture, uv + vec2(0.0, -hp.y * 2.0));\n" +
+			"	sum += texture2D(u_texture, uv + vec2(-hp.x, -hp.y)) * 2.0;\n" +
+			"	gl_FragColor = sum / 12.0;\n" +
+			"}";
+	private static final String COMPOSITE_FRAG_SHADER =
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"uniform sampler2D lastScreen;\n" +
+			"uniform sampler2D currScreen;\n" +
+			"uniform sampler2D u_blurred;\n" +
+			"uniform float progress;\n" +
+			"\n" +
+			"void main() {\n" +
+			"	vec4 sharp = mix(texture2D(lastScreen, v_texCoord0),\n" +
+			"			texture2D(currScreen, v_texCoord0), progress);\n" +
+			"	float blur = sin(clamp(progress, 0.0, 1.0) * 3.14159265);\n" +
+			"	gl_FragColor = mix(sharp, texture2D(u_blurred, v_texCoord0), blur);\n" +
+			"}";
+	// @formatter:on
+
+	/**
+	 * Creates a blur transition. Please note that this entails the shaders
+	 * being compiled which needs to happen on the rendering thread!
+	 *
+	 * @param fboPool
+	 *            the pool the intermediate render targets are leased from;
+	 *            usually the {@linkplain ScreenManager#getFrameBufferPool()
+	 *            screen manager's pool}
+	 * @param levels
+	 *            the count of downsampling steps; from {@code 1} to
+	 *            {@link #MAX_LEVELS}. Every level doubles the blur radius
+	 * @param precisionHeader
+	 *            the precision declaration prepended to the shaders
+	 * @param duration
+	 *            the transition's duration in seconds
+	 * @param interpolation
+	 *            the interpolation to use
+	 */
+	public BlurTransition(FrameBufferPool fboPool, int levels,
+			String precisionHeader, float duration,
+			@Nullable Interpolation interpolation) {
+		super(fboPool, duration, interpolation);
+		Preconditions.checkArgument(levels >= 1 && levels <= MAX_LEVELS,
+				"The level count has to be between 1 and " + MAX_LEVELS);
+
+		RenderScale[] scales = RenderScale.values();
+
+		// Blend & downsample to half the resolution
+		addPass(new TransitionPass(
+				precisionHeader + BLEND_DOWNSAMPLE_FRAG_SHADER, scales[1])
+						.addInput("lastScreen", Input.LAST_SCREEN)
+						.addInput("currScreen", Input.CURR_SCREEN));
+
+		// Downsample further
+		for (int i = 2; i <= levels; i++) {
+			addPass(new TransitionPass(
+					precisionHeader + DOWNSAMPLE_FRAG_SHADER, scales[i])
+							.addInput("u_texture", Input.PREVIOUS_PASS));
+		}
+
+		// Upsample again
+		for (int i = levels - 1; i >= 1; i--) {
+			addPass(new TransitionPass(precisionHeader + UPSAMPLE_FRAG_SHADER,
+					scales[i]).addInput("u_texture", Input.PREVIOUS_PASS));
+		}
+
+		// Upsample to the screen and mix with the sharp screens
+		addPass(new TransitionPass(precisionHeader + COMPOSITE_FRAG_SHADER,
+				RenderScale.FULL).addInput("lastScreen", Input.LAST_SCREEN)
+						.addInput("currScreen", Input.CURR_SCREEN)
+						.addInput("u_blurred", Input.PREVIOUS_PASS));
+	}
+
+	/**
+	 * Creates a blur transition whose level count and shader precision are
+	 * picked from the given quality tier. Please note that this entails the
+	 * shaders being compiled which needs to happen on the rendering thread!
+	 *
+	 * @param fboPool
+	 *            the pool the intermediate render targets are leased from
+	 * @param tier
+	 *            the quality tier; usually the
+	 *            {@linkplain ScreenManager#getQualityTier() screen manager's
+	 *            tier}
+	 * @param duration
+	 *            the transition's duration in seconds
+	 * @param interpolation
+	 *            the interpolation to use
+	 */
+	public BlurTransition(FrameBufferPool fboPool, QualityTier tier,
+			float duration, @Nullable Interpolation interpolation) {
+		this(fboPool, Math.min(tier.maxPassCount / 2, MAX_LEVELS),
+				tier.getPrecisionHeader(), duration, interpolation);
+	}
+
+	/**
+	 * @param fboPool
+	 *            the pool the intermediate render targets are leased from
+	 * @param tier
+	 *            the quality tier
+	 * @param duration
+	 *            the transition's duration in seconds
+	 */
+	public BlurTransition(FrameBufferPool fboPool, QualityTier tier,
+			float duration) {
+		this(fboPool, tier, duration, null);
+	}
+
+}
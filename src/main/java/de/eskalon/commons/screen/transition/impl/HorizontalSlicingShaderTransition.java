@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition.impl;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.math.Interpolation;
+
+/**
+ * A transition where the new screen is sliding in in horizontal slices. Looks the
+ * same as the {@link HorizontalSlicingTransition}, but the slices are computed in
+ * a shader, so that the rendering cost does not depend on the slice count.
+ * Can be reused.
+ * <p>
+ * Please note that creating this transition entails a shader being compiled
+ * which needs to happen on the rendering thread!
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class HorizontalSlicingShaderTransition extends SlicingShaderTransition {
+
+	/**
+	 * @param sliceCount
+	 *            the count of slices used; has to be at least {@code 2}
+	 * @param duration
+	 *            the duration (in seconds) over which the transition should
+	 *            happen
+	 * @param interpolation
+	 *            the interpolation used
+	 */
+	public HorizontalSlicingShaderTransition(int sliceCount, float duration,
+			@Nullable Interpolation interpolation) {
+		super(true, sliceCount, duration, interpolation);
+	}
+
+	/**
+	 * @param sliceCount
+	 *            the count of slices used; has to be at least {@code 2}
+	 * @param duration
+	 *            the duration (in seconds) over which the transition should
+	 *            happen
+	 */
+	public HorizontalSlicingShaderTransition(int sliceCount, float duration) {
+		this(sliceCount, duration, null);
+	}
+
+}
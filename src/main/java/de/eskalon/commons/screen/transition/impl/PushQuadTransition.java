@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 damios
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition.impl;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Interpolation;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.screen.transition.QuadTransition;
+
+/**
+ * A transition where the new screen is pushing the last screen out. Looks the
+ * same as a {@link PushTransition}, but no
+ * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch SpriteBatch} is needed.
+ * This transition can be reused.
+ * 
+ * @since 0.8.0
+ * @author damios
+ */
+public class PushQuadTransition extends QuadTransition {
+
+	private SlidingDirection dir;
+
+	/**
+	 * @param dir
+	 *            the direction of the push
+	 * @param duration
+	 *            the duration (in seconds) over which the transition should
+	 *            happen
+	 * @param interpolation
+	 *            the interpolation used
+	 */
+	public PushQuadTransition(SlidingDirection dir, float duration,
+			@Nullable Interpolation interpolation) {
+		super(duration, interpolation);
+		Preconditions.checkNotNull(dir);
+
+		this.dir = dir;
+	}
+
+	/**
+	 * @param dir
+	 *            the direction of the push
+	 * @param duration
+	 *            the duration (in seconds) over which the transition should
+	 *            happen
+	 */
+	public PushQuadTransition(SlidingDirection dir, float duration) {
+		this(dir, duration, null);
+	}
+
+	@Override
+	public void render(float delta, TextureRegion lastScreen,
+			TextureRegion currScreen, float progress) {
+		renderer.draw(currScreen, dir.xPosFactor * (progress - 1),
+				dir.yPosFactor * (progress - 1), 1, 1);
+		renderer.draw(lastScreen, dir.xPosFactor * progress,
+				dir.yPosFactor * progress, 1, 1);
+	}
+
+}
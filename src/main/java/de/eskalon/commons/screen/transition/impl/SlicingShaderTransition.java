@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition.impl;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.MathUtils;
+
+import de.damios.guacamole.Preconditions;
+
+/**
+ * The base class for the slicing transitions that compute the slice offsets
+ * per fragment. The CPU cost is thus independent of the slice count.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see HorizontalSlicingShaderTransition
+ * @see VerticalSlicingShaderTransition
+ */
+abstract class SlicingShaderTransition extends ShaderTransition {
+
+	// @formatter:off
+	private static final String VERT_SHADER =
+			"#ifdef GL_ES\n" +
+			"precision mediump float;\n" +
+			"#endif\n" +
+			"\n" +
+			"attribute vec3 a_position;\n" +
+			"attribute vec2 a_texCoord0;\n" +
+			"\n" +
+			"uniform mat4 u_projTrans;\n" +
+			"\n" +
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"void main() {\n" +
+			"	v_texCoord0 = a_texCoord0;\n" +
+			"	gl_Position = u_projTrans * vec4(a_position, 1.0);\n" +
+			"}";
+	// @formatter:on
+
+	/**
+	 * The fragment shader. {@code SLICE_AXIS} is the axis along which the
+	 * slices are stacked, {@code OFFSET_AXIS} the one along which they are
+	 * moving.
+	 */
+	// @formatter:off
+	private static final String FRAG_SHADER =
+			"#ifdef GL_ES\n" +
+			"#ifdef GL_FRAGMENT_PRECISION_HIGH\n" +
+			"precision highp float;\n" +
+			"#else\n" +
+			"precision mediump float;\n" +
+			"#endif\n" +
+			"#endif\n" +
+			"\n" +
+			"varying vec2 v_texCoord0;\n" +
+			"\n" +
+			"uniform sampler2D lastScreen;\n" +
+			"uniform sampler2D currScreen;\n" +
+			"uniform vec2 u_size;\n" +
+			"uniform float u_sliceSize;\n" +
+			"uniform float u_evenOffset;\n" +
+			"uniform float u_oddOffset;\n" +
+			"\n" +
+			"void main() {\n" +
+			"	vec2 pos = v_texCoord0 * u_size;\n" +
+			"	float slice = floor(pos.SLICE_AXIS / u_sliceSize);\n" +
+			"	float offset = mod(slice, 2.0) < 0.5 ? u_evenOffset : u_oddOffset;\n" +
+			"	vec2 src = pos;\n" +
+			"	src.OFFSET_AXIS -= offset;\n" +
+			"	if (src.OFFSET_AXIS >= 0.0 && src.OFFSET_AXIS < u_size.OFFSET_AXIS)\n" +
+			"		gl_FragColor = texture2D(currScreen, src / u_size);\n" +
+			"	else\n" +
+			"		gl_FragColor = texture2D(lastScreen, v_texCoord0);\n" +
+			"}";
+	// @formatter:on
+
+	private final boolean horizontal;
+	private final int sliceCount;
+	private int width, height;
+
+	private final int sizeLoc, sliceSizeLoc, evenOffsetLoc, oddOffsetLoc;
+
+	/**
+	 * @param horizontal
+	 *            whether the slices are horizontal, i.e. stacked on top of
+	 *            each other
+	 * @param sliceCount
+	 *            the count of slices used; has to be at least {@code 2}
+	 * @param duration
+	 *            the duration (in seconds) over which the transition should
+	 *            happen
+	 * @param interpolation
+	 *            the interpolation used
+	 */
+	SlicingShaderTransition(boolean horizontal, int sliceCount,
+			float duration, @Nullable Interpolation interpolation) {
+		super(VERT_SHADER,
+				FRAG_SHADER.replace("SLICE_AXIS", horizontal ? "y" : "x")
+						.replace("OFFSET_AXIS", horizontal ? "x" : "y"),
+				true, duration, interpolation, true);
+		Preconditions.checkArgument(sliceCount >= 2,
+				"The slice count has to be at least 2");
+
+		this.horizontal = horizontal;
+		this.sliceCount = sliceCount;
+
+		this.sizeLoc = program.fetchUniformLocation("u_size", false);
+		this.sliceSizeLoc = program.fetchUniformLocation("u_sliceSize",
+				false);
+		this.evenOffsetLoc = program.fetchUniformLocation("u_evenOffset",
+				false);
+		this.oddOffsetLoc = program.fetchUniformLocation("u_oddOffset",
+				false);
+	}
+
+	@Override
+	public void render(float delta, TextureRegion lastScreen,
+			TextureRegion currScreen, float progress) {
+		// Same (truncated) offsets as the batch based implementations
+		int size = horizontal ? width : height;
+		int evenOffset = (int) (size * (progress - 1));
+		int oddOffset = (int) (size * (1 - progress));
+
+		program.bind();
+		program.setUniformf(evenOffsetLoc, evenOffset);
+		program.setUniformf(oddOffsetLoc, oddOffset);
+
+		super.render(delta, lastScreen, currScreen, progress);
+	}
+
+	@Override
+	public void resize(int width, int height) {
+		super.resize(width, height);
+
+		this.width = width;
+		this.height = height;
+
+		program.bind();
+		program.setUniformf(sizeLoc, width, height);
+		program.setUniformf(sliceSizeLoc, MathUtils
+				.ceil((horizontal ? height : width) / (float) sliceCount));
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.transition.impl;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.math.Interpolation;
+
+import de.eskalon.commons.screen.transition.SlidingQuadTransition;
+
+/**
+ * A transition where the last screen is sliding out. Looks the same as a
+ * {@link SlidingOutTransition}, but no
+ * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch SpriteBatch} is needed. Can
+ * be reused.
+ *
+ * @since 0.8.0
+ * @author damios
+ * 
+ * @see SlidingInQuadTransition
+ */
+public class SlidingOutQuadTransition extends SlidingQuadTransition {
+
+	/**
+	 * @param dir
+	 *            the direction the last screen should slide to
+	 * @param duration
+	 *            the duration (in seconds) over which the slide should happen
+	 * @param interpolation
+	 *            the interpolation used
+	 */
+	public SlidingOutQuadTransition(SlidingDirection dir, float duration,
+			@Nullable Interpolation interpolation) {
+		super(dir, true, duration, interpolation);
+	}
+
+	/**
+	 * @param dir
+	 *            the direction the last screen should slide to
+	 * @param duration
+	 *            the duration (in seconds) over which the slide should happen
+	 */
+	public SlidingOutQuadTransition(SlidingDirection dir, float duration) {
+		this(dir, duration, null);
+	}
+
+}
@@ -29,6 +29,9 @@ import de.eskalon.commons.screen.transition.BatchTransition;
 /**
  * A transition where the new screen is sliding in in vertical slices. Can be
  * reused.
+ * <p>
+ * Every slice is drawn separately. For high slice counts, the
+ * {@link VerticalSlicingShaderTransition} should be used instead.
  * 
  * @since 0.3.0
  * @author damios
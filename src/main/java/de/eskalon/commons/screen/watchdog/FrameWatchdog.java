@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.watchdog;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.utils.TimeUtils;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.gdx.log.Logger;
+import de.damios.guacamole.gdx.log.LoggerService;
+import de.eskalon.commons.screen.ScreenManager;
+
+/**
+ * Times the calls the screen manager makes to screens and transitions and
+ * reports the ones exceeding their threshold, naming the class of the screen
+ * or transition and the {@linkplain WatchdogPhase phase}. By default, the
+ * long calls are logged as warnings.
+ * <p>
+ * Timing a call doesn't allocate any objects. If the screen manager has no
+ * watchdog, no calls are timed at all.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * FrameWatchdog watchdog = new FrameWatchdog(8);
+ * watchdog.setThreshold(WatchdogPhase.SCREEN_SHOW, 50);
+ * watchdog.setStackTraceSampler(new ThreadStackTraceSampler(), 250);
+ * screenManager.setWatchdog(watchdog);
+ * </pre>
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ScreenManager#setWatchdog(FrameWatchdog)
+ */
+public class FrameWatchdog {
+
+	private static final Logger LOG = LoggerService
+			.getLogger(FrameWatchdog.class);
+
+	private final long[] thresholds = new long[WatchdogPhase.values().length];
+	private @Nullable LongCallReporter reporter;
+	private @Nullable StackTraceSampler stackTraceSampler;
+	private long stackTraceThresholdNanos;
+
+	private @Nullable Object culprit;
+	private @Nullable WatchdogPhase phase;
+	private long startTime;
+	private int longCallCount;
+
+	/**
+	 * @param threshold
+	 *            the threshold for all phases; in milliseconds
+	 */
+	public FrameWatchdog(float threshold) {
+		for (WatchdogPhase phase : WatchdogPhase.values()) {
+			setThreshold(phase, threshold);
+		}
+	}
+
+	/**
+	 * @param phase
+	 *            the phase
+	 * @param threshold
+	 *            the duration after which a call in the given phase is
+	 *            reported; in milliseconds
+	 */
+	public void setThreshold(WatchdogPhase phase, float threshold) {
+		Preconditions.checkArgument(threshold > 0,
+				"The threshold has to be positive");
+
+		thresholds[phase.ordinal()] = (long) (threshold * 1_000_000L);
+	}
+
+	/**
+	 * @param phase
+	 *            the phase
+	 * @return the threshold in milliseconds
+	 */
+	public float getThreshold(WatchdogPhase phase) {
+		return thresholds[phase.ordinal()] / 1_000_000F;
+	}
+
+	/**
+	 * @param reporter
+	 *            the reporter; {@code null} to log the long calls, which is
+	 *            the default
+	 */
+	public void setReporter(@Nullable LongCallReporter reporter) {
+		this.reporter = reporter;
+	}
+
+	/**
+	 * Sets the sampler capturing the stack trace of calls taking
+	 * pathologically long.
+	 * 
+	 * @param stackTraceSampler
+	 *            the sampler; {@code null} to not capture any stack traces,
+	 *            which is the default
+	 * @param threshold
+	 *            the duration after which the stack trace is captured; in
+	 *            milliseconds
+	 */
+	public void setStackTraceSampler(
+			@Nullable StackTraceSampler stackTraceSampler, float threshold) {
+		Preconditions.checkArgument(threshold > 0,
+				"The threshold has to be positive");
+
+		this.stackTraceSampler = stackTraceSampler;
+		this.stackTraceThresholdNanos = (long) (threshold * 1_000_000L);
+	}
+
+	/**
+	 * Starts timing a call. Is called by the screen manager.
+	 * 
+	 * @param culprit
+	 *            the called screen or transition
+	 * @param phase
+	 *            the phase
+	 */
+	public void begin(Object culprit, WatchdogPhase phase) {
+		this.culprit = culprit;
+		this.phase = phase;
+
+		if (stackTraceSampler != null)
+			stackTraceSampler.start(stackTraceThresholdNanos);
+
+		this.startTime = TimeUtils.nanoTime();
+	}
+
+	/**
+	 * Stops timing the current call and reports it, if it exceeded its
+	 * threshold. Is called by the screen manager.
+	 */
+	public void end() {
+		long duration = TimeUtils.nanoTime() - startTime;
+
+		StackTraceElement[] stackTrace = stackTraceSampler == null ? null
+				: stackTraceSampler.stop();
+
+		if (phase != null && duration > thresholds[phase.ordinal()]) {
+			longCallCount++;
+
+			if (reporter != null)
+				reporter.onLongCall(culprit.getClass(), phase, duration,
+						stackTrace);
+			else
+				log(culprit.getClass(), phase, duration, stackTrace);
+		}
+
+		this.culprit = null;
+		this.phase = null;
+	}
+
+	private static void log(Class<?> culprit, WatchdogPhase phase,
+			long nanos, @Nullable StackTraceElement[] stackTrace) {
+		if (stackTrace == null) {
+			LOG.warn("%s took %sms in phase %s", culprit.getName(),
+					nanos / 1_000_000F, phase);
+		} else {
+			StringBuilder builder = new StringBuilder();
+			for (StackTraceElement element : stackTrace) {
+				builder.append("\n\tat ").append(element);
+			}
+			LOG.warn("%s took %sms in phase %s; stack trace:%s",
+					culprit.getName(), nanos / 1_000_000F, phase, builder);
+		}
+	}
+
+	/**
+	 * @return the count of calls that exceeded their threshold
+	 */
+	public int getLongCallCount() {
+		return longCallCount;
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.watchdog;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Is notified by the {@link FrameWatchdog} about calls exceeding their
+ * threshold.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public interface LongCallReporter {
+
+	/**
+	 * Called on the rendering thread right after the long call returned.
+	 * 
+	 * @param culprit
+	 *            the class of the screen or transition
+	 * @param phase
+	 *            the phase
+	 * @param nanos
+	 *            the duration of the call in nanoseconds
+	 * @param stackTrace
+	 *            the stack trace of the rendering thread, captured while the
+	 *            call was still running; {@code null} if no
+	 *            {@linkplain FrameWatchdog#setStackTraceSampler(StackTraceSampler, float)
+	 *            sampler} is set or the call didn't take long enough
+	 */
+	public void onLongCall(Class<?> culprit, WatchdogPhase phase, long nanos,
+			@Nullable StackTraceElement[] stackTrace);
+
+}
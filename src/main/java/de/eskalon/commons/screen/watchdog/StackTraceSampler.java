@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.watchdog;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Captures the stack trace of the rendering thread while a call timed by the
+ * {@link FrameWatchdog} takes too long. As the call itself is blocking the
+ * rendering thread, this has to be done from another thread.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see ThreadStackTraceSampler
+ */
+public interface StackTraceSampler {
+
+	/**
+	 * Called on the rendering thread when a timed call starts.
+	 * 
+	 * @param timeoutNanos
+	 *            the time after which the stack trace should be captured
+	 */
+	public void start(long timeoutNanos);
+
+	/**
+	 * Called on the rendering thread when the timed call returned.
+	 * 
+	 * @return the captured stack trace; {@code null} if the call returned
+	 *         before the timeout
+	 */
+	public @Nullable StackTraceElement[] stop();
+
+}
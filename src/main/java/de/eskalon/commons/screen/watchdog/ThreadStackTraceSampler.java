@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.screen.watchdog;
+
+import java.util.concurrent.locks.LockSupport;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import de.damios.guacamole.Preconditions;
+
+/**
+ * A {@link StackTraceSampler} using a daemon thread, which periodically checks
+ * whether the current call is overdue. Starting and stopping a call only
+ * writes a few volatile fields.
+ * <p>
+ * Has to be created on the rendering thread. Isn't available on GWT.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class ThreadStackTraceSampler implements StackTraceSampler, Disposable {
+
+	private final Thread renderingThread;
+	private final Thread samplingThread;
+	private final long pollIntervalNanos;
+
+	/**
+	 * The id of the last call; only accessed by the rendering thread.
+	 */
+	private long lastCall;
+	/**
+	 * The id of the current call; {@code 0} if there is none.
+	 */
+	private volatile long currentCall;
+	private volatile long callStart;
+	private volatile long timeoutNanos;
+	/**
+	 * The captured stack trace; tagged with the id of its call, so a trace
+	 * captured just before the call returned isn't attached to the next call.
+	 */
+	private volatile @Nullable CapturedStackTrace capturedTrace;
+	private volatile boolean running = true;
+
+	/**
+	 * @param pollInterval
+	 *            how often the sampling thread checks whether the current call
+	 *            is overdue; in milliseconds
+	 */
+	public ThreadStackTraceSampler(float pollInterval) {
+		Preconditions.checkArgument(pollInterval > 0,
+				"The poll interval has to be positive");
+
+		this.pollIntervalNanos = (long) (pollInterval * 1_000_000L);
+		this.renderingThread = Thread.currentThread();
+		this.samplingThread = new Thread(this::sample,
+				"screenmanager-stacktrace-sampler");
+		this.samplingThread.setDaemon(true);
+		this.samplingThread.start();
+	}
+
+	/**
+	 * Creates a sampler checking every {@code 10} milliseconds.
+	 */
+	public ThreadStackTraceSampler() {
+		this(10);
+	}
+
+	private void sample() {
+		while (running) {
+			LockSupport.parkNanos(this, pollIntervalNanos);
+
+			long call = currentCall;
+			if (call == 0)
+				continue;
+
+			CapturedStackTrace captured = capturedTrace;
+			if ((captured == null || captured.call != call)
+					&& TimeUtils.nanoTime() - callStart >= timeoutNanos) {
+				capturedTrace = new CapturedStackTrace(call,
+						renderingThread.getStackTrace());
+			}
+		}
+	}
+
+	@Override
+	public void start(long timeoutNanos) {
+		this.timeoutNanos = timeoutNanos;
+		this.callStart = TimeUtils.nanoTime();
+		this.currentCall = ++lastCall;
+	}
+
+	@Override
+	public @Nullable StackTraceElement[] stop() {
+		long call = this.currentCall;
+		this.currentCall = 0;
+
+		CapturedStackTrace captured = this.capturedTrace;
+		if (captured == null || captured.call != call)
+			return null; // not captured or captured for a previous call
+		return captured.trace;
+	}
+
+	/**
+	 * Stops the sampling thread.
+	 */
+	@Override
+	public void dispose() {
+		running = false;
+		LockSupport.unpark(samplingThread);
+	}
+
+	private static final class CapturedStackTrace {
+		final long call;
+		final StackTraceElement[] trace;
+
+		CapturedStackTrace(long call, StackTraceElement[] trace) {
+			this.call = call;
+			this.trace = trace;
+		}
+	}
+
+}
@@ -15,9 +15,15 @@
 
 package de.eskalon.commons.utils;
 
+import org.jspecify.annotations.Nullable;
+
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.SnapshotArray;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.input.InputEventType;
 
 /**
  * An InputProcessor that delegates to an ordered list of other
@@ -26,13 +32,86 @@ import com.badlogic.gdx.utils.Array;
  * <p>
  * This class adds some convenience methods for quickly adding/removing multiple
  * input processors at once.
+ * <p>
+ * Furthermore, the processors can be organized in named groups. An event is
+ * passed to the groups in the order of their priority. The processors
+ * {@linkplain #addProcessor(InputProcessor) added directly} to the multiplexer
+ * form the {@linkplain #GLOBAL_GROUP global group}; the processors of the
+ * active screen are kept in the {@linkplain #SCREEN_GROUP screen group}. The
+ * processors of a group other than the global one can be
+ * {@linkplain #setGroup(String, Array) replaced} in constant time. Like in an
+ * {@link InputMultiplexer}, {@link #getProcessors()} returns the live array
+ * of the global group; {@link #getAllProcessors(Array)} collects the
+ * processors of all groups.
+ * <p>
+ * Optionally, {@linkplain #setCoalescingPointerMotion(boolean) pointer motion
+ * can be coalesced}: consecutive {@code mouseMoved} and {@code touchDragged}
+ * events of a pointer are merged and only the latest one is passed on when
+ * the multiplexer is {@linkplain #flush() flushed}.
  * 
  * @author damios
  */
 public class BasicInputMultiplexer extends InputMultiplexer {
 
 	/**
-	 * Removes all input processors.
+	 * The name of the group containing the processors added directly to the
+	 * multiplexer.
+	 *
+	 * @since 0.8.0
+	 */
+	public static final String GLOBAL_GROUP = "global";
+	/**
+	 * @since 0.8.0
+	 */
+	public static final int GLOBAL_GROUP_PRIORITY = 10;
+	/**
+	 * The name of the group containing the input processors of the active
+	 * screen.
+	 *
+	 * @since 0.8.0
+	 */
+	public static final String SCREEN_GROUP = "screen";
+	/**
+	 * @since 0.8.0
+	 */
+	public static final int SCREEN_GROUP_PRIORITY = 0;
+
+	/**
+	 * The maximum count of pointers whose motion can be coalesced; the motion
+	 * of further pointers is passed on immediately.
+	 *
+	 * @since 0.8.0
+	 */
+	public static final int MAX_COALESCED_POINTERS = 20;
+
+	/**
+	 * The groups, sorted by descending priority.
+	 */
+	private final Array<ProcessorGroup> groups = new Array<>(true, 4);
+
+	private boolean coalescingPointerMotion = false;
+	/**
+	 * The pending pointer motion, indexed by pointer; the last slot is used
+	 * for {@code mouseMoved} events.
+	 */
+	private final boolean[] pendingMotion = new boolean[MAX_COALESCED_POINTERS
+			+ 1];
+	private final int[] pendingMotionX = new int[MAX_COALESCED_POINTERS + 1];
+	private final int[] pendingMotionY = new int[MAX_COALESCED_POINTERS + 1];
+	private int pendingMotionCount;
+	private int coalescedCount;
+
+	public BasicInputMultiplexer() {
+		ProcessorGroup global = new ProcessorGroup(GLOBAL_GROUP,
+				GLOBAL_GROUP_PRIORITY);
+		global.processors = getProcessors();
+		groups.add(global);
+
+		addGroup(SCREEN_GROUP, SCREEN_GROUP_PRIORITY);
+	}
+
+	/**
+	 * Removes all input processors, including the ones of the other groups.
 	 *
 	 * @see #clear()
 	 */
@@ -57,4 +136,294 @@ public class BasicInputMultiplexer extends InputMultiplexer {
 		getProcessors().addAll(processors);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Collects the processors of all groups in the order they receive events.
+	 * In contrast to {@link #getProcessors()}, which only returns the
+	 * {@linkplain #GLOBAL_GROUP global group}, changes to the filled array
+	 * aren't reflected by the multiplexer.
+	 *
+	 * @param out
+	 *            the array to fill; is cleared first
+	 * @return {@code out}
+	 * @since 0.8.0
+	 */
+	public Array<InputProcessor> getAllProcessors(Array<InputProcessor> out) {
+		Preconditions.checkNotNull(out);
+
+		out.clear();
+		for (int i = 0; i < groups.size; i++) {
+			Array<InputProcessor> group = groups.get(i).processors;
+			if (group != null)
+				out.addAll(group);
+		}
+		return out;
+	}
+
+	/**
+	 * Removes the processors of all groups. The arrays of the groups other
+	 * than the {@linkplain #GLOBAL_GROUP global one} are detached, not
+	 * cleared, as they are usually owned by someone else, e.g. a screen.
+	 */
+	@Override
+	public void clear() {
+		super.clear();
+		for (int i = 0; i < groups.size; i++) {
+			if (!GLOBAL_GROUP.equals(groups.get(i).name))
+				groups.get(i).processors = null;
+		}
+	}
+
+	/**
+	 * Adds an empty processor group.
+	 *
+	 * @param name
+	 *            the name of the group
+	 * @param priority
+	 *            the priority; groups with a higher priority receive events
+	 *            first. Groups with the same priority receive events in the
+	 *            order they were added
+	 * @since 0.8.0
+	 */
+	public void addGroup(String name, int priority) {
+		Preconditions.checkNotNull(name);
+		Preconditions.checkArgument(findGroup(name) == null,
+				"A group with this name was already added");
+
+		int index = 0;
+		while (index < groups.size && groups.get(index).priority >= priority)
+			index++;
+		groups.insert(index, new ProcessorGroup(name, priority));
+	}
+
+	/**
+	 * Replaces the processors of a group. The given array is not copied, i.e.
+	 * later changes to it are reflected by the group. Thus, it should not be
+	 * modified while an event is being dispatched, unless it is a
+	 * {@link SnapshotArray}.
+	 *
+	 * @param name
+	 *            the name of the group; cannot be the {@linkplain #GLOBAL_GROUP
+	 *            global group}
+	 * @param processors
+	 *            the new processors of the group; {@code null} to empty the
+	 *            group
+	 * @since 0.8.0
+	 */
+	public void setGroup(String name,
+			@Nullable Array<InputProcessor> processors) {
+		Preconditions.checkArgument(!GLOBAL_GROUP.equals(name),
+				"The processors of the global group cannot be replaced");
+
+		ProcessorGroup group = findGroup(name);
+		Preconditions.checkArgument(group != null,
+				"There is no group with this name");
+
+		group.processors = processors;
+	}
+
+	/**
+	 * @param name
+	 *            the name of the group
+	 * @return the processors of the group; {@code null} if the group is empty
+	 *         or doesn't exist
+	 * @since 0.8.0
+	 */
+	public @Nullable Array<InputProcessor> getGroup(String name) {
+		ProcessorGroup group = findGroup(name);
+		return group == null ? null : group.processors;
+	}
+
+	/**
+	 * Sets whether pointer motion is coalesced. If enabled,
+	 * {@link #flush()} has to be called once per frame; the
+	 * {@link de.eskalon.commons.core.ManagedGame ManagedGame} does this before
+	 * rendering the screens.
+	 * <p>
+	 * All other events are passed on immediately; the pending motion is
+	 * flushed before, so that the order of the events is kept.
+	 *
+	 * @param coalescingPointerMotion
+	 *            whether {@code mouseMoved} and {@code touchDragged} events
+	 *            should be coalesced; {@code false} by default
+	 * @since 0.8.0
+	 */
+	public void setCoalescingPointerMotion(boolean coalescingPointerMotion) {
+		if (!coalescingPointerMotion)
+			flush();
+		this.coalescingPointerMotion = coalescingPointerMotion;
+	}
+
+	/**
+	 * @since 0.8.0
+	 */
+	public boolean isCoalescingPointerMotion() {
+		return coalescingPointerMotion;
+	}
+
+	/**
+	 * Passes on the pending pointer motion.
+	 *
+	 * @see #setCoalescingPointerMotion(boolean)
+	 * @since 0.8.0
+	 */
+	public void flush() {
+		if (pendingMotionCount == 0)
+			return;
+
+		pendingMotionCount = 0;
+		for (int i = 0; i < pendingMotion.length; i++) {
+			if (pendingMotion[i]) {
+				pendingMotion[i] = false;
+				dispatch(i == MAX_COALESCED_POINTERS
+						? InputEventType.MOUSE_MOVED
+						: InputEventType.TOUCH_DRAGGED, pendingMotionX[i],
+						pendingMotionY[i], i, 0, 0, 0);
+			}
+		}
+	}
+
+	/**
+	 * @return the count of pointer motion events that were merged into a
+	 *         later event
+	 * @since 0.8.0
+	 */
+	public int getCoalescedCount() {
+		return coalescedCount;
+	}
+
+	/**
+	 * @param slot
+	 *            the pointer for {@code touchDragged} events or
+	 *            {@link #MAX_COALESCED_POINTERS} for {@code mouseMoved} events
+	 * @return whether the event was coalesced
+	 */
+	private boolean coalesce(int screenX, int screenY, int slot) {
+		if (!coalescingPointerMotion || slot < 0
+				|| slot > MAX_COALESCED_POINTERS)
+			return false;
+
+		if (pendingMotion[slot]) {
+			coalescedCount++;
+		} else {
+			pendingMotion[slot] = true;
+			pendingMotionCount++;
+		}
+		pendingMotionX[slot] = screenX;
+		pendingMotionY[slot] = screenY;
+		return true;
+	}
+
+	private @Nullable ProcessorGroup findGroup(String name) {
+		for (int i = 0; i < groups.size; i++) {
+			if (groups.get(i).name.equals(name))
+				return groups.get(i);
+		}
+		return null;
+	}
+
+	/**
+	 * @return the count of processors in all groups
+	 */
+	@Override
+	public int size() {
+		int size = 0;
+		for (int i = 0; i < groups.size; i++) {
+			Array<InputProcessor> processors = groups.get(i).processors;
+			if (processors != null)
+				size += processors.size;
+		}
+		return size;
+	}
+
+	@Override
+	public boolean keyDown(int keycode) {
+		flush();
+		return dispatch(InputEventType.KEY_DOWN, keycode, 0, 0, 0, 0, 0);
+	}
+
+	@Override
+	public boolean keyUp(int keycode) {
+		flush();
+		return dispatch(InputEventType.KEY_UP, keycode, 0, 0, 0, 0, 0);
+	}
+
+	@Override
+	public boolean keyTyped(char character) {
+		flush();
+		return dispatch(InputEventType.KEY_TYPED, character, 0, 0, 0, 0, 0);
+	}
+
+	@Override
+	public boolean touchDown(int screenX, int screenY, int pointer,
+			int button) {
+		flush();
+		return dispatch(InputEventType.TOUCH_DOWN, screenX, screenY, pointer,
+				button, 0, 0);
+	}
+
+	@Override
+	public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+		flush();
+		return dispatch(InputEventType.TOUCH_UP, screenX, screenY, pointer,
+				button, 0, 0);
+	}
+
+	@Override
+	public boolean touchCancelled(int screenX, int screenY, int pointer,
+			int button) {
+		flush();
+		return dispatch(InputEventType.TOUCH_CANCELLED, screenX, screenY,
+				pointer, button, 0, 0);
+	}
+
+	@Override
+	public boolean touchDragged(int screenX, int screenY, int pointer) {
+		if (pointer < MAX_COALESCED_POINTERS
+				&& coalesce(screenX, screenY, pointer))
+			return false;
+
+		flush();
+		return dispatch(InputEventType.TOUCH_DRAGGED, screenX, screenY,
+				pointer, 0, 0, 0);
+	}
+
+	@Override
+	public boolean mouseMoved(int screenX, int screenY) {
+		if (coalesce(screenX, screenY, MAX_COALESCED_POINTERS))
+			return false;
+
+		flush();
+		return dispatch(InputEventType.MOUSE_MOVED, screenX, screenY, 0, 0, 0,
+				0);
+	}
+
+	@Override
+	public boolean scrolled(float amountX, float amountY) {
+		flush();
+		return dispatch(InputEventType.SCROLLED, 0, 0, 0, 0, amountX, amountY);
+	}
+
+	private boolean dispatch(InputEventType type, int a, int b, int c, int d,
+			float amountX, float amountY) {
+		for (int i = 0; i < groups.size; i++) {
+			Array<InputProcessor> processors = groups.get(i).processors;
+			if (processors != null && processors.size > 0 && type
+					.dispatch(processors, a, b, c, d, amountX, amountY))
+				return true;
+		}
+		return false;
+	}
+
+	private static final class ProcessorGroup {
+		final String name;
+		final int priority;
+		@Nullable
+		Array<InputProcessor> processors;
+
+		ProcessorGroup(String name, int priority) {
+			this.name = name;
+			this.priority = priority;
+		}
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.utils;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.gdx.graphics.NestableFrameBuffer;
+import de.eskalon.commons.screen.ScreenManager;
+
+/**
+ * A pool of intermediate render targets. The framebuffers are created lazily
+ * and reused afterwards, so that transitions rendering in multiple passes do
+ * not have to allocate their own framebuffers.
+ * <p>
+ * The pool of a screen manager can be obtained via
+ * {@link ScreenManager#getFrameBufferPool()}. It is resized and disposed by the
+ * manager.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class FrameBufferPool implements Disposable {
+
+	private static final RenderScale[] SCALES = RenderScale.values();
+
+	private final Array<FrameBuffer>[] freeBuffers;
+	private int width, height;
+	private int leasedCount;
+	private long memoryUsage;
+	private int scaleBias;
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public FrameBufferPool() {
+		this.freeBuffers = new Array[SCALES.length];
+		for (int i = 0; i < SCALES.length; i++) {
+			this.freeBuffers[i] = new Array<>(false, 2);
+		}
+	}
+
+	/**
+	 * Sets the size of a {@linkplain RenderScale#FULL full-scale} render target.
+	 * All currently pooled framebuffers are disposed; leased framebuffers are
+	 * disposed when they are {@linkplain #free(FrameBuffer) returned}.
+	 *
+	 * @param backBufferWidth
+	 *            the width in (back buffer) pixels
+	 * @param backBufferHeight
+	 *            the height in (back buffer) pixels
+	 */
+	public void setSize(int backBufferWidth, int backBufferHeight) {
+		this.width = backBufferWidth;
+		this.height = backBufferHeight;
+
+		clear();
+	}
+
+	/**
+	 * Leases a framebuffer. It has to be {@linkplain #free(FrameBuffer)
+	 * returned} after it was used, at the latest at the end of the frame.
+	 *
+	 * @param scale
+	 *            the resolution of the framebuffer relative to the back buffer
+	 * @return a framebuffer; its content is undefined
+	 */
+	public FrameBuffer obtain(RenderScale scale) {
+		Preconditions.checkState(width > 0 && height > 0,
+				"The size of the pool has to be set first!");
+
+		int index = Math.min(scale.ordinal() + scaleBias, SCALES.length - 1);
+		Array<FrameBuffer> free = freeBuffers[index];
+		if (free.size > 0) {
+			leasedCount++;
+			return free.pop();
+		}
+
+		FrameBuffer fbo = createFrameBuffer(SCALES[index].apply(width),
+				SCALES[index].apply(height));
+		memoryUsage += getMemoryUsage(fbo);
+		leasedCount++;
+		return fbo;
+	}
+
+	/**
+	 * Returns a framebuffer to the pool.
+	 *
+	 * @param fbo
+	 *            a framebuffer previously {@linkplain #obtain(RenderScale)
+	 *            obtained} from this pool
+	 */
+	public void free(FrameBuffer fbo) {
+		Preconditions.checkNotNull(fbo);
+
+		leasedCount--;
+
+		for (int i = 0; i < SCALES.length; i++) {
+			if (fbo.getWidth() == SCALES[i].apply(width)
+					&& fbo.getHeight() == SCALES[i].apply(height)) {
+				freeBuffers[i].add(fbo);
+				return;
+			}
+		}
+
+		// the pool was resized in the meantime
+		memoryUsage -= getMemoryUsage(fbo);
+		fbo.dispose();
+	}
+
+	/**
+	 * Lowers the resolution of all framebuffers obtained afterwards. For
+	 * example, with a bias of {@code 1}, a {@linkplain RenderScale#FULL
+	 * full-scale} framebuffer is actually rendered at
+	 * {@linkplain RenderScale#HALF half} the resolution.
+	 *
+	 * @param scaleBias
+	 *            the count of steps the scale is lowered by; {@code 0} by
+	 *            default
+	 */
+	public void setScaleBias(int scaleBias) {
+		Preconditions.checkArgument(scaleBias >= 0);
+		this.scaleBias = scaleBias;
+	}
+
+	public int getScaleBias() {
+		return scaleBias;
+	}
+
+	protected FrameBuffer createFrameBuffer(int width, int height) {
+		return new NestableFrameBuffer(Format.RGBA8888, width, height, false);
+	}
+
+	/**
+	 * @return the count of framebuffers currently leased
+	 */
+	public int getLeasedCount() {
+		return leasedCount;
+	}
+
+	/**
+	 * @return an estimate of the memory used by the framebuffers created by
+	 *         this pool which weren't disposed yet, including the leased ones;
+	 *         in bytes
+	 */
+	public long getMemoryUsage() {
+		return memoryUsage;
+	}
+
+	/**
+	 * @return the memory used by the color buffer of an RGBA8888 framebuffer
+	 */
+	static long getMemoryUsage(FrameBuffer fbo) {
+		return 4L * fbo.getWidth() * fbo.getHeight();
+	}
+
+	/**
+	 * Disposes all pooled framebuffers.
+	 */
+	public void clear() {
+		for (int i = 0; i < SCALES.length; i++) {
+			Array<FrameBuffer> free = freeBuffers[i];
+			for (int j = 0; j < free.size; j++) {
+				memoryUsage -= getMemoryUsage(free.get(j));
+				free.get(j).dispose();
+			}
+			free.clear();
+		}
+	}
+
+	@Override
+	public void dispose() {
+		clear();
+	}
+
+}
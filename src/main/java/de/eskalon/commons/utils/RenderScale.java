@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.utils;
+
+/**
+ * An enum denoting the resolution of an intermediate render target relative to
+ * the back buffer.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see FrameBufferPool
+ */
+public enum RenderScale {
+	FULL(1), HALF(2), QUARTER(4), EIGHTH(8), SIXTEENTH(16);
+
+	/**
+	 * The factor by which the back buffer's dimensions are divided.
+	 */
+	public final int divisor;
+
+	RenderScale(int divisor) {
+		this.divisor = divisor;
+	}
+
+	/**
+	 * @param size
+	 *            a size in pixels
+	 * @return the scaled size; is at least {@code 1}
+	 */
+	public int apply(int size) {
+		return Math.max(1, size / divisor);
+	}
+
+}
@@ -45,9 +45,34 @@ public class ScreenFboUtils {
 	 *            the time delta
 	 * 
 	 * @return a texture region which contains the rendered screen
+	 * @see #screenToTexture(ManagedScreen, FrameBuffer, float, TextureRegion)
 	 */
 	public static TextureRegion screenToTexture(ManagedScreen screen,
 			FrameBuffer fbo, float delta) {
+		return screenToTexture(screen, fbo, delta, new TextureRegion());
+	}
+
+	/**
+	 * Renders a {@linkplain ManagedScreen screen} into the given texture
+	 * region using the given {@linkplain FrameBuffer framebuffer}. In contrast
+	 * to {@link #screenToTexture(ManagedScreen, FrameBuffer, float)}, no
+	 * objects are allocated, which makes this method suitable for being called
+	 * every frame.
+	 * 
+	 * @param screen
+	 *            the screen to be rendered
+	 * @param fbo
+	 *            the framebuffer the screen gets rendered into
+	 * @param delta
+	 *            the time delta
+	 * @param region
+	 *            the texture region that is set to the rendered screen
+	 * 
+	 * @return the given texture region
+	 * @since 0.8.0
+	 */
+	public static TextureRegion screenToTexture(ManagedScreen screen,
+			FrameBuffer fbo, float delta, TextureRegion region) {
 		fbo.begin();
 		if (screen.getClearColor() != null)
 			ScreenUtils.clear(screen.getClearColor(), true);
@@ -57,10 +82,10 @@ public class ScreenFboUtils {
 		Texture texture = fbo.getColorBufferTexture();
 
 		// flip the texture
-		TextureRegion textureRegion = new TextureRegion(texture);
-		textureRegion.flip(false, true);
+		region.setRegion(texture);
+		region.flip(false, true);
 
-		return textureRegion;
+		return region;
 	}
 
 	@Beta
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Measures the heap memory allocated by the current thread. Relies on the
+ * HotSpot-specific {@link com.sun.management.ThreadMXBean}; on other JVMs,
+ * the measurement is not {@linkplain #isSupported() supported}.
+ * <p>
+ * Calling {@link #getAllocatedBytes()} doesn't allocate any objects itself.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public final class AllocationMeter {
+
+	private static final com.sun.management.@Nullable ThreadMXBean BEAN;
+
+	static {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean) bean)
+						.isThreadAllocatedMemorySupported()) {
+			com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+			sunBean.setThreadAllocatedMemoryEnabled(true);
+			BEAN = sunBean;
+		} else {
+			BEAN = null;
+		}
+	}
+
+	private AllocationMeter() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @return whether the JVM supports measuring the allocations of a thread
+	 */
+	public static boolean isSupported() {
+		return BEAN != null;
+	}
+
+	/**
+	 * @return the bytes allocated by the current thread so far; {@code -1} if
+	 *         this isn't {@linkplain #isSupported() supported} by the JVM
+	 */
+	public static long getAllocatedBytes() {
+		if (BEAN == null)
+			return -1;
+
+		return BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+}
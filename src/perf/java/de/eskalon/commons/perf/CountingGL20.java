@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import java.nio.Buffer;
+
+/**
+ * A {@link NoopGL20} that counts the GL calls by {@linkplain GLCallCategory
+ * category}. This allows checking how many binds, clears, draw calls, etc. a
+ * frame issues without needing a GPU.
+ * <p>
+ * The counts are accumulated until they are {@linkplain #reset() reset},
+ * which is usually done at the start of every frame.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see GLCallBudget
+ */
+public class CountingGL20 extends NoopGL20 {
+
+	private final int[] counts = new int[GLCallCategory.values().length];
+
+	/**
+	 * Sets all counts to zero.
+	 */
+	public void reset() {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = 0;
+		}
+	}
+
+	/**
+	 * @param category
+	 *            the category
+	 * @return the count of calls in this category since the last
+	 *         {@linkplain #reset() reset}
+	 */
+	public int getCount(GLCallCategory category) {
+		return counts[category.ordinal()];
+	}
+
+	/**
+	 * @return the count of all counted calls since the last
+	 *         {@linkplain #reset() reset}
+	 */
+	public int getTotalCount() {
+		int total = 0;
+		for (int count : counts) {
+			total += count;
+		}
+		return total;
+	}
+
+	protected void count(GLCallCategory category) {
+		counts[category.ordinal()]++;
+	}
+
+	@Override
+	public void glBindFramebuffer(int target, int framebuffer) {
+		count(GLCallCategory.FRAMEBUFFER_BIND);
+	}
+
+	@Override
+	public void glViewport(int x, int y, int width, int height) {
+		count(GLCallCategory.VIEWPORT);
+	}
+
+	@Override
+	public void glBindTexture(int target, int texture) {
+		count(GLCallCategory.TEXTURE_BIND);
+	}
+
+	@Override
+	public void glClear(int mask) {
+		count(GLCallCategory.CLEAR);
+	}
+
+	@Override
+	public void glDrawArrays(int mode, int first, int count) {
+		count(GLCallCategory.DRAW);
+	}
+
+	@Override
+	public void glDrawElements(int mode, int count, int type,
+			Buffer indices) {
+		count(GLCallCategory.DRAW);
+	}
+
+	@Override
+	public void glDrawElements(int mode, int count, int type, int indices) {
+		count(GLCallCategory.DRAW);
+	}
+
+	@Override
+	public void glUseProgram(int program) {
+		count(GLCallCategory.PROGRAM_BIND);
+	}
+
+	@Override
+	public void glBindBuffer(int target, int buffer) {
+		count(GLCallCategory.BUFFER_BIND);
+	}
+
+	@Override
+	public void glEnable(int cap) {
+		count(GLCallCategory.STATE_CHANGE);
+	}
+
+	@Override
+	public void glDisable(int cap) {
+		count(GLCallCategory.STATE_CHANGE);
+	}
+
+	@Override
+	public void glBlendFunc(int sfactor, int dfactor) {
+		count(GLCallCategory.STATE_CHANGE);
+	}
+
+	@Override
+	public void glBlendFuncSeparate(int srcRGB, int dstRGB, int srcAlpha,
+			int dstAlpha) {
+		count(GLCallCategory.STATE_CHANGE);
+	}
+
+	@Override
+	public void glBlendEquation(int mode) {
+		count(GLCallCategory.STATE_CHANGE);
+	}
+
+	@Override
+	public void glBlendEquationSeparate(int modeRGB, int modeAlpha) {
+		count(GLCallCategory.STATE_CHANGE);
+	}
+
+	@Override
+	public void glColorMask(boolean red, boolean green, boolean blue,
+			boolean alpha) {
+		count(GLCallCategory.STATE_CHANGE);
+	}
+
+	@Override
+	public void glDepthMask(boolean flag) {
+		count(GLCallCategory.STATE_CHANGE);
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import java.util.Arrays;
+
+import de.damios.guacamole.Preconditions;
+
+/**
+ * Collects frame times and computes their percentiles. The samples are stored
+ * in a preallocated array, i.e. {@linkplain #add(long) adding} a sample
+ * doesn't allocate any objects.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class FrameTimes {
+
+	private final long[] samples;
+	private int size;
+	private long total;
+	private long[] sorted;
+
+	/**
+	 * @param capacity
+	 *            the maximum count of samples
+	 */
+	public FrameTimes(int capacity) {
+		Preconditions.checkArgument(capacity > 0,
+				"The capacity has to be positive");
+
+		this.samples = new long[capacity];
+	}
+
+	/**
+	 * @param nanos
+	 *            the duration of a frame in nanoseconds
+	 */
+	public void add(long nanos) {
+		Preconditions.checkState(size < samples.length,
+				"The capacity was exceeded");
+
+		samples[size++] = nanos;
+		total += nanos;
+		sorted = null;
+	}
+
+	/**
+	 * Returns the given percentile, using the nearest-rank method.
+	 *
+	 * @param percentile
+	 *            the percentile; from {@code 0} (excl.) to {@code 100} (incl.)
+	 * @return the smallest sample that is greater than or equal to the given
+	 *         percentage of samples; {@code 0} if there aren't any samples
+	 */
+	public long getPercentile(float percentile) {
+		Preconditions.checkArgument(percentile > 0 && percentile <= 100,
+				"The percentile has to be in (0, 100]");
+
+		if (size == 0)
+			return 0;
+
+		if (sorted == null) {
+			sorted = Arrays.copyOf(samples, size);
+			Arrays.sort(sorted);
+		}
+
+		int rank = (int) Math.ceil(percentile / 100D * size);
+		return sorted[Math.max(rank, 1) - 1];
+	}
+
+	public long getMax() {
+		return getPercentile(100);
+	}
+
+	public long getMean() {
+		return size == 0 ? 0 : total / size;
+	}
+
+	/**
+	 * @return the sum of all samples in nanoseconds
+	 */
+	public long getTotal() {
+		return total;
+	}
+
+	/**
+	 * @return the count of samples
+	 */
+	public int getSize() {
+		return size;
+	}
+
+}
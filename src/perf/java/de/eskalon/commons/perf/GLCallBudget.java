@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import org.jspecify.annotations.Nullable;
+
+import de.damios.guacamole.Preconditions;
+
+/**
+ * The maximum count of GL calls per {@linkplain GLCallCategory category} a
+ * frame may issue. Categories without a limit aren't checked.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * GLCallBudget budget = new GLCallBudget()
+ * 		.limit(GLCallCategory.FRAMEBUFFER_BIND, 4)
+ * 		.limit(GLCallCategory.DRAW, 1);
+ *
+ * gl.reset();
+ * screenManager.render(delta);
+ * assertNull(budget.check(gl));
+ * </pre>
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class GLCallBudget {
+
+	private final int[] limits = new int[GLCallCategory.values().length];
+
+	public GLCallBudget() {
+		for (int i = 0; i < limits.length; i++) {
+			limits[i] = -1;
+		}
+	}
+
+	/**
+	 * @param category
+	 *            the category
+	 * @param max
+	 *            the maximum count of calls
+	 * @return this budget for chaining
+	 */
+	public GLCallBudget limit(GLCallCategory category, int max) {
+		Preconditions.checkArgument(max >= 0,
+				"The limit cannot be negative");
+
+		limits[category.ordinal()] = max;
+		return this;
+	}
+
+	/**
+	 * @param category
+	 *            the category
+	 * @return the maximum count of calls; {@code -1} if there is no limit
+	 */
+	public int getLimit(GLCallCategory category) {
+		return limits[category.ordinal()];
+	}
+
+	/**
+	 * Checks the counted calls against this budget.
+	 *
+	 * @param gl
+	 *            the GL that counted the calls
+	 * @return {@code null} if the calls are within the budget; otherwise, a
+	 *         description of the exceeded limits
+	 */
+	public @Nullable String check(CountingGL20 gl) {
+		StringBuilder violations = null;
+
+		for (GLCallCategory category : GLCallCategory.values()) {
+			int limit = limits[category.ordinal()];
+			int count = gl.getCount(category);
+
+			if (limit >= 0 && count > limit) {
+				if (violations == null)
+					violations = new StringBuilder();
+				else
+					violations.append(", ");
+
+				violations.append(category).append(": ").append(count)
+						.append(" > ").append(limit);
+			}
+		}
+
+		return violations == null ? null : violations.toString();
+	}
+
+}
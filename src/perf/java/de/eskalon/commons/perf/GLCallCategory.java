@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+/**
+ * The categories of GL calls that are counted by a {@link CountingGL20}.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public enum GLCallCategory {
+
+	/**
+	 * {@code glBindFramebuffer}.
+	 */
+	FRAMEBUFFER_BIND,
+	/**
+	 * {@code glViewport}.
+	 */
+	VIEWPORT,
+	/**
+	 * {@code glBindTexture}.
+	 */
+	TEXTURE_BIND,
+	/**
+	 * {@code glClear}.
+	 */
+	CLEAR,
+	/**
+	 * {@code glDrawArrays} and {@code glDrawElements}.
+	 */
+	DRAW,
+	/**
+	 * {@code glUseProgram}.
+	 */
+	PROGRAM_BIND,
+	/**
+	 * {@code glBindBuffer}.
+	 */
+	BUFFER_BIND,
+	/**
+	 * Changes of the fixed-function state, i.e. {@code glEnable},
+	 * {@code glDisable}, the blend functions and equations as well as the
+	 * color & depth masks.
+	 */
+	STATE_CHANGE;
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+
+/**
+ * Sets up the libGDX environment for running code on the calling thread
+ * without a GPU, e.g. in benchmarks. In contrast to {@link HeadlessReplay}, no
+ * application loop is started. The headless application is only created on
+ * the first set up and shared by all later ones, so it must not be exited.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public final class HeadlessEnvironment {
+
+	private static @Nullable HeadlessApplication application;
+
+	private HeadlessEnvironment() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Initializes the {@link Gdx} globals. The graphics report the given size
+	 * and OpenGL is replaced with the given implementation. The headless
+	 * application is created on the first call and reused afterwards.
+	 *
+	 * @param width
+	 *            the width of the (simulated) window in pixels
+	 * @param height
+	 *            the height of the (simulated) window in pixels
+	 * @param gl
+	 *            the GL implementation; usually a {@link NoopGL20}
+	 */
+	public static void setUp(int width, int height, GL20 gl) {
+		if (application == null) {
+			HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+			config.updatesPerSecond = -1; // don't start a render loop
+			application = new HeadlessApplication(new ApplicationAdapter() {
+			}, config);
+		} else {
+			// A HeadlessReplay may have set up its own application since
+			Gdx.app = application;
+		}
+
+		Gdx.graphics = new SizedGraphics(width, height);
+		Gdx.gl = Gdx.gl20 = gl;
+		Gdx.gl30 = null;
+	}
+
+	public static void setUp(int width, int height) {
+		setUp(width, height, new NoopGL20());
+	}
+
+	/**
+	 * Changes the size reported by the graphics.
+	 *
+	 * @param width
+	 *            the width in pixels
+	 * @param height
+	 *            the height in pixels
+	 */
+	public static void setSize(int width, int height) {
+		SizedGraphics graphics = (SizedGraphics) Gdx.graphics;
+		graphics.width = width;
+		graphics.height = height;
+	}
+
+	/**
+	 * Mock graphics reporting a fixed window size; the {@link MockGraphics}
+	 * of the headless backend always report {@code 0x0}.
+	 */
+	static class SizedGraphics extends MockGraphics {
+		int width, height;
+
+		SizedGraphics(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public int getWidth() {
+			return width;
+		}
+
+		@Override
+		public int getHeight() {
+			return height;
+		}
+
+		@Override
+		public int getBackBufferWidth() {
+			return width;
+		}
+
+		@Override
+		public int getBackBufferHeight() {
+			return height;
+		}
+	}
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.core.ManagedGame;
+
+/**
+ * Runs a game in a {@link HeadlessApplication} and replays recorded input to
+ * it. The game is rendered with a fixed time delta and as fast as possible, so
+ * that every run is deterministic. OpenGL is replaced with a {@link NoopGL20}
+ * by default, i.e. no GPU is needed. The graphics report a fixed window size,
+ * so the screen manager's framebuffers can be created.
+ * <p>
+ * The application exits once all recorded frames were replayed or the game
+ * threw an exception.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class HeadlessReplay implements ApplicationListener {
+
+	public static final int DEFAULT_WIDTH = 640, DEFAULT_HEIGHT = 480;
+
+	private final ManagedGame<?, ?> game;
+	private final InputReplayer replayer;
+	private final float delta;
+	private final int width, height;
+	private final GL20 gl;
+	private final CountDownLatch finished = new CountDownLatch(1);
+	private volatile @Nullable RuntimeException failure;
+
+	/**
+	 * @param game
+	 *            the game
+	 * @param replayer
+	 *            the input to replay
+	 * @param delta
+	 *            the fixed time delta in seconds
+	 * @param width
+	 *            the width of the (simulated) window in pixels
+	 * @param height
+	 *            the height of the (simulated) window in pixels
+	 * @param gl
+	 *            the GL implementation to use
+	 */
+	public HeadlessReplay(ManagedGame<?, ?> game, InputReplayer replayer,
+			float delta, int width, int height, GL20 gl) {
+		Preconditions.checkNotNull(game);
+		Preconditions.checkNotNull(replayer);
+		Preconditions.checkArgument(delta > 0);
+		Preconditions.checkArgument(width > 0 && height > 0,
+				"The window size has to be positive");
+		Preconditions.checkNotNull(gl);
+
+		this.game = game;
+		this.replayer = replayer;
+		this.delta = delta;
+		this.width = width;
+		this.height = height;
+		this.gl = gl;
+	}
+
+	public HeadlessReplay(ManagedGame<?, ?> game, InputReplayer replayer,
+			float delta, GL20 gl) {
+		this(game, replayer, delta, DEFAULT_WIDTH, DEFAULT_HEIGHT, gl);
+	}
+
+	public HeadlessReplay(ManagedGame<?, ?> game, InputReplayer replayer,
+			float delta) {
+		this(game, replayer, delta, new NoopGL20());
+	}
+
+	/**
+	 * Starts a headless application replaying the input and waits until it
+	 * has finished.
+	 *
+	 * @param replay
+	 *            the replay
+	 * @throws InterruptedException
+	 *             if the thread was interrupted while waiting
+	 */
+	public static void run(HeadlessReplay replay) throws InterruptedException {
+		HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+		config.updatesPerSecond = 0; // as fast as possible
+		new HeadlessApplication(replay, config);
+
+		replay.awaitCompletion();
+	}
+
+	@Override
+	public void create() {
+		// The game reads the window size when it is created
+		Gdx.graphics = new HeadlessEnvironment.SizedGraphics(width, height);
+		Gdx.gl = Gdx.gl20 = gl;
+
+		try {
+			game.create();
+		} catch (RuntimeException | Error e) {
+			fail(e);
+		}
+	}
+
+	@Override
+	public void render() {
+		if (replayer.isFinished() || failure != null)
+			return;
+
+		try {
+			replayer.replayFrame(game.getInputMultiplexer());
+			game.render(delta);
+		} catch (RuntimeException | Error e) {
+			fail(e);
+			return;
+		}
+
+		if (replayer.isFinished())
+			Gdx.app.exit();
+	}
+
+	/**
+	 * Exits the application; otherwise, the application thread would die
+	 * without exiting.
+	 */
+	private void fail(Throwable e) {
+		failure = e instanceof RuntimeException ? (RuntimeException) e
+				: new RuntimeException(e);
+		Gdx.app.exit();
+	}
+
+	@Override
+	public void resize(int width, int height) {
+		game.resize(width, height);
+	}
+
+	@Override
+	public void pause() {
+		game.pause();
+	}
+
+	@Override
+	public void resume() {
+		game.resume();
+	}
+
+	@Override
+	public void dispose() {
+		try {
+			game.dispose();
+		} finally {
+			finished.countDown();
+		}
+	}
+
+	/**
+	 * Waits until the application has exited.
+	 *
+	 * @throws InterruptedException
+	 *             if the thread was interrupted while waiting
+	 * @throws RuntimeException
+	 *             if the game threw an exception while rendering
+	 */
+	public void awaitCompletion() throws InterruptedException {
+		finished.await();
+
+		if (failure != null)
+			throw failure;
+	}
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.badlogic.gdx.InputProcessor;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.input.InputEventType;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+/**
+ * An input processor that records the events it receives before passing them
+ * on, e.g. to a game's {@link BasicInputMultiplexer}. The recording can be
+ * {@linkplain #write(Path) written} to a compact binary file, which can be
+ * replayed via an {@link InputReplayer}.
+ * <p>
+ * The events are stored along with the index of the frame they were received
+ * in. Thus, {@link #nextFrame()} has to be called once per frame.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class InputRecorder implements InputProcessor {
+
+	/**
+	 * The magic number at the start of a recording ({@code GSMR}).
+	 */
+	static final int MAGIC = 0x47534D52;
+	static final short VERSION = 1;
+	static final int HEADER_SIZE = 4 + 2 + 4 + 4;
+	/**
+	 * The size of an event: the frame, the type, four ints and two floats.
+	 */
+	static final int EVENT_SIZE = 4 + 1 + 4 * 4 + 2 * 4;
+
+	private final InputProcessor target;
+	private ByteBuffer events;
+	private int frame;
+	private int eventCount;
+
+	/**
+	 * @param target
+	 *            the processor the events are passed on to
+	 */
+	public InputRecorder(InputProcessor target) {
+		Preconditions.checkNotNull(target);
+
+		this.target = target;
+		this.events = ByteBuffer.allocate(EVENT_SIZE * 256)
+				.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Has to be called once per frame, after the input events of the frame
+	 * were processed.
+	 */
+	public void nextFrame() {
+		frame++;
+	}
+
+	private boolean record(InputEventType type, int a, int b, int c, int d,
+			float amountX, float amountY) {
+		if (events.remaining() < EVENT_SIZE) {
+			ByteBuffer grown = ByteBuffer.allocate(events.capacity() * 2)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			events.flip();
+			grown.put(events);
+			events = grown;
+		}
+
+		events.putInt(frame);
+		events.put((byte) type.ordinal());
+		events.putInt(a);
+		events.putInt(b);
+		events.putInt(c);
+		events.putInt(d);
+		events.putFloat(amountX);
+		events.putFloat(amountY);
+		eventCount++;
+
+		return type.dispatch(target, a, b, c, d, amountX, amountY);
+	}
+
+	/**
+	 * Writes the recording to a file. The recording is continued afterwards.
+	 *
+	 * @param file
+	 *            the file; is overwritten if it exists
+	 * @throws IOException
+	 *             if writing the file failed
+	 */
+	public void write(Path file) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(MAGIC);
+		header.putShort(VERSION);
+		header.putInt(frame + 1); // the current frame is included
+		header.putInt(eventCount);
+		header.flip();
+
+		ByteBuffer data = events.duplicate();
+		data.flip();
+
+		try (FileChannel channel = FileChannel.open(file,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (header.hasRemaining())
+				channel.write(header);
+			while (data.hasRemaining())
+				channel.write(data);
+		}
+	}
+
+	/**
+	 * @return the index of the current frame
+	 */
+	public int getFrame() {
+		return frame;
+	}
+
+	public int getEventCount() {
+		return eventCount;
+	}
+
+	@Override
+	public boolean keyDown(int keycode) {
+		return record(InputEventType.KEY_DOWN, keycode, 0, 0, 0, 0, 0);
+	}
+
+	@Override
+	public boolean keyUp(int keycode) {
+		return record(InputEventType.KEY_UP, keycode, 0, 0, 0, 0, 0);
+	}
+
+	@Override
+	public boolean keyTyped(char character) {
+		return record(InputEventType.KEY_TYPED, character, 0, 0, 0, 0, 0);
+	}
+
+	@Override
+	public boolean touchDown(int screenX, int screenY, int pointer,
+			int button) {
+		return record(InputEventType.TOUCH_DOWN, screenX, screenY, pointer,
+				button, 0, 0);
+	}
+
+	@Override
+	public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+		return record(InputEventType.TOUCH_UP, screenX, screenY, pointer,
+				button, 0, 0);
+	}
+
+	@Override
+	public boolean touchCancelled(int screenX, int screenY, int pointer,
+			int button) {
+		return record(InputEventType.TOUCH_CANCELLED, screenX, screenY,
+				pointer, button, 0, 0);
+	}
+
+	@Override
+	public boolean touchDragged(int screenX, int screenY, int pointer) {
+		return record(InputEventType.TOUCH_DRAGGED, screenX, screenY, pointer,
+				0, 0, 0);
+	}
+
+	@Override
+	public boolean mouseMoved(int screenX, int screenY) {
+		return record(InputEventType.MOUSE_MOVED, screenX, screenY, 0, 0, 0,
+				0);
+	}
+
+	@Override
+	public boolean scrolled(float amountX, float amountY) {
+		return record(InputEventType.SCROLLED, 0, 0, 0, 0, amountX, amountY);
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.badlogic.gdx.InputProcessor;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.input.InputEventType;
+
+/**
+ * Replays the input {@linkplain InputRecorder recorded} earlier, frame by
+ * frame. Replaying doesn't allocate any objects.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see HeadlessReplay
+ */
+public class InputReplayer {
+
+	private static final InputEventType[] TYPES = InputEventType.values();
+
+	private final ByteBuffer events;
+	private final int frameCount;
+	private final int eventCount;
+	private int frame;
+
+	/**
+	 * @param recording
+	 *            the content of a recording, as written by
+	 *            {@link InputRecorder#write(Path)}
+	 */
+	public InputReplayer(ByteBuffer recording) {
+		ByteBuffer data = recording.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		Preconditions.checkArgument(
+				data.remaining() >= InputRecorder.HEADER_SIZE
+						&& data.getInt() == InputRecorder.MAGIC,
+				"The data is not an input recording");
+		short version = data.getShort();
+		Preconditions.checkArgument(version == InputRecorder.VERSION,
+				"Unsupported recording version: " + version);
+
+		this.frameCount = data.getInt();
+		this.eventCount = data.getInt();
+		Preconditions.checkArgument(
+				data.remaining() == eventCount * InputRecorder.EVENT_SIZE,
+				"The recording is truncated");
+
+		this.events = data.slice().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Reads a recording from a file.
+	 *
+	 * @param file
+	 *            the file
+	 * @return the replayer
+	 * @throws IOException
+	 *             if reading the file failed
+	 */
+	public static InputReplayer read(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file,
+				StandardOpenOption.READ)) {
+			ByteBuffer data = ByteBuffer.allocate((int) channel.size());
+			while (data.hasRemaining()) {
+				if (channel.read(data) < 0)
+					break;
+			}
+			data.flip();
+			return new InputReplayer(data);
+		}
+	}
+
+	/**
+	 * Passes the events of the current frame to the given processor and
+	 * advances to the next frame.
+	 *
+	 * @param target
+	 *            the processor, e.g. the game's input multiplexer
+	 * @return the count of replayed events
+	 */
+	public int replayFrame(InputProcessor target) {
+		int replayed = 0;
+
+		while (events.remaining() >= InputRecorder.EVENT_SIZE
+				&& events.getInt(events.position()) <= frame) {
+			events.getInt(); // the frame
+			InputEventType type = TYPES[events.get()];
+			int a = events.getInt();
+			int b = events.getInt();
+			int c = events.getInt();
+			int d = events.getInt();
+			float amountX = events.getFloat();
+			float amountY = events.getFloat();
+
+			type.dispatch(target, a, b, c, d, amountX, amountY);
+			replayed++;
+		}
+
+		frame++;
+		return replayed;
+	}
+
+	/**
+	 * Starts the replay from the beginning.
+	 */
+	public void reset() {
+		events.rewind();
+		frame = 0;
+	}
+
+	/**
+	 * @return whether all recorded frames were replayed
+	 */
+	public boolean isFinished() {
+		return frame >= frameCount;
+	}
+
+	/**
+	 * @return the index of the next frame to replay
+	 */
+	public int getFrame() {
+		return frame;
+	}
+
+	public int getFrameCount() {
+		return frameCount;
+	}
+
+	public int getEventCount() {
+		return eventCount;
+	}
+
+}
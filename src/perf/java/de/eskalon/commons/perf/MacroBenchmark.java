@@ -0,0 +1,247 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonWriter;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.core.ManagedGame;
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+
+/**
+ * Runs {@linkplain Scenario scenarios} against a {@link ManagedGame} and
+ * measures the time needed for each frame, as well as the allocations and
+ * garbage collections caused by it. In contrast to the JMH benchmarks, this
+ * covers whole sequences of pushes, transitions, resizes, etc.
+ * <p>
+ * The game is run on the calling thread in a {@linkplain HeadlessEnvironment
+ * headless environment} with a fixed time delta, i.e. every run renders the
+ * very same frames. As OpenGL is replaced with a {@link NoopGL20}, the frame
+ * times only include the time spent on the CPU.
+ * <p>
+ * The results can be written as JSON via
+ * {@link #writeReport(Array, Writer)}, so that they can be compared across
+ * library versions.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class MacroBenchmark {
+
+	public static final int DEFAULT_WIDTH = 1280, DEFAULT_HEIGHT = 720;
+	public static final float DEFAULT_DELTA = 1 / 60F;
+
+	private final int width, height;
+	private final float delta;
+	private final int warmupRuns;
+
+	/**
+	 * Sets up the headless environment.
+	 *
+	 * @param width
+	 *            the initial width of the (simulated) window in pixels
+	 * @param height
+	 *            the initial height of the (simulated) window in pixels
+	 * @param delta
+	 *            the fixed time delta in seconds
+	 * @param warmupRuns
+	 *            how often each scenario is run before it is measured; gives
+	 *            the JIT compiler the chance to optimize the code
+	 */
+	public MacroBenchmark(int width, int height, float delta,
+			int warmupRuns) {
+		Preconditions.checkArgument(width > 0 && height > 0);
+		Preconditions.checkArgument(delta > 0);
+		Preconditions.checkArgument(warmupRuns >= 0);
+
+		this.width = width;
+		this.height = height;
+		this.delta = delta;
+		this.warmupRuns = warmupRuns;
+
+		HeadlessEnvironment.setUp(width, height);
+	}
+
+	public MacroBenchmark() {
+		this(DEFAULT_WIDTH, DEFAULT_HEIGHT, DEFAULT_DELTA, 1);
+	}
+
+	/**
+	 * Runs the given scenarios one after another.
+	 *
+	 * @param scenarios
+	 *            the scenarios
+	 * @return the results
+	 */
+	public Array<ScenarioResult> runAll(Array<Scenario> scenarios) {
+		Array<ScenarioResult> results = new Array<>(scenarios.size);
+		for (Scenario scenario : scenarios) {
+			results.add(run(scenario));
+		}
+		return results;
+	}
+
+	/**
+	 * Warms up and runs a scenario.
+	 *
+	 * @param scenario
+	 *            the scenario
+	 * @return the result of the measured run
+	 */
+	public ScenarioResult run(Scenario scenario) {
+		for (int i = 0; i < warmupRuns; i++) {
+			runOnce(scenario, null);
+		}
+
+		FrameTimes frameTimes = new FrameTimes(scenario.getFrameCount());
+
+		long gcCount = getGcCount();
+		long gcTime = getGcTime();
+		long allocatedBytes = AllocationMeter.getAllocatedBytes();
+
+		runOnce(scenario, frameTimes);
+
+		if (allocatedBytes >= 0)
+			allocatedBytes = AllocationMeter.getAllocatedBytes()
+					- allocatedBytes;
+
+		return new ScenarioResult(scenario.getName(), frameTimes,
+				allocatedBytes, getGcCount() - gcCount,
+				getGcTime() - gcTime);
+	}
+
+	private void runOnce(Scenario scenario,
+			@Nullable FrameTimes frameTimes) {
+		HeadlessEnvironment.setSize(width, height);
+
+		ManagedGame<ManagedScreen, ScreenTransition> game = new ManagedGame<>();
+		game.create();
+		scenario.setUp(game);
+
+		try {
+			for (int i = 0; i < scenario.getFrameCount(); i++) {
+				long start = System.nanoTime();
+
+				scenario.update(game, i);
+				game.render(delta);
+
+				if (frameTimes != null)
+					frameTimes.add(System.nanoTime() - start);
+			}
+		} finally {
+			game.dispose();
+			scenario.dispose();
+		}
+	}
+
+	private static long getGcCount() {
+		long count = 0;
+		for (GarbageCollectorMXBean bean : ManagementFactory
+				.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, bean.getCollectionCount());
+		}
+		return count;
+	}
+
+	private static long getGcTime() {
+		long time = 0;
+		for (GarbageCollectorMXBean bean : ManagementFactory
+				.getGarbageCollectorMXBeans()) {
+			time += Math.max(0, bean.getCollectionTime());
+		}
+		return time;
+	}
+
+	/**
+	 * Writes the results as a JSON report.
+	 *
+	 * @param results
+	 *            the results
+	 * @param writer
+	 *            the writer; is not closed
+	 * @throws IOException
+	 *             if writing failed
+	 */
+	public void writeReport(Array<ScenarioResult> results, Writer writer)
+			throws IOException {
+		JsonWriter json = new JsonWriter(writer);
+		json.object();
+		json.set("version", System.getProperty("screenmanager.version",
+				"unknown"));
+		json.set("java", System.getProperty("java.version"));
+		json.set("vm", System.getProperty("java.vm.name"));
+		json.set("width", width);
+		json.set("height", height);
+		json.set("delta", delta);
+		json.set("warmupRuns", warmupRuns);
+
+		json.array("scenarios");
+		for (ScenarioResult result : results) {
+			result.write(json);
+		}
+		json.pop();
+
+		json.pop();
+		json.flush();
+	}
+
+	/**
+	 * Runs the {@linkplain Scenarios#defaults() built-in scenarios}.
+	 *
+	 * @param args
+	 *            the file the report is written to; if omitted, it is printed
+	 *            to the standard output
+	 * @throws IOException
+	 *             if writing the report failed
+	 */
+	public static void main(String[] args) throws IOException {
+		MacroBenchmark benchmark = new MacroBenchmark();
+
+		Array<ScenarioResult> results = benchmark.runAll(Scenarios.defaults());
+
+		if (args.length > 0) {
+			Path file = Paths.get(args[0]);
+			if (file.getParent() != null)
+				Files.createDirectories(file.getParent());
+
+			try (Writer writer = Files.newBufferedWriter(file,
+					StandardCharsets.UTF_8)) {
+				benchmark.writeReport(results, writer);
+			}
+		} else {
+			Writer writer = new OutputStreamWriter(System.out,
+					StandardCharsets.UTF_8);
+			benchmark.writeReport(results, writer);
+			writer.write(System.lineSeparator());
+			writer.flush();
+		}
+	}
+
+}
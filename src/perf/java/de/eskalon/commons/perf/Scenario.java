@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import de.damios.guacamole.Preconditions;
+import de.eskalon.commons.core.ManagedGame;
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+
+/**
+ * A scripted sequence of actions (e.g. pushing screens, resizing or pausing
+ * the game) that is run by the {@link MacroBenchmark} for a fixed count of
+ * frames.
+ * <p>
+ * A scenario may be run multiple times (e.g. for warming up), each time with a
+ * new game. Thus, any state should be initialized in
+ * {@link #setUp(ManagedGame)}.
+ *
+ * @since 0.8.0
+ * @author damios
+ *
+ * @see Scenarios
+ */
+public abstract class Scenario {
+
+	private final String name;
+	private final int frameCount;
+
+	/**
+	 * @param name
+	 *            the name used in the report
+	 * @param frameCount
+	 *            the count of frames to run
+	 */
+	protected Scenario(String name, int frameCount) {
+		Preconditions.checkNotNull(name);
+		Preconditions.checkArgument(frameCount > 0,
+				"The frame count has to be positive");
+
+		this.name = name;
+		this.frameCount = frameCount;
+	}
+
+	/**
+	 * Called after the game was created. Usually pushes the first screen.
+	 *
+	 * @param game
+	 *            the game
+	 */
+	public abstract void setUp(
+			ManagedGame<ManagedScreen, ScreenTransition> game);
+
+	/**
+	 * Called at the start of every frame, before the game is rendered. The
+	 * time spent in this method is measured as part of the frame.
+	 *
+	 * @param game
+	 *            the game
+	 * @param frame
+	 *            the index of the frame
+	 */
+	public abstract void update(
+			ManagedGame<ManagedScreen, ScreenTransition> game, int frame);
+
+	/**
+	 * Called after the game was disposed. Should dispose the resources created
+	 * in {@link #setUp(ManagedGame)}, which are not owned by the game.
+	 */
+	public void dispose() {
+		// not needed by default
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getFrameCount() {
+		return frameCount;
+	}
+
+}
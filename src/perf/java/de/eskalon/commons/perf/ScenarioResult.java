@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import java.io.IOException;
+
+import com.badlogic.gdx.utils.JsonWriter;
+
+/**
+ * The measurements of a single {@linkplain MacroBenchmark#run(Scenario) run}
+ * of a {@link Scenario}.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class ScenarioResult {
+
+	private final String name;
+	private final FrameTimes frameTimes;
+	private final long allocatedBytes;
+	private final long gcCount;
+	private final long gcTimeMillis;
+
+	/**
+	 * @param name
+	 *            the name of the scenario
+	 * @param frameTimes
+	 *            the measured frame times
+	 * @param allocatedBytes
+	 *            the bytes allocated on the rendering thread; {@code -1} if
+	 *            not supported by the JVM
+	 * @param gcCount
+	 *            the count of garbage collections
+	 * @param gcTimeMillis
+	 *            the accumulated time of the garbage collections in
+	 *            milliseconds
+	 */
+	public ScenarioResult(String name, FrameTimes frameTimes,
+			long allocatedBytes, long gcCount, long gcTimeMillis) {
+		this.name = name;
+		this.frameTimes = frameTimes;
+		this.allocatedBytes = allocatedBytes;
+		this.gcCount = gcCount;
+		this.gcTimeMillis = gcTimeMillis;
+	}
+
+	/**
+	 * Writes the result as a JSON object.
+	 *
+	 * @param json
+	 *            the writer
+	 * @throws IOException
+	 *             if writing failed
+	 */
+	public void write(JsonWriter json) throws IOException {
+		json.object();
+		json.set("name", name);
+		json.set("frames", frameTimes.getSize());
+
+		json.object("frameTimeNanos");
+		json.set("mean", frameTimes.getMean());
+		json.set("p50", frameTimes.getPercentile(50));
+		json.set("p95", frameTimes.getPercentile(95));
+		json.set("p99", frameTimes.getPercentile(99));
+		json.set("max", frameTimes.getMax());
+		json.pop();
+
+		json.object("allocation");
+		json.set("bytes", allocatedBytes);
+		json.set("bytesPerFrame", getAllocatedBytesPerFrame());
+		json.set("megabytesPerSecond", getAllocationRate());
+		json.pop();
+
+		json.object("gc");
+		json.set("count", gcCount);
+		json.set("timeMillis", gcTimeMillis);
+		json.pop();
+
+		json.pop();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public FrameTimes getFrameTimes() {
+		return frameTimes;
+	}
+
+	/**
+	 * @return the bytes allocated on the rendering thread; {@code -1} if not
+	 *         supported by the JVM
+	 */
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	/**
+	 * @return the average count of bytes allocated per frame; {@code -1} if
+	 *         not supported by the JVM
+	 */
+	public long getAllocatedBytesPerFrame() {
+		if (allocatedBytes < 0 || frameTimes.getSize() == 0)
+			return -1;
+
+		return allocatedBytes / frameTimes.getSize();
+	}
+
+	/**
+	 * @return the allocated megabytes per second of frame time; {@code -1} if
+	 *         not supported by the JVM
+	 */
+	public double getAllocationRate() {
+		if (allocatedBytes < 0 || frameTimes.getTotal() == 0)
+			return -1;
+
+		return allocatedBytes / (1024D * 1024D)
+				/ (frameTimes.getTotal() / 1_000_000_000D);
+	}
+
+	public long getGcCount() {
+		return gcCount;
+	}
+
+	public long getGcTimeMillis() {
+		return gcTimeMillis;
+	}
+
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import org.jspecify.annotations.Nullable;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+
+import de.eskalon.commons.core.ManagedGame;
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingQuadTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingTransition;
+import de.eskalon.commons.screen.transition.impl.PushQuadTransition;
+import de.eskalon.commons.screen.transition.impl.PushTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingDirection;
+import de.eskalon.commons.screen.transition.impl.SlidingInQuadTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingInTransition;
+
+/**
+ * The built-in {@linkplain Scenario scenarios}. Apart from a baseline without
+ * any transitions, they stress the screen manager in ways that are typical
+ * for hitches in real games. The scenarios pushing screens are available with
+ * both the sprite batch based transitions and their quad based counterparts.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public final class Scenarios {
+
+	/**
+	 * The frame count used by {@link #defaults()}; about 50 seconds at 60 FPS.
+	 */
+	public static final int DEFAULT_FRAME_COUNT = 3000;
+
+	private Scenarios() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @return all built-in scenarios, each running for
+	 *         {@value #DEFAULT_FRAME_COUNT} frames
+	 */
+	public static Array<Scenario> defaults() {
+		Array<Scenario> scenarios = new Array<>();
+		scenarios.add(steadyState(DEFAULT_FRAME_COUNT));
+		scenarios.add(transitions(DEFAULT_FRAME_COUNT, false));
+		scenarios.add(transitions(DEFAULT_FRAME_COUNT, true));
+		scenarios.add(rapidNavigation(DEFAULT_FRAME_COUNT, false));
+		scenarios.add(rapidNavigation(DEFAULT_FRAME_COUNT, true));
+		scenarios.add(resizeStorm(DEFAULT_FRAME_COUNT, false));
+		scenarios.add(resizeStorm(DEFAULT_FRAME_COUNT, true));
+		scenarios.add(pauseResume(DEFAULT_FRAME_COUNT, false));
+		scenarios.add(pauseResume(DEFAULT_FRAME_COUNT, true));
+		return scenarios;
+	}
+
+	/**
+	 * A single screen is rendered; serves as a baseline.
+	 */
+	public static Scenario steadyState(int frameCount) {
+		return new NavigationScenario("steadyState", frameCount) {
+			@Override
+			protected ScreenTransition createTransition() {
+				return new BlendingQuadTransition(1F);
+			}
+
+			@Override
+			public void update(
+					ManagedGame<ManagedScreen, ScreenTransition> game,
+					int frame) {
+				// nothing happens
+			}
+		};
+	}
+
+	/**
+	 * Uses the sprite batch based transition.
+	 *
+	 * @see #transitions(int, boolean)
+	 */
+	public static Scenario transitions(int frameCount) {
+		return transitions(frameCount, false);
+	}
+
+	/**
+	 * Every second, a new screen is pushed with a half-second transition.
+	 *
+	 * @param quad
+	 *            whether a {@link BlendingQuadTransition} is used instead of a
+	 *            {@link BlendingTransition}
+	 */
+	public static Scenario transitions(int frameCount, boolean quad) {
+		return new NavigationScenario(name("transitions", quad), frameCount) {
+			@Override
+			protected ScreenTransition createTransition() {
+				return quad ? new BlendingQuadTransition(0.5F)
+						: new BlendingTransition(getBatch(), 0.5F);
+			}
+
+			@Override
+			public void update(
+					ManagedGame<ManagedScreen, ScreenTransition> game,
+					int frame) {
+				if (frame % 60 == 0)
+					navigate(game);
+			}
+		};
+	}
+
+	/**
+	 * Uses the sprite batch based transition.
+	 *
+	 * @see #rapidNavigation(int, boolean)
+	 */
+	public static Scenario rapidNavigation(int frameCount) {
+		return rapidNavigation(frameCount, false);
+	}
+
+	/**
+	 * Simulates a user clicking through menus as fast as possible: every
+	 * second, five screens are pushed in quick succession. Most of the pushes
+	 * happen while a transition is still going on and are thus queued.
+	 *
+	 * @param quad
+	 *            whether a {@link PushQuadTransition} is used instead of a
+	 *            {@link PushTransition}
+	 */
+	public static Scenario rapidNavigation(int frameCount, boolean quad) {
+		return new NavigationScenario(name("rapidNavigation", quad),
+				frameCount) {
+			@Override
+			protected ScreenTransition createTransition() {
+				return quad
+						? new PushQuadTransition(SlidingDirection.LEFT, 0.15F)
+						: new PushTransition(getBatch(), SlidingDirection.LEFT,
+								0.15F);
+			}
+
+			@Override
+			public void update(
+					ManagedGame<ManagedScreen, ScreenTransition> game,
+					int frame) {
+				if (frame % 60 < 10 && frame % 2 == 0)
+					navigate(game);
+			}
+		};
+	}
+
+	/**
+	 * Uses the sprite batch based transition.
+	 *
+	 * @see #resizeStorm(int, boolean)
+	 */
+	public static Scenario resizeStorm(int frameCount) {
+		return resizeStorm(frameCount, false);
+	}
+
+	/**
+	 * The window is resized every frame, e.g. because the user drags its
+	 * border, while transitions are going on. Every resize recreates the
+	 * screen manager's framebuffers.
+	 *
+	 * @param quad
+	 *            whether a {@link SlidingInQuadTransition} is used instead of
+	 *            a {@link SlidingInTransition}
+	 */
+	public static Scenario resizeStorm(int frameCount, boolean quad) {
+		return new NavigationScenario(name("resizeStorm", quad), frameCount) {
+			private int baseWidth, baseHeight;
+
+			@Override
+			protected ScreenTransition createTransition() {
+				return quad
+						? new SlidingInQuadTransition(SlidingDirection.UP, 0.5F)
+						: new SlidingInTransition(getBatch(),
+								SlidingDirection.UP, 0.5F);
+			}
+
+			@Override
+			public void setUp(
+					ManagedGame<ManagedScreen, ScreenTransition> game) {
+				super.setUp(game);
+				baseWidth = Gdx.graphics.getWidth();
+				baseHeight = Gdx.graphics.getHeight();
+			}
+
+			@Override
+			public void update(
+					ManagedGame<ManagedScreen, ScreenTransition> game,
+					int frame) {
+				if (frame % 60 == 0)
+					navigate(game);
+
+				int step = frame % 16;
+				int width = Math.max(1, baseWidth - step * 16);
+				int height = Math.max(1, baseHeight - step * 9);
+				HeadlessEnvironment.setSize(width, height);
+				game.resize(width, height);
+			}
+		};
+	}
+
+	/**
+	 * Uses the sprite batch based transition.
+	 *
+	 * @see #pauseResume(int, boolean)
+	 */
+	public static Scenario pauseResume(int frameCount) {
+		return pauseResume(frameCount, false);
+	}
+
+	/**
+	 * The game is repeatedly paused and resumed (e.g. when the app is moved to
+	 * the background on mobile) while transitions are going on.
+	 *
+	 * @param quad
+	 *            whether a {@link BlendingQuadTransition} is used instead of a
+	 *            {@link BlendingTransition}
+	 */
+	public static Scenario pauseResume(int frameCount, boolean quad) {
+		return new NavigationScenario(name("pauseResume", quad), frameCount) {
+			@Override
+			protected ScreenTransition createTransition() {
+				return quad ? new BlendingQuadTransition(0.25F)
+						: new BlendingTransition(getBatch(), 0.25F);
+			}
+
+			@Override
+			public void update(
+					ManagedGame<ManagedScreen, ScreenTransition> game,
+					int frame) {
+				if (frame % 30 == 0)
+					navigate(game);
+
+				if (frame % 7 == 0) {
+					game.pause();
+					game.resume();
+				}
+			}
+		};
+	}
+
+	private static String name(String name, boolean quad) {
+		return quad ? name + "Quad" : name;
+	}
+
+	/**
+	 * A scenario that alternately pushes two empty screens, always using the
+	 * same transition.
+	 */
+	private static abstract class NavigationScenario extends Scenario {
+
+		private final ManagedScreen[] screens = new ManagedScreen[2];
+		private ScreenTransition transition;
+		private @Nullable SpriteBatch batch;
+		private int next;
+
+		NavigationScenario(String name, int frameCount) {
+			super(name, frameCount);
+		}
+
+		protected abstract ScreenTransition createTransition();
+
+		/**
+		 * @return a sprite batch for the transition; is created on first use
+		 *         and disposed together with the scenario
+		 */
+		protected SpriteBatch getBatch() {
+			if (batch == null)
+				batch = new SpriteBatch();
+			return batch;
+		}
+
+		@Override
+		public void setUp(ManagedGame<ManagedScreen, ScreenTransition> game) {
+			screens[0] = new EmptyScreen();
+			screens[1] = new EmptyScreen();
+			transition = createTransition();
+
+			game.getScreenManager().pushScreen(screens[0], null);
+			next = 1;
+		}
+
+		protected void navigate(
+				ManagedGame<ManagedScreen, ScreenTransition> game) {
+			// Consecutive screens have to differ, as a screen cannot be pushed
+			// twice in a row
+			game.getScreenManager().pushScreen(screens[next], transition);
+			next = 1 - next;
+		}
+
+		@Override
+		public void dispose() {
+			// The transition may already have been disposed by the screen
+			// manager; this is fine, as disposing it twice has no effect
+			transition.dispose();
+
+			if (batch != null) {
+				batch.dispose();
+				batch = null;
+			}
+		}
+
+	}
+
+	private static class EmptyScreen extends ManagedScreen {
+		@Override
+		public void render(float delta) {
+			// don't render anything
+		}
+
+		@Override
+		public void resize(int width, int height) {
+			// not needed
+		}
+
+		@Override
+		public void dispose() {
+			// not needed
+		}
+	}
+
+}
@@ -1,8 +1,15 @@
 package de.eskalon.commons.input;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
 
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.InputProcessor;
@@ -36,4 +43,140 @@ public class BasicInputMultiplexerTest {
 		assertEquals(0, i.getProcessors().size);
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void testGroups() {
+		BasicInputMultiplexer i = new BasicInputMultiplexer();
+		StringBuilder order = new StringBuilder();
+
+		i.addProcessor(new OrderedProcessor(order, "g"));
+
+		Array<InputProcessor> screenProcessors = new Array<>();
+		screenProcessors.add(new OrderedProcessor(order, "s"));
+		i.setGroup(BasicInputMultiplexer.SCREEN_GROUP, screenProcessors);
+
+		Array<InputProcessor> overlayProcessors = new Array<>();
+		overlayProcessors.add(new OrderedProcessor(order, "o"));
+		i.addGroup("overlay", 100);
+		i.setGroup("overlay", overlayProcessors);
+
+		assertEquals(3, i.size());
+		Array<InputProcessor> all = i.getAllProcessors(new Array<>());
+		assertEquals(3, all.size);
+		assertSame(overlayProcessors.first(), all.first());
+		assertSame(screenProcessors.first(), all.peek());
+
+		// getProcessors() returns the live global group
+		assertEquals(1, i.getProcessors().size);
+		i.getProcessors().add(new OrderedProcessor(order, "h"));
+		assertEquals(4, i.size());
+		assertEquals(4, i.getAllProcessors(all).size);
+		i.getProcessors().pop();
+
+		// Dispatched in priority order
+		assertFalse(i.keyDown(0));
+		assertEquals("ogs", order.toString());
+
+		// Replacing a group
+		i.setGroup(BasicInputMultiplexer.SCREEN_GROUP, null);
+		assertNull(i.getGroup(BasicInputMultiplexer.SCREEN_GROUP));
+		assertEquals(2, i.size());
+
+		order.setLength(0);
+		assertFalse(i.touchDown(0, 0, 0, 0));
+		assertEquals("og", order.toString());
+
+		// Handled events are not passed on
+		overlayProcessors.add(new InputAdapter() {
+			@Override
+			public boolean scrolled(float amountX, float amountY) {
+				return true;
+			}
+		});
+		order.setLength(0);
+		assertTrue(i.scrolled(0, 1));
+		assertEquals("o", order.toString());
+
+		// Clearing detaches the groups' arrays
+		i.clear();
+		assertEquals(0, i.size());
+		assertEquals(0, i.getProcessors().size);
+		assertEquals(0, i.getAllProcessors(all).size);
+		assertNull(i.getGroup("overlay"));
+		assertEquals(2, overlayProcessors.size);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> i.addGroup("overlay", 0));
+		assertThrows(IllegalArgumentException.class, () -> i
+				.setGroup(BasicInputMultiplexer.GLOBAL_GROUP, overlayProcessors));
+		assertThrows(IllegalArgumentException.class,
+				() -> i.setGroup("unknown", overlayProcessors));
+	}
+
+	@Test
+	public void testCoalescing() {
+		BasicInputMultiplexer i = new BasicInputMultiplexer();
+		InputProcessor processor = Mockito.spy(new InputAdapter());
+		i.addProcessor(processor);
+		i.setCoalescingPointerMotion(true);
+
+		i.mouseMoved(1, 1);
+		i.mouseMoved(2, 2);
+		i.touchDragged(3, 3, 1);
+		i.touchDragged(4, 4, 1);
+		i.touchDragged(5, 5, 2);
+		Mockito.verifyNoInteractions(processor);
+		assertEquals(2, i.getCoalescedCount());
+
+		// Discrete events flush the pending motion first
+		i.touchDown(6, 6, 1, 0);
+		i.touchDragged(7, 7, 1);
+		i.touchDragged(8, 8, 1);
+		i.flush();
+		i.flush();
+
+		InOrder order = Mockito.inOrder(processor);
+		order.verify(processor).touchDragged(4, 4, 1);
+		order.verify(processor).touchDragged(5, 5, 2);
+		order.verify(processor).mouseMoved(2, 2);
+		order.verify(processor).touchDown(6, 6, 1, 0);
+		order.verify(processor).touchDragged(8, 8, 1);
+		Mockito.verifyNoMoreInteractions(processor);
+
+		// Disabling coalescing flushes the pending motion as well
+		i.mouseMoved(9, 9);
+		i.setCoalescingPointerMotion(false);
+		Mockito.verify(processor).mouseMoved(9, 9);
+		i.mouseMoved(10, 10);
+		Mockito.verify(processor).mouseMoved(10, 10);
+	}
+
+	private static class OrderedProcessor extends InputAdapter {
+		private final StringBuilder order;
+		private final String name;
+
+		OrderedProcessor(StringBuilder order, String name) {
+			this.order = order;
+			this.name = name;
+		}
+
+		@Override
+		public boolean keyDown(int keycode) {
+			order.append(name);
+			return false;
+		}
+
+		@Override
+		public boolean touchDown(int screenX, int screenY, int pointer,
+				int button) {
+			order.append(name);
+			return false;
+		}
+
+		@Override
+		public boolean scrolled(float amountX, float amountY) {
+			order.append(name);
+			return false;
+		}
+	}
+
+}
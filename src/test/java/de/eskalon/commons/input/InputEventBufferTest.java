@@ -0,0 +1,71 @@
+package de.eskalon.commons.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.utils.Array;
+
+public class InputEventBufferTest {
+
+	@Test
+	public void testReplay() {
+		InputEventBuffer buffer = new InputEventBuffer(3);
+
+		assertTrue(buffer.keyDown(1));
+		assertTrue(buffer.touchDown(2, 3, 0, 1));
+		assertFalse(buffer.mouseMoved(4, 5)); // filtered by default
+		assertTrue(buffer.scrolled(0, -1));
+		assertEquals(3, buffer.getSize());
+
+		InputProcessor processor = Mockito.spy(new InputAdapter());
+		Array<InputProcessor> processors = new Array<>();
+		processors.add(processor);
+
+		assertEquals(3, buffer.replay(processors));
+		assertEquals(0, buffer.getSize());
+
+		InOrder order = Mockito.inOrder(processor);
+		order.verify(processor).keyDown(1);
+		order.verify(processor).touchDown(2, 3, 0, 1);
+		order.verify(processor).scrolled(0, -1);
+		Mockito.verifyNoMoreInteractions(processor);
+	}
+
+	@Test
+	public void testLimits() throws InterruptedException {
+		InputEventBuffer buffer = new InputEventBuffer(2);
+		buffer.setEnabled(InputEventType.KEY_UP, false);
+
+		assertFalse(buffer.keyUp(0));
+		buffer.keyDown(1);
+		buffer.keyDown(2);
+		buffer.keyDown(3); // the oldest event is dropped
+		assertEquals(2, buffer.getSize());
+		assertEquals(1, buffer.getDroppedCount());
+
+		InputProcessor processor = Mockito.spy(new InputAdapter());
+		Array<InputProcessor> processors = new Array<>();
+		processors.add(processor);
+
+		buffer.replay(processors);
+		Mockito.verify(processor, Mockito.never()).keyDown(1);
+		Mockito.verify(processor).keyDown(2);
+		Mockito.verify(processor).keyDown(3);
+
+		// Events that are too old are discarded
+		buffer.setMaxAge(0.001F);
+		buffer.keyDown(4);
+		Thread.sleep(10);
+		assertEquals(0, buffer.replay(processors));
+		Mockito.verify(processor, Mockito.never()).keyDown(4);
+		assertEquals(2, buffer.getDroppedCount());
+	}
+
+}
@@ -0,0 +1,115 @@
+package de.eskalon.commons.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import de.eskalon.commons.perf.HeadlessEnvironment;
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ManagedScreenAdapter;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrScreenManagerListenerTest {
+
+	private static final long SLEEP_MILLIS = 10;
+
+	@Test
+	public void testEvents() throws IOException {
+		HeadlessEnvironment.setUp(640, 360);
+		File file = File.createTempFile("screenmanager", ".jfr");
+
+		try (Recording recording = new Recording()) {
+			recording.enable(ScreenLifecycleEvent.class);
+			recording.enable(TransitionEvent.class);
+			recording.enable(TransitionFrameEvent.class);
+			recording.enable(FramebufferRebuildEvent.class);
+			recording.start();
+
+			ScreenManager<ManagedScreen, ScreenTransition> sm = new ScreenManager<>();
+			sm.addListener(new JfrScreenManagerListener());
+			sm.initialize(new BasicInputMultiplexer(), 640, 360, false);
+
+			sm.pushScreen(new ManagedScreenAdapter(), null);
+			sm.pushScreen(new ManagedScreenAdapter(),
+					new BlankTimedTransition(1) {
+						@Override
+						public void render(float delta,
+								TextureRegion lastScreen,
+								TextureRegion currScreen, float progress) {
+							try {
+								Thread.sleep(SLEEP_MILLIS);
+							} catch (InterruptedException e) {
+								Thread.currentThread().interrupt();
+							}
+						}
+					});
+			sm.render(0.25F);
+			sm.render(0.25F);
+			sm.render(0.25F);
+			sm.render(0.25F);
+			sm.render(0.25F); // the transition is finished
+			sm.dispose();
+
+			recording.stop();
+			recording.dump(file.toPath());
+
+			List<RecordedEvent> events = RecordingFile
+					.readAllEvents(file.toPath());
+			List<String> steps = events.stream()
+					.filter(e -> e.getEventType().getName()
+							.equals("de.eskalon.commons.ScreenLifecycle"))
+					.map(e -> e.getString("step"))
+					.collect(Collectors.toList());
+			assertEquals(8, steps.size(), steps.toString());
+			assertEquals(ScreenLifecycleEvent.PUSHED, steps.get(0));
+			assertEquals(ScreenLifecycleEvent.DISPOSED, steps.get(7));
+
+			assertEquals(1, count(events, "de.eskalon.commons.Transition"));
+			assertEquals(4,
+					count(events, "de.eskalon.commons.TransitionFrame"));
+			assertEquals(1,
+					count(events, "de.eskalon.commons.FramebufferRebuild"));
+
+			RecordedEvent transition = events.stream()
+					.filter(e -> e.getEventType().getName()
+							.equals("de.eskalon.commons.Transition"))
+					.findFirst().get();
+			assertEquals(4, transition.getInt("frameCount"));
+			assertTrue(transition.getDuration().toNanos() > 0);
+
+			// The frame events span their frame
+			events.stream()
+					.filter(e -> e.getEventType().getName()
+							.equals("de.eskalon.commons.TransitionFrame"))
+					.forEach(e -> {
+						assertTrue(e.getDuration()
+								.toMillis() >= SLEEP_MILLIS - 1,
+								e.getDuration().toString());
+						assertTrue(e.getEndTime()
+								.isBefore(transition.getEndTime()));
+					});
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static long count(List<RecordedEvent> events, String name) {
+		return events.stream()
+				.filter(e -> e.getEventType().getName().equals(name)).count();
+	}
+
+}
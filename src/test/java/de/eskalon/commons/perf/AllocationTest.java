@@ -0,0 +1,225 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.hud.PerformanceHud;
+import de.eskalon.commons.screen.quality.QualityTier;
+import de.eskalon.commons.screen.trace.TraceRecorder;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingQuadTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingTransition;
+import de.eskalon.commons.screen.transition.impl.BlurTransition;
+import de.eskalon.commons.screen.transition.impl.GLTransitionsShaderTransition;
+import de.eskalon.commons.screen.transition.impl.HorizontalSlicingShaderTransition;
+import de.eskalon.commons.screen.transition.impl.HorizontalSlicingTransition;
+import de.eskalon.commons.screen.transition.impl.PushQuadTransition;
+import de.eskalon.commons.screen.transition.impl.PushTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingDirection;
+import de.eskalon.commons.screen.transition.impl.SlidingInQuadTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingInTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingOutQuadTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingOutTransition;
+import de.eskalon.commons.screen.transition.impl.VerticalSlicingShaderTransition;
+import de.eskalon.commons.screen.transition.impl.VerticalSlicingTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+/**
+ * Makes sure that rendering a frame doesn't allocate any objects, neither in
+ * the steady state nor while a transition is going on.
+ * <p>
+ * Is run in a separate JVM via {@code gradlew allocationTest}: once Mockito
+ * mocked a class (e.g. {@code FrameBuffer}), the instrumented methods
+ * allocate objects on every call.
+ */
+@Tag("allocation")
+public class AllocationTest {
+
+	private static final int WIDTH = 640, HEIGHT = 360;
+	private static final float DELTA = 1 / 60F;
+	/**
+	 * Long enough for the transitions to never finish.
+	 */
+	private static final float DURATION = Float.MAX_VALUE;
+	private static final int WARMUP_FRAMES = 20000;
+	private static final int MEASURED_FRAMES = 5000;
+
+	private static SpriteBatch batch;
+
+	@BeforeAll
+	public static void setUp() {
+		assumeTrue(AllocationMeter.isSupported());
+
+		HeadlessEnvironment.setUp(WIDTH, HEIGHT);
+		batch = new SpriteBatch();
+	}
+
+	@AfterAll
+	public static void tearDown() {
+		if (batch != null) {
+			batch.dispose();
+		}
+	}
+
+	@Test
+	public void testSteadyState() {
+		assertNoAllocations("steady state", null);
+	}
+
+	@Test
+	public void testTransitions() {
+		assertNoAllocations("BlankTimedTransition",
+				new BlankTimedTransition(DURATION));
+		assertNoAllocations("BlendingTransition",
+				new BlendingTransition(batch, DURATION));
+		assertNoAllocations("BlendingQuadTransition",
+				new BlendingQuadTransition(DURATION));
+		assertNoAllocations("PushTransition",
+				new PushTransition(batch, SlidingDirection.LEFT, DURATION));
+		assertNoAllocations("PushQuadTransition",
+				new PushQuadTransition(SlidingDirection.LEFT, DURATION));
+		assertNoAllocations("SlidingInTransition",
+				new SlidingInTransition(batch, SlidingDirection.UP, DURATION));
+		assertNoAllocations("SlidingInQuadTransition",
+				new SlidingInQuadTransition(SlidingDirection.UP, DURATION));
+		assertNoAllocations("SlidingOutTransition", new SlidingOutTransition(
+				batch, SlidingDirection.DOWN, DURATION));
+		assertNoAllocations("SlidingOutQuadTransition",
+				new SlidingOutQuadTransition(SlidingDirection.DOWN, DURATION));
+		assertNoAllocations("HorizontalSlicingTransition",
+				new HorizontalSlicingTransition(batch, 8, DURATION));
+		assertNoAllocations("VerticalSlicingTransition",
+				new VerticalSlicingTransition(batch, 8, DURATION));
+		assertNoAllocations("HorizontalSlicingShaderTransition",
+				new HorizontalSlicingShaderTransition(8, DURATION));
+		assertNoAllocations("VerticalSlicingShaderTransition",
+				new VerticalSlicingShaderTransition(8, DURATION));
+		assertNoAllocations("GLTransitionsShaderTransition",
+				new GLTransitionsShaderTransition(
+						"vec4 transition(vec2 uv) {\n"
+								+ "	return mix(getFromColor(uv), getToColor(uv), progress);\n"
+								+ "}",
+						DURATION, null));
+	}
+
+	@Test
+	public void testBlurTransition() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = createScreenManager();
+		assertNoAllocations(sm, "BlurTransition", new BlurTransition(
+				sm.getFrameBufferPool(), QualityTier.HIGH, DURATION));
+	}
+
+	@Test
+	public void testPerformanceHud() {
+		PerformanceHud hud = new PerformanceHud();
+		try {
+			ScreenManager<ManagedScreen, ScreenTransition> sm = createScreenManager();
+			sm.setPerformanceHud(hud);
+			assertNoAllocations(sm, "PerformanceHud",
+					new BlendingQuadTransition(DURATION));
+		} finally {
+			hud.dispose();
+		}
+	}
+
+	@Test
+	public void testTraceRecorder() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = createScreenManager();
+		sm.setTraceRecorder(new TraceRecorder(1024));
+		assertNoAllocations(sm, "TraceRecorder",
+				new BlendingQuadTransition(DURATION));
+	}
+
+	private static ScreenManager<ManagedScreen, ScreenTransition> createScreenManager() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = new ScreenManager<>();
+		sm.initialize(new BasicInputMultiplexer(), WIDTH, HEIGHT, false);
+		return sm;
+	}
+
+	private static void assertNoAllocations(String name,
+			ScreenTransition transition) {
+		assertNoAllocations(createScreenManager(), name, transition);
+	}
+
+	/**
+	 * Renders the given transition until the JIT compiler had the chance to
+	 * optimize the code and then measures the allocations. A single
+	 * allocation per frame would amount to at least 16 bytes per frame; less
+	 * than one byte per frame can only be caused by the JVM itself (e.g. by
+	 * deoptimizations).
+	 */
+	private static void assertNoAllocations(
+			ScreenManager<ManagedScreen, ScreenTransition> sm, String name,
+			ScreenTransition transition) {
+		try {
+			sm.pushScreen(new EmptyScreen(), null);
+			sm.render(DELTA);
+			if (transition != null)
+				sm.pushScreen(new EmptyScreen(), transition);
+
+			for (int i = 0; i < WARMUP_FRAMES; i++) {
+				sm.render(DELTA);
+			}
+
+			// Take the best of three runs to filter out noise
+			long minAllocated = Long.MAX_VALUE;
+			for (int run = 0; run < 3; run++) {
+				long start = AllocationMeter.getAllocatedBytes();
+				for (int i = 0; i < MEASURED_FRAMES; i++) {
+					sm.render(DELTA);
+				}
+				minAllocated = Math.min(minAllocated,
+						AllocationMeter.getAllocatedBytes() - start);
+			}
+
+			assertTrue(minAllocated < MEASURED_FRAMES,
+					name + " allocated " + minAllocated + " bytes in "
+							+ MEASURED_FRAMES + " frames");
+		} finally {
+			sm.dispose();
+		}
+	}
+
+	private static class EmptyScreen extends ManagedScreen {
+		@Override
+		public void render(float delta) {
+			// don't render anything
+		}
+
+		@Override
+		public void resize(int width, int height) {
+			// not needed
+		}
+
+		@Override
+		public void dispose() {
+			// not needed
+		}
+	}
+
+}
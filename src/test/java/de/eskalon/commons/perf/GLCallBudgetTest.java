@@ -0,0 +1,236 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.quality.QualityTier;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingQuadTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingTransition;
+import de.eskalon.commons.screen.transition.impl.BlurTransition;
+import de.eskalon.commons.screen.transition.impl.GLTransitionsShaderTransition;
+import de.eskalon.commons.screen.transition.impl.HorizontalSlicingShaderTransition;
+import de.eskalon.commons.screen.transition.impl.HorizontalSlicingTransition;
+import de.eskalon.commons.screen.transition.impl.PushQuadTransition;
+import de.eskalon.commons.screen.transition.impl.PushTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingDirection;
+import de.eskalon.commons.screen.transition.impl.SlidingInQuadTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingInTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingOutQuadTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingOutTransition;
+import de.eskalon.commons.screen.transition.impl.VerticalSlicingShaderTransition;
+import de.eskalon.commons.screen.transition.impl.VerticalSlicingTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+/**
+ * Checks the GL calls issued per frame against golden budgets. Buffer binds
+ * aren't limited, as they depend on libGDX's mesh implementation.
+ */
+public class GLCallBudgetTest {
+
+	private static final int WIDTH = 640, HEIGHT = 360;
+	private static final float DELTA = 1 / 60F;
+	/**
+	 * Long enough for the transitions to never finish.
+	 */
+	private static final float DURATION = Float.MAX_VALUE;
+
+	private static CountingGL20 gl;
+	private static SpriteBatch batch;
+
+	@BeforeAll
+	public static void setUp() {
+		gl = new CountingGL20();
+		HeadlessEnvironment.setUp(WIDTH, HEIGHT, gl);
+		batch = new SpriteBatch();
+	}
+
+	@AfterAll
+	public static void tearDown() {
+		batch.dispose();
+	}
+
+	@Test
+	public void testBudget() {
+		gl.reset();
+		gl.glClear(0);
+		gl.glDrawArrays(0, 0, 4);
+		gl.glDrawArrays(0, 0, 4);
+		assertEquals(3, gl.getTotalCount());
+
+		GLCallBudget budget = new GLCallBudget()
+				.limit(GLCallCategory.CLEAR, 1);
+		assertEquals(-1, budget.getLimit(GLCallCategory.DRAW));
+		assertNull(budget.check(gl));
+
+		budget.limit(GLCallCategory.DRAW, 1);
+		assertEquals("DRAW: 2 > 1", budget.check(gl));
+
+		gl.reset();
+		assertEquals(0, gl.getTotalCount());
+		assertNull(budget.check(gl));
+	}
+
+	@Test
+	public void testSteadyState() {
+		assertWithinBudget("steady state", null,
+				budget(0, 0, 0, 1, 0, 0, 0));
+	}
+
+	@Test
+	public void testTransitions() {
+		assertWithinBudget("BlankTimedTransition",
+				new BlankTimedTransition(DURATION),
+				budget(4, 4, 0, 3, 0, 0, 0));
+
+		GLCallBudget batchBudget = budget(4, 5, 2, 3, 2, 1, 7);
+		assertWithinBudget("BlendingTransition",
+				new BlendingTransition(batch, DURATION), batchBudget);
+		assertWithinBudget("PushTransition",
+				new PushTransition(batch, SlidingDirection.LEFT, DURATION),
+				batchBudget);
+		assertWithinBudget("SlidingInTransition",
+				new SlidingInTransition(batch, SlidingDirection.UP, DURATION),
+				batchBudget);
+		assertWithinBudget("SlidingOutTransition",
+				new SlidingOutTransition(batch, SlidingDirection.DOWN,
+						DURATION),
+				batchBudget);
+
+		GLCallBudget quadBudget = budget(4, 5, 2, 3, 2, 1, 3);
+		assertWithinBudget("BlendingQuadTransition",
+				new BlendingQuadTransition(DURATION), quadBudget);
+		assertWithinBudget("PushQuadTransition",
+				new PushQuadTransition(SlidingDirection.LEFT, DURATION),
+				quadBudget);
+		assertWithinBudget("SlidingInQuadTransition",
+				new SlidingInQuadTransition(SlidingDirection.UP, DURATION),
+				quadBudget);
+		assertWithinBudget("SlidingOutQuadTransition",
+				new SlidingOutQuadTransition(SlidingDirection.DOWN, DURATION),
+				quadBudget);
+
+		assertWithinBudget("HorizontalSlicingTransition",
+				new HorizontalSlicingTransition(batch, 8, DURATION),
+				batchBudget);
+		assertWithinBudget("VerticalSlicingTransition",
+				new VerticalSlicingTransition(batch, 8, DURATION),
+				batchBudget);
+
+		GLCallBudget shaderBudget = budget(4, 5, 2, 3, 1, 2, 4);
+		assertWithinBudget("HorizontalSlicingShaderTransition",
+				new HorizontalSlicingShaderTransition(8, DURATION),
+				shaderBudget);
+		assertWithinBudget("VerticalSlicingShaderTransition",
+				new VerticalSlicingShaderTransition(8, DURATION),
+				shaderBudget);
+		assertWithinBudget("GLTransitionsShaderTransition",
+				new GLTransitionsShaderTransition(
+						"vec4 transition(vec2 uv) {\n"
+								+ "	return mix(getFromColor(uv), getToColor(uv), progress);\n"
+								+ "}",
+						DURATION, null),
+				budget(4, 5, 2, 3, 1, 1, 4));
+	}
+
+	@Test
+	public void testBlurTransition() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = createScreenManager();
+		// 2 screens + 8 passes
+		assertWithinBudget(sm, "BlurTransition",
+				new BlurTransition(sm.getFrameBufferPool(), QualityTier.HIGH,
+						DURATION),
+				budget(18, 19, 6, 3, 8, 8, 4));
+	}
+
+	private static GLCallBudget budget(int framebufferBinds, int viewports,
+			int textureBinds, int clears, int draws, int programBinds,
+			int stateChanges) {
+		return new GLCallBudget()
+				.limit(GLCallCategory.FRAMEBUFFER_BIND, framebufferBinds)
+				.limit(GLCallCategory.VIEWPORT, viewports)
+				.limit(GLCallCategory.TEXTURE_BIND, textureBinds)
+				.limit(GLCallCategory.CLEAR, clears)
+				.limit(GLCallCategory.DRAW, draws)
+				.limit(GLCallCategory.PROGRAM_BIND, programBinds)
+				.limit(GLCallCategory.STATE_CHANGE, stateChanges);
+	}
+
+	private static ScreenManager<ManagedScreen, ScreenTransition> createScreenManager() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = new ScreenManager<>();
+		sm.initialize(new BasicInputMultiplexer(), WIDTH, HEIGHT, false);
+		return sm;
+	}
+
+	private static void assertWithinBudget(String name,
+			ScreenTransition transition, GLCallBudget budget) {
+		assertWithinBudget(createScreenManager(), name, transition, budget);
+	}
+
+	/**
+	 * Checks a frame of an ongoing transition; the first frames are skipped,
+	 * as resources may be created lazily.
+	 */
+	private static void assertWithinBudget(
+			ScreenManager<ManagedScreen, ScreenTransition> sm, String name,
+			ScreenTransition transition, GLCallBudget budget) {
+		try {
+			sm.pushScreen(new EmptyScreen(), null);
+			sm.render(DELTA);
+			if (transition != null)
+				sm.pushScreen(new EmptyScreen(), transition);
+
+			for (int i = 0; i < 3; i++) {
+				sm.render(DELTA);
+			}
+
+			gl.reset();
+			sm.render(DELTA);
+			assertNull(budget.check(gl), name);
+		} finally {
+			sm.dispose();
+		}
+	}
+
+	private static class EmptyScreen extends ManagedScreen {
+		@Override
+		public void render(float delta) {
+			// don't render anything
+		}
+
+		@Override
+		public void resize(int width, int height) {
+			// not needed
+		}
+
+		@Override
+		public void dispose() {
+			// not needed
+		}
+	}
+
+}
@@ -0,0 +1,169 @@
+package de.eskalon.commons.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.InputProcessor;
+
+import de.eskalon.commons.core.ManagedGame;
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingQuadTransition;
+
+public class InputReplayTest {
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		InputProcessor target = Mockito.spy(new InputAdapter());
+		InputRecorder recorder = new InputRecorder(target);
+
+		recorder.keyDown(1);
+		recorder.nextFrame();
+		recorder.nextFrame();
+		recorder.touchDown(2, 3, 0, 1);
+		recorder.scrolled(0.5F, -1);
+		recorder.nextFrame();
+		Mockito.verify(target).keyDown(1);
+		assertEquals(3, recorder.getEventCount());
+
+		Path file = Files.createTempFile("recording", ".bin");
+		try {
+			recorder.write(file);
+			InputReplayer replayer = InputReplayer.read(file);
+			assertEquals(4, replayer.getFrameCount());
+			assertEquals(3, replayer.getEventCount());
+
+			InputProcessor processor = Mockito.spy(new InputAdapter());
+			assertEquals(1, replayer.replayFrame(processor));
+			assertEquals(0, replayer.replayFrame(processor));
+			assertEquals(2, replayer.replayFrame(processor));
+			assertFalse(replayer.isFinished());
+			assertEquals(0, replayer.replayFrame(processor));
+			assertTrue(replayer.isFinished());
+
+			InOrder order = Mockito.inOrder(processor);
+			order.verify(processor).keyDown(1);
+			order.verify(processor).touchDown(2, 3, 0, 1);
+			order.verify(processor).scrolled(0.5F, -1);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testHeadlessReplay() throws IOException, InterruptedException {
+		InputRecorder recorder = new InputRecorder(new InputAdapter());
+		for (int i = 0; i < 10; i++) {
+			recorder.keyDown(i);
+			recorder.nextFrame();
+		}
+
+		Path file = Files.createTempFile("recording", ".bin");
+		try {
+			recorder.write(file);
+
+			InputProcessor processor = Mockito.spy(new InputAdapter());
+			ManagedGame<ManagedScreen, ScreenTransition> game = new ManagedGame<ManagedScreen, ScreenTransition>() {
+				@Override
+				public void create() {
+					super.create();
+					screenManager.pushScreen(new ManagedScreen() {
+						{
+							addInputProcessor(processor);
+						}
+
+						@Override
+						public void render(float delta) {
+							assertEquals(0.1F, delta);
+						}
+
+						@Override
+						public void resize(int width, int height) {
+						}
+
+						@Override
+						public void dispose() {
+						}
+					}, null);
+				}
+			};
+
+			HeadlessReplay.run(
+					new HeadlessReplay(game, InputReplayer.read(file), 0.1F));
+
+			// The first event is received before the screen is shown
+			Mockito.verify(processor, Mockito.never()).keyDown(0);
+			for (int i = 1; i < 10; i++)
+				Mockito.verify(processor).keyDown(i);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testHeadlessReplayWithTransition()
+			throws IOException, InterruptedException {
+		InputRecorder recorder = new InputRecorder(new InputAdapter());
+		for (int i = 0; i < 10; i++)
+			recorder.nextFrame();
+
+		Path file = Files.createTempFile("recording", ".bin");
+		try {
+			recorder.write(file);
+
+			TestScreen first = Mockito.spy(new TestScreen());
+			TestScreen second = Mockito.spy(new TestScreen());
+			BlendingQuadTransition transition = Mockito
+					.spy(new BlendingQuadTransition(0.3F));
+			ManagedGame<ManagedScreen, ScreenTransition> game = new ManagedGame<ManagedScreen, ScreenTransition>() {
+				@Override
+				public void create() {
+					super.create();
+					screenManager.pushScreen(first, null);
+					screenManager.pushScreen(second, transition);
+				}
+			};
+
+			HeadlessReplay.run(new HeadlessReplay(game,
+					InputReplayer.read(file), 0.1F, 320, 240, new NoopGL20()));
+
+			// The screens and the transition were sized like the window
+			Mockito.verify(first).resize(320, 240);
+			Mockito.verify(second).resize(320, 240);
+			Mockito.verify(transition).resize(320, 240);
+
+			// The transition was rendered until it was done
+			Mockito.verify(transition, Mockito.times(3)).render(
+					Mockito.eq(0.1F), Mockito.any(), Mockito.any(),
+					Mockito.anyFloat());
+			Mockito.verify(first).hide();
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	private static class TestScreen extends ManagedScreen {
+		@Override
+		public void render(float delta) {
+		}
+
+		@Override
+		public void resize(int width, int height) {
+		}
+
+		@Override
+		public void dispose() {
+		}
+	}
+
+}
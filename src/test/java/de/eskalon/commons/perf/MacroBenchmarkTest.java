@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+public class MacroBenchmarkTest {
+
+	@Test
+	public void testFrameTimes() {
+		FrameTimes times = new FrameTimes(100);
+		for (int i = 100; i > 0; i--) {
+			times.add(i);
+		}
+
+		assertEquals(100, times.getSize());
+		assertEquals(50, times.getPercentile(50));
+		assertEquals(95, times.getPercentile(95));
+		assertEquals(1, times.getPercentile(0.5F));
+		assertEquals(100, times.getMax());
+		assertEquals(50, times.getMean());
+	}
+
+	@Test
+	public void testScenarios() throws IOException {
+		MacroBenchmark benchmark = new MacroBenchmark(320, 180, 1 / 60F, 0);
+
+		Array<Scenario> scenarios = new Array<>();
+		scenarios.add(Scenarios.rapidNavigation(120));
+		scenarios.add(Scenarios.resizeStorm(120));
+		scenarios.add(Scenarios.pauseResume(120));
+
+		Array<ScenarioResult> results = benchmark.runAll(scenarios);
+		assertEquals(3, results.size);
+		for (ScenarioResult result : results) {
+			FrameTimes times = result.getFrameTimes();
+			assertEquals(120, times.getSize());
+			assertTrue(times.getPercentile(50) <= times.getPercentile(99));
+			assertTrue(times.getPercentile(99) <= times.getMax());
+		}
+
+		StringWriter writer = new StringWriter();
+		benchmark.writeReport(results, writer);
+
+		JsonValue report = new JsonReader().parse(writer.toString());
+		assertEquals(320, report.getInt("width"));
+		JsonValue resizeStorm = report.get("scenarios").get(1);
+		assertEquals("resizeStorm", resizeStorm.getString("name"));
+		assertEquals(120, resizeStorm.getInt("frames"));
+		assertTrue(resizeStorm.get("frameTimeNanos").getLong("max") > 0);
+	}
+
+}
@@ -0,0 +1,101 @@
+package de.eskalon.commons.screen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.InputProcessor;
+
+import de.eskalon.commons.input.InputEventBuffer;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+public class ScreenManagerInputTest extends ScreenManagerUnitTest {
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testInputEventBuffer() {
+		BasicInputMultiplexer mult = new BasicInputMultiplexer();
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(mult, 5, 5, false);
+		sm.setInputEventBuffer(new InputEventBuffer());
+
+		InputProcessor processor = Mockito.spy(new InputAdapter());
+		ManagedScreen screen = new ManagedScreenAdapter() {
+			{
+				addInputProcessor(processor);
+			}
+		};
+
+		sm.pushScreen(screen, new BlankTimedTransition(2));
+		sm.render(1);
+		assertEquals(1, mult.size()); // the buffer
+
+		mult.keyDown(1);
+		mult.mouseMoved(1, 1);
+		Mockito.verifyNoInteractions(processor);
+
+		sm.render(1);
+		sm.render(1); // the transition is finished
+		Mockito.verify(processor).keyDown(1);
+		Mockito.verifyNoMoreInteractions(processor);
+		assertEquals(0, sm.getInputEventBuffer().getSize());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testEarlyInputHandOff() {
+		BasicInputMultiplexer mult = new BasicInputMultiplexer();
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(mult, 5, 5, false);
+		sm.setRoutingInputToLastScreen(true);
+
+		InputProcessor lastProcessor = Mockito.spy(new InputAdapter());
+		sm.pushScreen(new ManagedScreenAdapter() {
+			{
+				addInputProcessor(lastProcessor);
+			}
+		}, null);
+		sm.render(1);
+
+		InputProcessor currProcessor = Mockito.spy(new InputAdapter());
+		BlankTimedTransition transition = new BlankTimedTransition(4);
+		transition.setInputHandOff(0.5F, 0);
+		sm.pushScreen(new ManagedScreenAdapter() {
+			{
+				addInputProcessor(currProcessor);
+			}
+		}, transition);
+
+		sm.render(1); // progress: 0.25
+		mult.keyDown(1);
+		Mockito.verify(lastProcessor).keyDown(1);
+
+		sm.render(1); // progress: 0.5; the input is handed off
+		assertTrue(sm.isTransitioning());
+		mult.keyDown(2);
+		Mockito.verify(lastProcessor, Mockito.never()).keyDown(2);
+		Mockito.verify(currProcessor).keyDown(2);
+		assertEquals(1, mult.size());
+
+		sm.render(1);
+		sm.render(1);
+		sm.render(1); // the transition is finished
+		assertFalse(sm.isTransitioning());
+		assertEquals(1, mult.size());
+
+		// The remaining time is considered as well
+		BlankTimedTransition transition2 = new BlankTimedTransition(4);
+		transition2.setInputHandOff(1, 3);
+		sm.pushScreen(new ManagedScreenAdapter(), transition2);
+		sm.render(1);
+		assertTrue(sm.isTransitioning());
+		assertEquals(0, mult.size());
+	}
+
+}
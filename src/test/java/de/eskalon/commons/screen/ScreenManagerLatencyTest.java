@@ -0,0 +1,65 @@
+package de.eskalon.commons.screen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.eskalon.commons.screen.latency.ScreenLatencies;
+import de.eskalon.commons.screen.latency.ScreenLatencyTracker;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+public class ScreenManagerLatencyTest extends ScreenManagerUnitTest {
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLatencies() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+		ScreenLatencyTracker tracker = new ScreenLatencyTracker();
+		sm.setLatencyTracker(tracker);
+
+		sm.pushScreen(new TestScreen1(), null);
+		sm.render(1);
+
+		ScreenLatencies latencies1 = tracker.getLatencies(TestScreen1.class);
+		assertEquals(1, latencies1.getQueueWait().getCount());
+		assertEquals(1, latencies1.getConstruction().getCount());
+		assertEquals(1, latencies1.getFirstFrame().getCount());
+		assertEquals(1, latencies1.getInputActivation().getCount());
+		assertNull(tracker.getLatencies(TestScreen2.class));
+
+		// The second screen is queued until the first transition is finished
+		sm.pushScreen(new TestScreen2(), new BlankTimedTransition(2));
+		sm.pushScreen(new TestScreen1(), new BlankTimedTransition(2));
+		sm.render(1);
+
+		ScreenLatencies latencies2 = tracker.getLatencies(TestScreen2.class);
+		assertEquals(1, latencies2.getFirstFrame().getCount());
+		assertEquals(0, latencies2.getInputActivation().getCount());
+
+		sm.render(1);
+		sm.render(1); // the transition is finished; the next one starts
+		assertEquals(1, latencies2.getInputActivation().getCount());
+		assertTrue(latencies2.getInputActivation()
+				.getMin() >= latencies2.getFirstFrame().getMin());
+		assertEquals(2, latencies1.getQueueWait().getCount());
+		assertEquals(2, latencies1.getFirstFrame().getCount());
+
+		assertEquals(2, tracker.getAllLatencies().size);
+		tracker.clear();
+		assertNull(tracker.getLatencies(TestScreen1.class));
+
+		sm.dispose();
+	}
+
+	private static class TestScreen1 extends ManagedScreenAdapter {
+	}
+
+	private static class TestScreen2 extends ManagedScreenAdapter {
+	}
+
+}
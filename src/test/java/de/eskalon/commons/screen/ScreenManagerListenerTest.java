@@ -0,0 +1,171 @@
+package de.eskalon.commons.screen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import de.damios.guacamole.gdx.graphics.NestableFrameBuffer;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+public class ScreenManagerListenerTest extends ScreenManagerUnitTest {
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLifecycleEvents() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+		sm.setAutoDispose(true, false);
+
+		ScreenManagerListener listener = Mockito
+				.mock(ScreenManagerListener.class);
+		sm.addListener(listener);
+
+		ManagedScreen screen1 = new ManagedScreenAdapter();
+		ManagedScreen screen2 = new ManagedScreenAdapter();
+		BlankTimedTransition transition = new BlankTimedTransition(2);
+
+		sm.pushScreen(screen1, null);
+		sm.pushScreen(screen2, transition);
+		sm.render(1);
+		sm.render(1);
+		sm.render(1);
+		sm.render(1); // the transition is finished
+
+		InOrder inOrder = Mockito.inOrder(listener);
+		inOrder.verify(listener).onScreenPushed(1);
+		inOrder.verify(listener).onScreenPushed(2);
+		inOrder.verify(listener).onFrameStarted();
+		inOrder.verify(listener).onScreenDequeued(screen1, null);
+		inOrder.verify(listener).onScreenShown(screen1);
+		inOrder.verify(listener).onScreenDequeued(screen2, transition);
+		inOrder.verify(listener).onScreenShown(screen2);
+		inOrder.verify(listener).onTransitionStarted(transition);
+		inOrder.verify(listener, Mockito.calls(1))
+				.onFrameRendered(Mockito.any());
+		inOrder.verify(listener).onTransitionFinished(transition);
+		inOrder.verify(listener).onScreenHidden(screen1);
+		inOrder.verify(listener).onScreenDisposed(screen1);
+		Mockito.verify(listener, Mockito.times(4))
+				.onFrameRendered(Mockito.any());
+		Mockito.verify(listener, Mockito.times(4)).onFrameStarted();
+
+		assertTrue(sm.removeListener(listener));
+		assertFalse(sm.removeListener(listener));
+		sm.render(1);
+		sm.dispose();
+		Mockito.verify(listener, Mockito.times(4))
+				.onFrameRendered(Mockito.any());
+		Mockito.verify(listener, Mockito.never()).onScreenDisposed(screen2);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFrameTimings() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+
+		long[] phases = new long[4];
+		sm.addListener(new ScreenManagerAdapter() {
+			@Override
+			public void onFrameRendered(FrameTimings timings) {
+				phases[0] = timings.getLastScreenNanos();
+				phases[1] = timings.getCurrentScreenNanos();
+				phases[2] = timings.getTransitionNanos();
+				phases[3] = timings.getFrameNanos();
+			}
+		});
+
+		sm.pushScreen(new SlowScreen(), null);
+		sm.render(1);
+		assertEquals(0, phases[0]);
+		assertTrue(phases[1] >= SLEEP_NANOS);
+		assertEquals(0, phases[2]);
+		assertTrue(phases[3] >= phases[1]);
+
+		// The last screen is slow
+		sm.pushScreen(new ManagedScreenAdapter(), new BlankTimedTransition(10));
+		sm.render(1);
+		assertTrue(phases[0] >= SLEEP_NANOS);
+		assertTrue(phases[0] > phases[1]);
+		assertTrue(phases[0] > phases[2]);
+		assertTrue(phases[3] >= phases[0] + phases[1] + phases[2]);
+
+		// The transition is slow
+		sm.render(20);
+		sm.render(20); // the first transition is finished
+		sm.pushScreen(new ManagedScreenAdapter(), new SlowTransition());
+		sm.render(1);
+		assertTrue(phases[2] >= SLEEP_NANOS);
+		assertTrue(phases[2] > phases[0]);
+		assertTrue(phases[2] > phases[1]);
+		assertTrue(phases[3] >= phases[0] + phases[1] + phases[2]);
+
+		sm.dispose();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFramebuffersCreated() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		NestableFrameBuffer fbo = Mockito.mock(NestableFrameBuffer.class);
+		Mockito.when(fbo.getWidth()).thenReturn(7);
+		Mockito.when(fbo.getHeight()).thenReturn(9);
+		Mockito.doCallRealMethod().when(sm).initBuffers();
+		Mockito.doReturn(fbo).when(sm).createFrameBuffer();
+
+		ScreenManagerListener listener = Mockito
+				.mock(ScreenManagerListener.class);
+		sm.addListener(listener);
+
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+		Mockito.verify(listener).onFramebuffersCreated(7, 9);
+
+		sm.resize(5, 5); // same size; nothing is recreated
+		Mockito.verify(listener).onFramebuffersCreated(7, 9);
+
+		sm.resize(7, 9);
+		Mockito.verify(listener, Mockito.times(2)).onFramebuffersCreated(7,
+				9);
+
+		sm.dispose();
+	}
+
+	private static final long SLEEP_NANOS = 50_000_000L;
+
+	private static void sleep() {
+		try {
+			Thread.sleep(SLEEP_NANOS / 1_000_000L);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class SlowScreen extends ManagedScreenAdapter {
+		@Override
+		public void render(float delta) {
+			sleep();
+		}
+	}
+
+	private static class SlowTransition extends BlankTimedTransition {
+		SlowTransition() {
+			super(10);
+		}
+
+		@Override
+		public void render(float delta, TextureRegion lastScreen,
+				TextureRegion currScreen) {
+			super.render(delta, lastScreen, currScreen);
+			sleep();
+		}
+	}
+
+}
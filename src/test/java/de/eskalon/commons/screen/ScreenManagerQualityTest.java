@@ -0,0 +1,157 @@
+package de.eskalon.commons.screen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import de.eskalon.commons.screen.quality.TransitionQualityGovernor;
+import de.eskalon.commons.screen.quality.TransitionQualityStep;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+public class ScreenManagerQualityTest extends ScreenManagerUnitTest {
+
+	private int lastScreenRenders = 0, currScreenRenders = 0;
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFrozenAndReducedRefreshRate() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+
+		TransitionQualityGovernor governor = new TransitionQualityGovernor(
+				1E-9F, TransitionQualityStep.FROZEN_LAST_SCREEN,
+				TransitionQualityStep.REDUCED_REFRESH_RATE);
+		governor.setHysteresis(1, 1000, 0.5F);
+		governor.setRefreshInterval(3);
+		sm.setQualityGovernor(governor);
+
+		sm.pushScreen(new ManagedScreenAdapter() {
+			@Override
+			public void render(float delta) {
+				lastScreenRenders++;
+			}
+		}, null);
+		sm.render(1);
+
+		sm.pushScreen(new ManagedScreenAdapter() {
+			@Override
+			public void render(float delta) {
+				currScreenRenders++;
+			}
+		}, new BlankTimedTransition(100));
+
+		sm.render(1); // level 1: last screen is frozen
+		sm.render(1); // level 2: reduced refresh rate
+		assertEquals(2, governor.getLevel());
+		assertEquals(2, lastScreenRenders);
+		assertEquals(2, currScreenRenders);
+
+		for (int i = 0; i < 6; i++)
+			sm.render(1);
+		assertEquals(2, lastScreenRenders);
+		assertEquals(4, currScreenRenders);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFallbackTransition() {
+		BasicInputMultiplexer mult = new BasicInputMultiplexer();
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(mult, 5, 5, false);
+
+		TransitionQualityGovernor governor = new TransitionQualityGovernor(
+				1E-9F, TransitionQualityStep.FALLBACK_TRANSITION);
+		governor.setHysteresis(1, 1000, 0.5F);
+		sm.setQualityGovernor(governor);
+
+		ScreenTransition fallback = Mockito.spy(new BlankTimedTransition(2));
+		sm.setFallbackTransition(() -> fallback);
+
+		ManagedScreen screen = new ManagedScreenAdapter() {
+			{
+				addInputProcessor(new InputAdapter());
+			}
+		};
+		ScreenTransition transition = Mockito
+				.spy(new BlankTimedTransition(100));
+		sm.pushScreen(screen, transition);
+
+		sm.render(1); // first frame; the governor steps down
+		assertEquals(1, governor.getLevel());
+		sm.render(1); // the transition is replaced
+		Mockito.verify(transition).hide();
+		Mockito.verify(fallback).show();
+		assertEquals(0, mult.size());
+
+		sm.render(1);
+		sm.render(1); // the fallback is done
+		assertFalse(sm.isTransitioning());
+		Mockito.verify(fallback).hide();
+		Mockito.verify(fallback, Mockito.times(1)).show();
+		assertEquals(1, mult.size());
+		assertSame(screen, sm.getCurrentScreen());
+
+		// Without a fallback transitions are cut short, after the governor
+		// gave them another chance
+		sm.setFallbackTransition(null);
+		sm.pushScreen(new ManagedScreenAdapter(), new BlankTimedTransition(100));
+		sm.render(1);
+		assertTrue(sm.isTransitioning());
+		assertEquals(1, governor.getUpgradeCount());
+		assertEquals(1, governor.getLevel());
+		sm.render(1);
+		assertFalse(sm.isTransitioning());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testRecoveryWithoutFallbackTransition() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+
+		TransitionQualityGovernor governor = new TransitionQualityGovernor(
+				0.1F, TransitionQualityStep.FALLBACK_TRANSITION);
+		governor.setHysteresis(1, 1, 0.9F);
+		sm.setQualityGovernor(governor);
+
+		sm.pushScreen(new ManagedScreenAdapter(), null);
+		sm.render(1);
+
+		sm.pushScreen(new ManagedScreenAdapter(),
+				new BlankTimedTransition(100) {
+					@Override
+					public void render(float delta, TextureRegion lastScreen,
+							TextureRegion currScreen) {
+						super.render(delta, lastScreen, currScreen);
+						try {
+							Thread.sleep(150);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+				});
+		sm.render(1); // the governor steps down
+		assertEquals(1, governor.getLevel());
+		sm.render(1); // the transition is cut short
+		assertFalse(sm.isTransitioning());
+		assertEquals(1, governor.getLevel());
+
+		// The next transition is fast enough again
+		sm.pushScreen(new ManagedScreenAdapter(), new BlankTimedTransition(100));
+		sm.render(1);
+		sm.render(1);
+		assertTrue(sm.isTransitioning());
+		assertEquals(0, governor.getLevel());
+		assertEquals(1, governor.getUpgradeCount());
+	}
+
+}
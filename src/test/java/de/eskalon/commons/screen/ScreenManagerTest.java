@@ -106,16 +106,16 @@ public class ScreenManagerTest extends ScreenManagerUnitTest {
 
 		// Push screen
 		sm.pushScreen(testScreen, null);
-		assertEquals(0, mult.getProcessors().size);
+		assertEquals(0, mult.size());
 		assertEquals(null, sm.getCurrentScreen());
 		sm.render(1);
-		assertEquals(1, mult.getProcessors().size);
+		assertEquals(1, mult.size());
 		assertEquals(testScreen, sm.getCurrentScreen());
 
 		// Push second screen
 		sm.pushScreen(test2Screen, null);
 		sm.render(1F);
-		assertEquals(2, mult.getProcessors().size);
+		assertEquals(2, mult.size());
 		assertEquals(7, i);
 		i = 8;
 		assertEquals(test2Screen, sm.getCurrentScreen());
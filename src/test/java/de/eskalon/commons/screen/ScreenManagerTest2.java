@@ -190,7 +190,7 @@ public class ScreenManagerTest2 extends ScreenManagerUnitTest {
 		sm.render(1F);
 		assertEquals(1, i);
 
-		assertEquals(1, mult.getProcessors().size);
+		assertEquals(1, mult.size());
 		assertEquals(testScreen, sm.getCurrentScreen());
 		assertEquals(null, sm.getLastScreen());
 
@@ -199,7 +199,7 @@ public class ScreenManagerTest2 extends ScreenManagerUnitTest {
 		sm.render(1F);
 		assertEquals(5, i);
 
-		assertEquals(0, mult.getProcessors().size);
+		assertEquals(0, mult.size());
 		assertEquals(test2Screen, sm.getCurrentScreen());
 		assertEquals(testScreen, sm.getLastScreen());
 		assertTrue(!transition.isDone());
@@ -207,7 +207,7 @@ public class ScreenManagerTest2 extends ScreenManagerUnitTest {
 		// Let a few seconds pass, so the transition finishes
 		sm.render(15);
 
-		assertEquals(0, mult.getProcessors().size);
+		assertEquals(0, mult.size());
 		assertEquals(test2Screen, sm.getCurrentScreen()); // didn't change
 		assertEquals(testScreen, sm.getLastScreen()); // didn't change
 		assertTrue(transition.isDone());
@@ -220,7 +220,7 @@ public class ScreenManagerTest2 extends ScreenManagerUnitTest {
 		assertEquals(10, i);
 		i = 11; // end
 
-		assertEquals(3, mult.getProcessors().size);
+		assertEquals(3, mult.size());
 		assertEquals(null, sm.getLastScreen());
 	}
 
@@ -34,7 +34,17 @@ public class ScreenManagerUnitTest extends LibgdxUnitTest {
 						return null;
 					}
 				});
-
+		utils.when(() -> ScreenFboUtils.screenToTexture(any(), any(),
+				anyFloat(), any())).thenAnswer(new Answer<TextureRegion>() {
+					@Override
+					public TextureRegion answer(InvocationOnMock invocation)
+							throws Throwable {
+						// Only render the screen
+						((ManagedScreen) invocation.getArgument(0))
+								.render((float) invocation.getArgument(2));
+						return invocation.getArgument(3);
+					}
+				});
 	}
 
 	@AfterAll
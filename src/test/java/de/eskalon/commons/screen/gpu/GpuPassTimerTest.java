@@ -0,0 +1,166 @@
+package de.eskalon.commons.screen.gpu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.IntBuffer;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.graphics.GL30;
+
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ManagedScreenAdapter;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.ScreenManagerUnitTest;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+public class GpuPassTimerTest extends ScreenManagerUnitTest {
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScreenManager() {
+		GL30 gl = mockGL(true);
+		GpuPassTimer timer = new GpuPassTimer(gl, false);
+		assertTrue(timer.isSupported());
+
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+		sm.setGpuTimer(timer);
+
+		sm.pushScreen(new ManagedScreenAdapter(), null);
+		sm.render(1);
+		Mockito.verify(gl).glGenQueries(Mockito.eq(9), Mockito.any(int[].class),
+				Mockito.eq(0));
+		Mockito.verify(gl).glBeginQuery(GpuPassTimer.GL_TIME_ELAPSED, 5);
+		Mockito.verify(gl).glEndQuery(GpuPassTimer.GL_TIME_ELAPSED);
+
+		sm.pushScreen(new ManagedScreenAdapter(), new BlankTimedTransition(10));
+		sm.render(0.5F);
+		InOrder inOrder = Mockito.inOrder(gl);
+		inOrder.verify(gl).glBeginQuery(GpuPassTimer.GL_TIME_ELAPSED, 7);
+		inOrder.verify(gl).glEndQuery(GpuPassTimer.GL_TIME_ELAPSED);
+		inOrder.verify(gl).glBeginQuery(GpuPassTimer.GL_TIME_ELAPSED, 8);
+		inOrder.verify(gl).glEndQuery(GpuPassTimer.GL_TIME_ELAPSED);
+		inOrder.verify(gl).glBeginQuery(GpuPassTimer.GL_TIME_ELAPSED, 9);
+		inOrder.verify(gl).glEndQuery(GpuPassTimer.GL_TIME_ELAPSED);
+
+		// The results of the first frame are read back three frames later
+		sm.render(0.5F);
+		assertEquals(0, timer.getFrameCount());
+		sm.render(0.5F);
+		assertEquals(1, timer.getFrameCount());
+		assertEquals(0, timer.getNanos(GpuPass.LAST_SCREEN));
+		assertEquals(5000, timer.getNanos(GpuPass.CURRENT_SCREEN));
+		assertEquals(0, timer.getNanos(GpuPass.TRANSITION));
+
+		sm.render(0.5F);
+		assertEquals(2, timer.getFrameCount());
+		assertEquals(7000, timer.getNanos(GpuPass.LAST_SCREEN));
+		assertEquals(8000, timer.getNanos(GpuPass.CURRENT_SCREEN));
+		assertEquals(9000, timer.getNanos(GpuPass.TRANSITION));
+		assertEquals(24000, timer.getTotalNanos());
+		assertEquals(0, timer.getDroppedFrameCount());
+
+		sm.dispose();
+		timer.dispose();
+		Mockito.verify(gl).glDeleteQueries(Mockito.eq(9),
+				Mockito.any(int[].class), Mockito.eq(0));
+	}
+
+	@Test
+	public void testUnavailableResults() {
+		GL30 gl = mockGL(false);
+		GpuPassTimer timer = new GpuPassTimer(gl, false);
+
+		for (int i = 0; i < 5; i++) {
+			timer.beginFrame();
+			timer.begin(GpuPass.TRANSITION);
+			timer.end();
+		}
+
+		// Never waits for the results
+		Mockito.verify(gl, Mockito.never()).glGetQueryObjectuiv(Mockito.anyInt(),
+				Mockito.eq(GL30.GL_QUERY_RESULT), Mockito.any());
+		assertEquals(0, timer.getFrameCount());
+		assertEquals(2, timer.getDroppedFrameCount());
+		timer.dispose();
+	}
+
+	@Test
+	public void testDisjoint() {
+		GL30 gl = mockGL(true);
+		Mockito.doAnswer(invocation -> {
+			invocation.getArgument(1, IntBuffer.class).put(0, 1);
+			return null;
+		}).when(gl).glGetIntegerv(Mockito.eq(GpuPassTimer.GL_GPU_DISJOINT),
+				Mockito.any());
+		GpuPassTimer timer = new GpuPassTimer(gl, true);
+
+		for (int i = 0; i < 4; i++) {
+			timer.beginFrame();
+			timer.begin(GpuPass.TRANSITION);
+			timer.end();
+		}
+
+		assertEquals(0, timer.getFrameCount());
+		assertEquals(1, timer.getDroppedFrameCount());
+		timer.dispose();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCpuFallback() {
+		GpuPassTimer timer = new GpuPassTimer(null, false);
+		assertFalse(timer.isSupported());
+
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+		sm.setGpuTimer(timer);
+
+		sm.pushScreen(new ManagedScreenAdapter(), null);
+		sm.pushScreen(new ManagedScreenAdapter(), new BlankTimedTransition(1));
+		for (int i = 0; i < 5; i++) {
+			sm.render(0.5F);
+		}
+
+		assertEquals(0, timer.getFrameCount());
+		assertEquals(0, timer.getTotalNanos());
+
+		sm.dispose();
+		timer.dispose();
+	}
+
+	/**
+	 * @param available
+	 *            whether the results of the queries are available; the
+	 *            result of a query is its id times {@code 1000}
+	 */
+	private static GL30 mockGL(boolean available) {
+		GL30 gl = Mockito.mock(GL30.class);
+		Mockito.doAnswer(invocation -> {
+			int[] ids = invocation.getArgument(1);
+			for (int i = 0; i < ids.length; i++) {
+				ids[i] = i + 1;
+			}
+			return null;
+		}).when(gl).glGenQueries(Mockito.anyInt(), Mockito.any(int[].class),
+				Mockito.anyInt());
+		Mockito.doAnswer(invocation -> {
+			int id = invocation.getArgument(0);
+			int pname = invocation.getArgument(1);
+			invocation.getArgument(2, IntBuffer.class).put(0,
+					pname == GL30.GL_QUERY_RESULT ? id * 1000
+							: (available ? 1 : 0));
+			return null;
+		}).when(gl).glGetQueryObjectuiv(Mockito.anyInt(), Mockito.anyInt(),
+				Mockito.any());
+		return gl;
+	}
+
+}
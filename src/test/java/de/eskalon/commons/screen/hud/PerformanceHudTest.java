@@ -0,0 +1,78 @@
+package de.eskalon.commons.screen.hud;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+import de.eskalon.commons.perf.CountingGL20;
+import de.eskalon.commons.perf.GLCallCategory;
+import de.eskalon.commons.perf.HeadlessEnvironment;
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ManagedScreenAdapter;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingQuadTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+public class PerformanceHudTest {
+
+	@Test
+	public void testFont() {
+		assertEquals(0, HudFont.getGlyph('0'));
+		assertEquals(10, HudFont.getGlyph('A'));
+		assertEquals(10, HudFont.getGlyph('a'));
+		assertEquals(-1, HudFont.getGlyph(' '));
+		assertEquals(-1, HudFont.getGlyph('#'));
+	}
+
+	@Test
+	public void testOverlay() {
+		CountingGL20 gl = new CountingGL20();
+		HeadlessEnvironment.setUp(640, 360, gl);
+
+		PerformanceHud hud = new PerformanceHud();
+		GLProfiler profiler = Mockito.mock(GLProfiler.class);
+		hud.setGLProfiler(profiler);
+
+		ScreenManager<ManagedScreen, ScreenTransition> sm = new ScreenManager<>();
+		sm.initialize(new BasicInputMultiplexer(), 640, 360, false);
+
+		try {
+			sm.pushScreen(new ManagedScreenAdapter(), null);
+			sm.render(1 / 60F);
+			sm.pushScreen(new ManagedScreenAdapter(),
+					new BlendingQuadTransition(Float.MAX_VALUE));
+			sm.render(1 / 60F);
+			sm.render(1 / 60F);
+
+			gl.reset();
+			sm.render(1 / 60F);
+			int draws = gl.getCount(GLCallCategory.DRAW);
+
+			sm.setPerformanceHud(hud);
+			assertSame(hud, sm.getPerformanceHud());
+			sm.render(1 / 60F); // the first frame creates the buffers
+			gl.reset();
+			sm.render(1 / 60F);
+
+			// The whole overlay is drawn in one call
+			assertEquals(draws + 1, gl.getCount(GLCallCategory.DRAW));
+			Mockito.verify(profiler, Mockito.times(2)).reset();
+			assertEquals(0, sm.getQueuedScreenCount());
+			assertEquals(2 * 4 * 640 * 360, sm.getFrameBufferMemoryUsage());
+
+			sm.setPerformanceHud(null);
+			gl.reset();
+			sm.render(1 / 60F);
+			assertEquals(draws, gl.getCount(GLCallCategory.DRAW));
+		} finally {
+			sm.dispose();
+			hud.dispose();
+		}
+	}
+
+}
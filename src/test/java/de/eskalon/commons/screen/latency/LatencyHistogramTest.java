@@ -0,0 +1,54 @@
+package de.eskalon.commons.screen.latency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getPercentile(0.5));
+		assertEquals(0, histogram.getMin());
+
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i * 1_000_000L);
+		}
+
+		assertEquals(100, histogram.getCount());
+		assertEquals(1_000_000L, histogram.getMin());
+		assertEquals(100_000_000L, histogram.getMax());
+		assertEquals(50_500_000L, histogram.getMean());
+		assertEquals(100_000_000L, histogram.getPercentile(1));
+
+		// The percentiles are upper bounds with a relative error of <= 25%
+		long p50 = histogram.getPercentile(0.5);
+		assertTrue(p50 >= 50_000_000L && p50 <= 62_500_000L, "p50: " + p50);
+		long p95 = histogram.getPercentile(0.95);
+		assertTrue(p95 >= 95_000_000L && p95 <= 100_000_000L, "p95: " + p95);
+
+		histogram.record(2);
+		assertEquals(2, histogram.getPercentile(0));
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+		assertEquals(0, histogram.getPercentile(0.99));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> histogram.record(-1));
+		assertThrows(IllegalArgumentException.class,
+				() -> histogram.getPercentile(1.5));
+	}
+
+	@Test
+	public void testLargeValues() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE, histogram.getPercentile(0.5));
+	}
+
+}
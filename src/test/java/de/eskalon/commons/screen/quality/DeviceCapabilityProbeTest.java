@@ -0,0 +1,125 @@
+package de.eskalon.commons.screen.quality;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+
+import de.eskalon.commons.perf.HeadlessEnvironment;
+import de.eskalon.commons.perf.NoopGL20;
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+import de.eskalon.commons.utils.FrameBufferPool;
+
+public class DeviceCapabilityProbeTest {
+
+	private static final String PREFERENCES = "screenmanager-probe-test";
+
+	@Test
+	public void testClassification() {
+		DeviceCapabilityProbe probe = new DeviceCapabilityProbe("test");
+		assertEquals(QualityTier.HIGH, probe.classify(1));
+		assertEquals(QualityTier.MEDIUM, probe.classify(5));
+		assertEquals(QualityTier.LOW, probe.classify(20));
+
+		probe.setThresholds(10, 30);
+		assertEquals(QualityTier.HIGH, probe.classify(5));
+		assertEquals(QualityTier.MEDIUM, probe.classify(20));
+
+		assertThrows(IllegalArgumentException.class, () -> {
+			probe.setThresholds(10, 5);
+		});
+	}
+
+	@Test
+	public void testPrecisionHeader() {
+		assertEquals("#ifdef GL_ES\nprecision mediump float;\n#endif\n",
+				QualityTier.LOW.getPrecisionHeader());
+
+		// highp isn't available in every OpenGL ES fragment shader
+		String header = QualityTier.HIGH.getPrecisionHeader();
+		assertTrue(header.contains("#ifdef GL_FRAGMENT_PRECISION_HIGH\n"
+				+ "precision highp float;\n#else\n"
+				+ "precision mediump float;\n#endif\n"));
+	}
+
+	@Test
+	public void testProbe() {
+		HeadlessEnvironment.setUp(64, 36);
+		ScreenManager<ManagedScreen, ScreenTransition> sm = createScreenManager();
+		DeviceCapabilityProbe probe = new DeviceCapabilityProbe(PREFERENCES);
+		probe.setThresholds(1000, 2000);
+
+		try {
+			probe.clearCache();
+			FrameBufferPool pool = sm.getFrameBufferPool();
+			int scaleBias = pool.getScaleBias();
+			assertTrue(scaleBias > 0);
+
+			assertTrue(probe.measure(sm) >= 0);
+			assertEquals(scaleBias, pool.getScaleBias()); // restored
+			assertEquals(0, pool.getLeasedCount());
+			assertEquals(0, pool.getMemoryUsage()); // nothing kept in VRAM
+
+			assertEquals(QualityTier.HIGH, probe.probe(sm));
+			assertEquals(QualityTier.HIGH, probe.probe(sm)); // cached
+			assertEquals(0, pool.getMemoryUsage());
+		} finally {
+			probe.clearCache();
+			sm.dispose();
+		}
+	}
+
+	@Test
+	public void testFailure() {
+		FailingGL20 gl = new FailingGL20();
+		HeadlessEnvironment.setUp(64, 36, gl);
+		ScreenManager<ManagedScreen, ScreenTransition> sm = createScreenManager();
+		DeviceCapabilityProbe probe = new DeviceCapabilityProbe(PREFERENCES);
+		probe.setThresholds(0.000001F, 0.000001F);
+
+		try {
+			probe.clearCache();
+			FrameBufferPool pool = sm.getFrameBufferPool();
+			int scaleBias = pool.getScaleBias();
+			assertTrue(scaleBias > 0);
+
+			// The third framebuffer of the probe can't be created
+			gl.remainingFramebuffers = 2;
+			assertEquals(QualityTier.MEDIUM, probe.probe(sm));
+			assertEquals(scaleBias, pool.getScaleBias());
+			assertEquals(0, pool.getLeasedCount());
+			assertEquals(0, pool.getMemoryUsage());
+
+			// The fallback isn't cached
+			gl.remainingFramebuffers = Integer.MAX_VALUE;
+			assertEquals(QualityTier.LOW, probe.probe(sm));
+		} finally {
+			probe.clearCache();
+			sm.dispose();
+		}
+	}
+
+	private static ScreenManager<ManagedScreen, ScreenTransition> createScreenManager() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = new ScreenManager<>();
+		sm.initialize(new BasicInputMultiplexer(), 64, 36, false);
+		sm.setQualityTier(QualityTier.LOW);
+		return sm;
+	}
+
+	private static class FailingGL20 extends NoopGL20 {
+		int remainingFramebuffers = Integer.MAX_VALUE;
+
+		@Override
+		public int glCheckFramebufferStatus(int target) {
+			if (remainingFramebuffers-- <= 0)
+				return GL_FRAMEBUFFER_UNSUPPORTED;
+			return super.glCheckFramebufferStatus(target);
+		}
+	}
+
+}
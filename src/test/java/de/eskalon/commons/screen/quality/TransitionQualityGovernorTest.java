@@ -0,0 +1,66 @@
+package de.eskalon.commons.screen.quality;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TransitionQualityGovernorTest {
+
+	private static final long OVER = 20_000_000L; // 20 ms
+	private static final long FINE = 15_000_000L; // 15 ms
+	private static final long UNDER = 5_000_000L; // 5 ms
+
+	@Test
+	public void testHysteresis() {
+		TransitionQualityGovernor governor = new TransitionQualityGovernor(
+				1 / 60F, TransitionQualityStep.REDUCED_SCALE,
+				TransitionQualityStep.FALLBACK_TRANSITION);
+		governor.setHysteresis(2, 3, 0.5F);
+		assertNull(governor.getCurrentStep());
+
+		// Single spikes are ignored
+		assertFalse(governor.update(OVER));
+		assertFalse(governor.update(FINE));
+		assertFalse(governor.update(OVER));
+		assertEquals(0, governor.getLevel());
+
+		assertTrue(governor.update(OVER));
+		assertEquals(1, governor.getLevel());
+		assertTrue(governor.isApplied(TransitionQualityStep.REDUCED_SCALE));
+		assertFalse(governor
+				.isApplied(TransitionQualityStep.FALLBACK_TRANSITION));
+
+		// Frames within budget, but above the upgrade threshold keep the level
+		for (int i = 0; i < 10; i++)
+			assertFalse(governor.update(FINE));
+
+		governor.update(OVER);
+		assertTrue(governor.update(OVER));
+		assertEquals(TransitionQualityStep.FALLBACK_TRANSITION,
+				governor.getCurrentStep());
+		assertFalse(governor.update(OVER));
+		assertFalse(governor.update(OVER));
+		assertEquals(2, governor.getLevel());
+
+		governor.update(UNDER);
+		governor.update(UNDER);
+		assertTrue(governor.update(UNDER));
+		assertEquals(1, governor.getLevel());
+		assertEquals(2, governor.getDowngradeCount());
+		assertEquals(1, governor.getUpgradeCount());
+
+		assertTrue(governor.stepUp());
+		assertEquals(0, governor.getLevel());
+		assertEquals(2, governor.getUpgradeCount());
+		assertFalse(governor.stepUp());
+
+		governor.update(OVER);
+		governor.update(OVER);
+		governor.reset();
+		assertEquals(0, governor.getLevel());
+	}
+
+}
@@ -0,0 +1,132 @@
+package de.eskalon.commons.screen.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ManagedScreenAdapter;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.ScreenManagerUnitTest;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.trace.ChromeTraceExporter;
+import de.eskalon.commons.screen.watchdog.WatchdogPhase;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+public class TraceRecorderTest extends ScreenManagerUnitTest {
+
+	@Test
+	public void testRingBuffer() throws IOException {
+		TraceRecorder recorder = new TraceRecorder(3);
+		ManagedScreen screen = new ManagedScreenAdapter();
+
+		recorder.begin(screen, WatchdogPhase.SCREEN_SHOW);
+		recorder.end();
+		recorder.beginFrame();
+		recorder.beginPass(screen);
+		recorder.end();
+		recorder.end();
+		assertEquals(3, recorder.getSize());
+
+		// The end of the frame is dropped, as its begin was overwritten
+		JsonValue events = writeAndParse(recorder.snapshot());
+		assertEquals(2, events.size);
+		assertEquals("B", events.get(0).getString("ph"));
+		assertEquals("ManagedScreenAdapter.screenToTexture",
+				events.get(0).getString("name"));
+		assertEquals("pass", events.get(0).getString("cat"));
+		assertEquals("E", events.get(1).getString("ph"));
+
+		recorder.clear();
+		assertEquals(0, recorder.getSize());
+		assertEquals(0, writeAndParse(recorder.snapshot()).size);
+	}
+
+	@Test
+	public void testAnonymousClass() throws IOException {
+		TraceRecorder recorder = new TraceRecorder();
+		ManagedScreen screen = new ManagedScreenAdapter() {
+		};
+
+		recorder.begin(screen, WatchdogPhase.SCREEN_RENDER);
+		recorder.end();
+
+		JsonValue events = writeAndParse(recorder.snapshot());
+		assertEquals(screen.getClass().getName() + ".render",
+				events.get(0).getString("name"));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScreenManager(@TempDir Path dir) throws Exception {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+		TraceRecorder recorder = new TraceRecorder();
+		sm.setTraceRecorder(recorder);
+
+		sm.pushScreen(new ManagedScreenAdapter(), null);
+		sm.render(1);
+		sm.pushScreen(new ManagedScreenAdapter(), new BlankTimedTransition(1));
+		sm.render(0.5F);
+		sm.render(0.5F);
+		sm.render(0.5F);
+
+		Path file = dir.resolve("screenmanager.trace.json");
+		ChromeTraceExporter exporter = new ChromeTraceExporter();
+		exporter.export(recorder, file).get();
+		exporter.dispose();
+
+		JsonValue events = new JsonReader()
+				.parse(new String(Files.readAllBytes(file),
+						StandardCharsets.UTF_8))
+				.get("traceEvents");
+
+		Set<String> names = new HashSet<>();
+		int depth = 0;
+		double lastTimestamp = 0;
+		for (JsonValue event : events) {
+			if (event.getString("ph").equals("B")) {
+				names.add(event.getString("name"));
+				depth++;
+			} else {
+				depth--;
+			}
+			assertTrue(depth >= 0);
+			assertTrue(event.getDouble("ts") >= lastTimestamp);
+			lastTimestamp = event.getDouble("ts");
+		}
+		assertEquals(0, depth);
+
+		assertTrue(names.contains("ScreenManager.render"));
+		assertTrue(names.contains("ManagedScreenAdapter.show"));
+		assertTrue(names.contains("ManagedScreenAdapter.render"));
+		assertTrue(names.contains("ManagedScreenAdapter.screenToTexture"));
+		assertTrue(names.contains("ManagedScreenAdapter.hide"));
+		assertTrue(names.contains("BlankTimedTransition.show"));
+		assertTrue(names.contains("BlankTimedTransition.render"));
+		assertTrue(names.contains("BlankTimedTransition.hide"));
+
+		sm.dispose();
+	}
+
+	private static JsonValue writeAndParse(TraceSnapshot snapshot)
+			throws IOException {
+		StringBuilder json = new StringBuilder();
+		snapshot.writeChromeTrace(json);
+		return new JsonReader().parse(json.toString()).get("traceEvents");
+	}
+
+}
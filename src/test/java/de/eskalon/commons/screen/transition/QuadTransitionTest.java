@@ -0,0 +1,246 @@
+package de.eskalon.commons.screen.transition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.GLOnlyTextureData;
+import com.badlogic.gdx.utils.Array;
+
+import de.eskalon.commons.perf.HeadlessEnvironment;
+import de.eskalon.commons.perf.NoopGL20;
+import de.eskalon.commons.screen.transition.impl.BlendingQuadTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingTransition;
+import de.eskalon.commons.screen.transition.impl.PushQuadTransition;
+import de.eskalon.commons.screen.transition.impl.PushTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingDirection;
+import de.eskalon.commons.screen.transition.impl.SlidingInQuadTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingInTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingOutQuadTransition;
+import de.eskalon.commons.screen.transition.impl.SlidingOutTransition;
+
+/**
+ * Checks that the quad transitions draw the same as their batch based
+ * counterparts: the same textures at the same positions with the same
+ * orientation and opacity.
+ */
+public class QuadTransitionTest {
+
+	private static final int WIDTH = 64, HEIGHT = 36;
+	private static final float EPSILON = 0.0001F;
+
+	private static RecordingGL20 gl;
+	private static Texture lastTexture, currTexture;
+	private static TextureRegion lastScreen, currScreen;
+
+	private SpriteBatch batch;
+	private final Array<Draw> batchDraws = new Array<>();
+
+	@BeforeAll
+	public static void setUp() {
+		gl = new RecordingGL20();
+		HeadlessEnvironment.setUp(WIDTH, HEIGHT, gl);
+
+		lastTexture = createTexture();
+		currTexture = createTexture();
+
+		// Flipped like the screen textures of the screen manager
+		lastScreen = new TextureRegion(lastTexture);
+		lastScreen.flip(false, true);
+		currScreen = new TextureRegion(currTexture, 8, 4, 32, 16);
+		currScreen.flip(false, true);
+	}
+
+	@AfterAll
+	public static void tearDown() {
+		lastTexture.dispose();
+		currTexture.dispose();
+	}
+
+	@BeforeEach
+	public void setUpBatch() {
+		batch = spy(new SpriteBatch());
+		doAnswer(invocation -> {
+			TextureRegion region = invocation.getArgument(0);
+			float x = invocation.getArgument(1);
+			float y = invocation.getArgument(2);
+			float width = invocation.getArgument(3);
+			float height = invocation.getArgument(4);
+
+			// The batch textures the bottom left corner with (u, v2)
+			batchDraws.add(new Draw(
+					region.getTexture().getTextureObjectHandle(), x, y,
+					width, height, region.getU(), region.getV2(),
+					region.getU2(), region.getV(), batch.getColor().a));
+			return null;
+		}).when(batch).draw(any(TextureRegion.class), anyFloat(), anyFloat(),
+				anyFloat(), anyFloat());
+	}
+
+	@AfterEach
+	public void tearDownBatch() {
+		batch.dispose();
+	}
+
+	@Test
+	public void testBlending() {
+		assertSameOutput(new BlendingTransition(batch, 1F),
+				new BlendingQuadTransition(1F));
+	}
+
+	@Test
+	public void testPush() {
+		assertSameOutput(new PushTransition(batch, SlidingDirection.LEFT, 1F),
+				new PushQuadTransition(SlidingDirection.LEFT, 1F));
+	}
+
+	@Test
+	public void testSlidingIn() {
+		assertSameOutput(
+				new SlidingInTransition(batch, SlidingDirection.UP, 1F),
+				new SlidingInQuadTransition(SlidingDirection.UP, 1F));
+	}
+
+	@Test
+	public void testSlidingOut() {
+		assertSameOutput(
+				new SlidingOutTransition(batch, SlidingDirection.DOWN, 1F),
+				new SlidingOutQuadTransition(SlidingDirection.DOWN, 1F));
+	}
+
+	private void assertSameOutput(TimedTransition batchTransition,
+			QuadTransition quadTransition) {
+		gl.draws.clear();
+
+		try {
+			// show() isn't needed for the renderer to be created
+			batchTransition.resize(WIDTH, HEIGHT);
+			batchTransition.render(0.25F, lastScreen, currScreen);
+			quadTransition.resize(WIDTH, HEIGHT);
+			quadTransition.render(0.25F, lastScreen, currScreen);
+		} finally {
+			batchTransition.dispose();
+			quadTransition.dispose();
+		}
+
+		assertEquals(2, batchDraws.size);
+		assertEquals(batchDraws.size, gl.draws.size);
+		for (int i = 0; i < batchDraws.size; i++) {
+			Draw expected = batchDraws.get(i);
+			Draw actual = gl.draws.get(i);
+
+			assertEquals(expected.texture, actual.texture);
+			assertEquals(expected.x, actual.x, EPSILON);
+			assertEquals(expected.y, actual.y, EPSILON);
+			assertEquals(expected.width, actual.width, EPSILON);
+			assertEquals(expected.height, actual.height, EPSILON);
+			assertEquals(expected.bottomLeftU, actual.bottomLeftU, EPSILON);
+			assertEquals(expected.bottomLeftV, actual.bottomLeftV, EPSILON);
+			assertEquals(expected.topRightU, actual.topRightU, EPSILON);
+			assertEquals(expected.topRightV, actual.topRightV, EPSILON);
+			assertEquals(expected.alpha, actual.alpha, EPSILON);
+		}
+	}
+
+	private static Texture createTexture() {
+		return new Texture(new GLOnlyTextureData(WIDTH, HEIGHT, 0,
+				GL20.GL_RGBA, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE));
+	}
+
+	private static class Draw {
+		final int texture;
+		final float x, y, width, height;
+		final float bottomLeftU, bottomLeftV, topRightU, topRightV;
+		final float alpha;
+
+		Draw(int texture, float x, float y, float width, float height,
+				float bottomLeftU, float bottomLeftV, float topRightU,
+				float topRightV, float alpha) {
+			this.texture = texture;
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+			this.bottomLeftU = bottomLeftU;
+			this.bottomLeftV = bottomLeftV;
+			this.topRightU = topRightU;
+			this.topRightV = topRightV;
+			this.alpha = alpha;
+		}
+	}
+
+	/**
+	 * Tracks the uniforms of the {@link QuadTransitionRenderer} and records
+	 * the screen rectangle and texture coordinates of every draw call.
+	 */
+	private static class RecordingGL20 extends NoopGL20 {
+		final Array<String> uniforms = new Array<>();
+		final Array<Draw> draws = new Array<>();
+		final float[] transform = new float[4], region = new float[4];
+		float alpha;
+		int boundTexture;
+
+		@Override
+		public int glGetUniformLocation(int program, String name) {
+			int index = uniforms.indexOf(name, false);
+			if (index < 0) {
+				uniforms.add(name);
+				index = uniforms.size - 1;
+			}
+			return index + 1;
+		}
+
+		@Override
+		public void glUniform4f(int location, float x, float y, float z,
+				float w) {
+			String name = uniforms.get(location - 1);
+			if (name.equals("u_transform"))
+				set(transform, x, y, z, w);
+			else if (name.equals("u_region"))
+				set(region, x, y, z, w);
+		}
+
+		@Override
+		public void glUniform1f(int location, float x) {
+			if (uniforms.get(location - 1).equals("u_alpha"))
+				alpha = x;
+		}
+
+		@Override
+		public void glBindTexture(int target, int texture) {
+			boundTexture = texture;
+		}
+
+		@Override
+		public void glDrawArrays(int mode, int first, int count) {
+			// The quad spans [-1, 1] in normalized device coordinates
+			float left = transform[0] - transform[2];
+			float bottom = transform[1] - transform[3];
+			draws.add(new Draw(boundTexture, (left + 1) / 2 * WIDTH,
+					(bottom + 1) / 2 * HEIGHT, transform[2] * WIDTH,
+					transform[3] * HEIGHT, region[0], region[1], region[2],
+					region[3], alpha));
+		}
+
+		private static void set(float[] array, float x, float y, float z,
+				float w) {
+			array[0] = x;
+			array[1] = y;
+			array[2] = z;
+			array[3] = w;
+		}
+	}
+
+}
@@ -0,0 +1,101 @@
+package de.eskalon.commons.screen.transition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ManagedScreenAdapter;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.ScreenManagerUnitTest;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+public class TransitionClockTest extends ScreenManagerUnitTest {
+
+	@Test
+	public void testClamped() {
+		TransitionClock clock = TransitionClock.clamped(0.1F);
+		assertEquals(0.05F, clock.tick(0.05F));
+		assertEquals(0.1F, clock.tick(0.5F));
+
+		assertEquals(2, clock.getFrameCount());
+		assertEquals(0.55F, clock.getRawTime(), 0.0001F);
+		assertEquals(0.15F, clock.getAnimationTime(), 0.0001F);
+		assertEquals(0.4F, clock.getTotalLostTime(), 0.0001F);
+		assertEquals(0.4F, clock.getMaxLostTime(), 0.0001F);
+
+		clock.reset();
+		assertEquals(0, clock.getFrameCount());
+		assertEquals(0.4F, clock.getTotalLostTime(), 0.0001F);
+	}
+
+	@Test
+	public void testSkipFirstFrames() {
+		TransitionClock clock = TransitionClock.skipFirstFrames(2);
+		assertEquals(1, clock.tick(1));
+		assertEquals(0, clock.tick(1));
+		assertEquals(0, clock.tick(1));
+		assertEquals(1, clock.tick(1));
+
+		clock.reset();
+		assertEquals(1, clock.tick(1));
+		assertEquals(0, clock.tick(1));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testSkipHitch() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+		sm.setTransitionClock(TransitionClock.skipFirstFrames(1));
+
+		sm.pushScreen(new ManagedScreenAdapter(), null);
+		sm.render(1 / 60F);
+
+		ScreenTransition transition = Mockito
+				.spy(new BlankTimedTransition(10));
+		sm.pushScreen(new ManagedScreenAdapter(), transition);
+		sm.render(1 / 60F); // the transition is shown
+		sm.render(0.5F); // the hitch caused by showing it
+		sm.render(1 / 60F);
+
+		InOrder inOrder = Mockito.inOrder(transition);
+		inOrder.verify(transition).render(Mockito.eq(1 / 60F), Mockito.any(),
+				Mockito.any());
+		inOrder.verify(transition).render(Mockito.eq(0F), Mockito.any(),
+				Mockito.any());
+		inOrder.verify(transition).render(Mockito.eq(1 / 60F), Mockito.any(),
+				Mockito.any());
+
+		sm.dispose();
+	}
+
+	@Test
+	public void testSmoothedAndFixedStep() {
+		TransitionClock smoothed = TransitionClock.smoothed(0.5F, 0.1F);
+		assertEquals(0.2F, smoothed.tick(0.3F), 0.0001F);
+		assertEquals(0.15F, smoothed.tick(0.1F), 0.0001F);
+
+		TransitionClock fixed = TransitionClock.fixedStep(1 / 60F);
+		assertEquals(1 / 60F, fixed.tick(1));
+		assertEquals(1 / 60F, fixed.tick(0));
+	}
+
+	@Test
+	public void testChaining() {
+		TransitionClock clock = TransitionClock.skipFirstFrames(1)
+				.andThen(TransitionClock.clamped(0.1F));
+		assertEquals(0.1F, clock.tick(1));
+		assertEquals(0, clock.tick(1));
+		assertEquals(0.05F, clock.tick(0.05F));
+		assertEquals(1.9F, clock.getTotalLostTime(), 0.0001F);
+
+		clock.reset();
+		assertEquals(0.1F, clock.tick(1));
+		assertEquals(0, clock.tick(1));
+	}
+
+}
@@ -0,0 +1,74 @@
+package de.eskalon.commons.screen.transition.curve;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Interpolation;
+
+public class BakedCurveTest {
+
+	@Test
+	public void testBaking() {
+		BakedCurve curve = new BakedCurve(Interpolation.pow2);
+		for (float a = 0; a <= 1; a += 0.01F) {
+			assertEquals(Interpolation.pow2.apply(a), curve.apply(a), 0.001F);
+		}
+		assertEquals(0, curve.apply(-1));
+		assertEquals(1, curve.apply(2));
+
+		BakedCurve elastic = new BakedCurve(Interpolation.elasticOut, 1024);
+		assertEquals(1024, elastic.getSampleCount());
+		assertTrue(elastic.getMax() > 1);
+		assertEquals(1, elastic.apply(1), 0.001F);
+	}
+
+	@Test
+	public void testCubicBezier() {
+		BakedCurve linear = BakedCurve.cubicBezier(0, 0, 1, 1);
+		for (float a = 0; a <= 1; a += 0.01F) {
+			assertEquals(a, linear.apply(a), 0.001F);
+		}
+
+		BakedCurve ease = BakedCurve.cubicBezier(0.25F, 0.1F, 0.25F, 1F);
+		assertEquals(0, ease.apply(0), 0.001F);
+		assertEquals(1, ease.apply(1), 0.001F);
+		assertEquals(0.8024F, ease.apply(0.5F), 0.005F);
+
+		assertThrows(IllegalArgumentException.class, () -> {
+			BakedCurve.cubicBezier(-1, 0, 1, 1);
+		});
+	}
+
+	@Test
+	public void testTimeline() {
+		CurveTimeline timeline = new CurveTimeline();
+		CurveTrack alpha = timeline.addTrack().key(0, 0).key(0.5F, 1);
+		timeline.addTrack().key(0, 10).key(0.5F, 10).key(1, 0,
+				Interpolation.pow2In);
+
+		assertThrows(IllegalArgumentException.class, () -> {
+			alpha.key(0.25F, 1);
+		});
+
+		float[] values = new float[timeline.getTrackCount()];
+		timeline.evaluate(-1, values);
+		assertEquals(0, values[0]);
+		assertEquals(10, values[1]);
+
+		timeline.evaluate(0.25F, values);
+		assertEquals(0.5F, values[0], 0.0001F);
+		assertEquals(10, values[1]);
+
+		timeline.evaluate(0.75F, values);
+		assertEquals(1, values[0]);
+		assertEquals(10 - 10 * Interpolation.pow2In.apply(0.5F), values[1],
+				0.01F);
+
+		timeline.evaluate(1, values);
+		assertEquals(0, values[1]);
+	}
+
+}
@@ -0,0 +1,116 @@
+package de.eskalon.commons.screen.watchdog;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ManagedScreenAdapter;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.ScreenManagerUnitTest;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlankTimedTransition;
+import de.eskalon.commons.utils.BasicInputMultiplexer;
+
+public class FrameWatchdogTest extends ScreenManagerUnitTest {
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLongCalls() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+
+		FrameWatchdog watchdog = new FrameWatchdog(20);
+		LongCallReporter reporter = Mockito.mock(LongCallReporter.class);
+		watchdog.setReporter(reporter);
+		sm.setWatchdog(watchdog);
+
+		sm.pushScreen(new SlowScreen(), null);
+		sm.render(1);
+		Mockito.verify(reporter).onLongCall(Mockito.eq(SlowScreen.class),
+				Mockito.eq(WatchdogPhase.SCREEN_RENDER),
+				Mockito.longThat(n -> n >= 50_000_000L), Mockito.isNull());
+
+		// Rendered as part of a transition
+		sm.pushScreen(new ManagedScreenAdapter(), new BlankTimedTransition(1));
+		sm.render(0.5F);
+		Mockito.verify(reporter, Mockito.times(2)).onLongCall(
+				Mockito.eq(SlowScreen.class),
+				Mockito.eq(WatchdogPhase.SCREEN_RENDER), Mockito.anyLong(),
+				Mockito.isNull());
+		// Other calls could only be reported because of a GC pause
+		assertTrue(watchdog.getLongCallCount() >= 2);
+
+		sm.dispose();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testStackTrace() {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = getMockedScreenManager();
+		sm.initialize(new BasicInputMultiplexer(), 5, 5, false);
+
+		FrameWatchdog watchdog = new FrameWatchdog(20);
+		LongCallReporter reporter = Mockito.mock(LongCallReporter.class);
+		watchdog.setReporter(reporter);
+		ThreadStackTraceSampler sampler = new ThreadStackTraceSampler(1);
+		watchdog.setStackTraceSampler(sampler, 10);
+		sm.setWatchdog(watchdog);
+
+		try {
+			sm.pushScreen(new SlowScreen(), null);
+			sm.render(1);
+
+			ArgumentCaptor<StackTraceElement[]> stackTrace = ArgumentCaptor
+					.forClass(StackTraceElement[].class);
+			Mockito.verify(reporter).onLongCall(Mockito.eq(SlowScreen.class),
+					Mockito.eq(WatchdogPhase.SCREEN_RENDER), Mockito.anyLong(),
+					stackTrace.capture());
+			assertNotNull(stackTrace.getValue());
+
+			boolean inRender = false;
+			for (StackTraceElement element : stackTrace.getValue()) {
+				if (element.getClassName().equals(SlowScreen.class.getName())
+						&& element.getMethodName().equals("render"))
+					inRender = true;
+			}
+			assertTrue(inRender);
+		} finally {
+			sampler.dispose();
+			sm.dispose();
+		}
+	}
+
+	@Test
+	public void testStackTraceOfPreviousCall() throws InterruptedException {
+		ThreadStackTraceSampler sampler = new ThreadStackTraceSampler(1);
+
+		try {
+			sampler.start(1);
+			Thread.sleep(50);
+			assertNotNull(sampler.stop());
+
+			// A trace captured for a previous call is never returned
+			sampler.start(Long.MAX_VALUE);
+			assertNull(sampler.stop());
+		} finally {
+			sampler.dispose();
+		}
+	}
+
+	private static class SlowScreen extends ManagedScreenAdapter {
+		@Override
+		public void render(float delta) {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+}
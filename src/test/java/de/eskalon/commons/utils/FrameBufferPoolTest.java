@@ -0,0 +1,92 @@
+package de.eskalon.commons.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+
+public class FrameBufferPoolTest {
+
+	private int created = 0;
+
+	private FrameBufferPool createPool() {
+		return new FrameBufferPool() {
+			@Override
+			protected FrameBuffer createFrameBuffer(int width, int height) {
+				created++;
+				FrameBuffer fbo = Mockito.mock(FrameBuffer.class);
+				Mockito.when(fbo.getWidth()).thenReturn(width);
+				Mockito.when(fbo.getHeight()).thenReturn(height);
+				return fbo;
+			}
+		};
+	}
+
+	@Test
+	public void testPingPong() {
+		FrameBufferPool pool = createPool();
+
+		assertThrows(IllegalStateException.class, () -> {
+			pool.obtain(RenderScale.FULL);
+		});
+
+		pool.setSize(100, 60);
+
+		FrameBuffer a = pool.obtain(RenderScale.HALF);
+		assertEquals(50, a.getWidth());
+		assertEquals(30, a.getHeight());
+
+		FrameBuffer b = pool.obtain(RenderScale.HALF);
+		assertNotSame(a, b);
+		pool.free(a);
+		assertSame(a, pool.obtain(RenderScale.HALF));
+		pool.free(b);
+		pool.free(a);
+		assertEquals(2, created);
+		assertEquals(0, pool.getLeasedCount());
+		assertEquals(2 * 4 * 50 * 30, pool.getMemoryUsage());
+
+		FrameBuffer c = pool.obtain(RenderScale.QUARTER);
+		assertEquals(25, c.getWidth());
+		assertEquals(15, c.getHeight());
+		assertEquals(3, created);
+	}
+
+	@Test
+	public void testResize() {
+		FrameBufferPool pool = createPool();
+		pool.setSize(100, 60);
+
+		FrameBuffer a = pool.obtain(RenderScale.FULL);
+		FrameBuffer b = pool.obtain(RenderScale.FULL);
+		pool.free(a);
+
+		pool.setSize(300, 180);
+		Mockito.verify(a).dispose();
+
+		pool.free(b); // was leased while resizing
+		Mockito.verify(b).dispose();
+		assertEquals(0, pool.getMemoryUsage());
+
+		assertEquals(300, pool.obtain(RenderScale.FULL).getWidth());
+		assertEquals(3, created);
+	}
+
+	@Test
+	public void testScaleBias() {
+		FrameBufferPool pool = createPool();
+		pool.setSize(100, 60);
+		pool.setScaleBias(1);
+
+		assertEquals(50, pool.obtain(RenderScale.FULL).getWidth());
+		assertEquals(25, pool.obtain(RenderScale.HALF).getWidth());
+		assertEquals(12, pool.obtain(RenderScale.QUARTER).getWidth());
+		assertEquals(6, pool.obtain(RenderScale.SIXTEENTH).getWidth());
+	}
+
+}
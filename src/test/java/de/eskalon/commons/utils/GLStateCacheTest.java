@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.BufferUtils;
+
+import de.eskalon.commons.perf.CountingGL20;
+import de.eskalon.commons.perf.HeadlessEnvironment;
+import de.eskalon.commons.screen.ManagedScreen;
+import de.eskalon.commons.screen.ManagedScreenAdapter;
+import de.eskalon.commons.screen.ScreenManager;
+import de.eskalon.commons.screen.transition.ScreenTransition;
+import de.eskalon.commons.screen.transition.impl.BlendingQuadTransition;
+
+public class GLStateCacheTest {
+
+	@Test
+	public void testRedundantCalls() {
+		GL20 gl = Mockito.mock(GL20.class);
+		GLStateCache cache = new GLStateCache(gl);
+
+		cache.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+		cache.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+		cache.glViewport(0, 0, 10, 10);
+		cache.glViewport(0, 0, 10, 10);
+		cache.glViewport(0, 0, 20, 10);
+		cache.glUseProgram(2);
+		cache.glUseProgram(2);
+		cache.glActiveTexture(GL20.GL_TEXTURE0);
+		cache.glBindTexture(GL20.GL_TEXTURE_2D, 3);
+		cache.glActiveTexture(GL20.GL_TEXTURE1);
+		cache.glBindTexture(GL20.GL_TEXTURE_2D, 3);
+		cache.glActiveTexture(GL20.GL_TEXTURE0);
+		cache.glBindTexture(GL20.GL_TEXTURE_2D, 3);
+		cache.glEnable(GL20.GL_BLEND);
+		cache.glEnable(GL20.GL_BLEND);
+		cache.glBlendFunc(GL20.GL_ONE, GL20.GL_ZERO);
+		cache.glBlendFuncSeparate(GL20.GL_ONE, GL20.GL_ZERO, GL20.GL_ONE,
+				GL20.GL_ZERO);
+		cache.glEnable(GL20.GL_DITHER); // not tracked
+		cache.glEnable(GL20.GL_DITHER);
+
+		Mockito.verify(gl).glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+		Mockito.verify(gl).glViewport(0, 0, 10, 10);
+		Mockito.verify(gl).glViewport(0, 0, 20, 10);
+		Mockito.verify(gl).glUseProgram(2);
+		Mockito.verify(gl, Mockito.times(2)).glActiveTexture(GL20.GL_TEXTURE0);
+		Mockito.verify(gl, Mockito.times(2)).glBindTexture(GL20.GL_TEXTURE_2D,
+				3);
+		Mockito.verify(gl).glEnable(GL20.GL_BLEND);
+		Mockito.verify(gl).glBlendFunc(GL20.GL_ONE, GL20.GL_ZERO);
+		Mockito.verify(gl, Mockito.never()).glBlendFuncSeparate(
+				Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(),
+				Mockito.anyInt());
+		Mockito.verify(gl, Mockito.times(2)).glEnable(GL20.GL_DITHER);
+
+		assertEquals(1, cache.getSkippedFramebufferBinds());
+		assertEquals(1, cache.getSkippedViewports());
+		assertEquals(1, cache.getSkippedProgramBinds());
+		assertEquals(1, cache.getSkippedTextureBinds());
+		assertEquals(2, cache.getSkippedStateChanges());
+		assertEquals(6, cache.getSkippedCount());
+
+		// Deleting resources & invalidating the cache
+		cache.glDeleteFramebuffer(1);
+		cache.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+		Mockito.verify(gl, Mockito.times(2))
+				.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+
+		cache.glDeleteTexture(3);
+		cache.glBindTexture(GL20.GL_TEXTURE_2D, 3);
+		Mockito.verify(gl, Mockito.times(3)).glBindTexture(GL20.GL_TEXTURE_2D,
+				3);
+
+		cache.invalidate();
+		cache.glUseProgram(2);
+		cache.glViewport(0, 0, 20, 10);
+		Mockito.verify(gl, Mockito.times(2)).glUseProgram(2);
+		Mockito.verify(gl, Mockito.times(2)).glViewport(0, 0, 20, 10);
+
+		cache.resetStatistics();
+		assertEquals(0, cache.getSkippedCount());
+	}
+
+	@Test
+	public void testContextLoss() {
+		GL20 gl = Mockito.mock(GL20.class);
+		GLStateCache cache = new GLStateCache(gl);
+
+		cache.glActiveTexture(GL20.GL_TEXTURE0);
+		cache.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		cache.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+		cache.glUseProgram(1);
+
+		// The new context hands out the same handles again
+		Mockito.when(gl.glGenTexture()).thenReturn(1);
+		Mockito.when(gl.glGenFramebuffer()).thenReturn(1);
+		Mockito.when(gl.glCreateProgram()).thenReturn(1);
+		assertEquals(1, cache.glGenTexture());
+		assertEquals(1, cache.glGenFramebuffer());
+		assertEquals(1, cache.glCreateProgram());
+
+		cache.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		cache.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+		cache.glUseProgram(1);
+		Mockito.verify(gl, Mockito.times(2)).glBindTexture(GL20.GL_TEXTURE_2D,
+				1);
+		Mockito.verify(gl, Mockito.times(2))
+				.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+		Mockito.verify(gl, Mockito.times(2)).glUseProgram(1);
+
+		// Deleting, regenerating & rebinding the same handle
+		cache.glDeleteTexture(1);
+		cache.glGenTextures(1, BufferUtils.newIntBuffer(1).put(0, 1));
+		cache.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		cache.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		Mockito.verify(gl, Mockito.times(3)).glBindTexture(GL20.GL_TEXTURE_2D,
+				1);
+
+		cache.glGenFramebuffers(1, BufferUtils.newIntBuffer(1).put(0, 1));
+		cache.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+		Mockito.verify(gl, Mockito.times(3))
+				.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 1);
+		assertEquals(1, cache.getSkippedTextureBinds());
+		assertEquals(0, cache.getSkippedFramebufferBinds());
+	}
+
+	@Test
+	public void testTransition() {
+		CountingGL20 counter = new CountingGL20();
+		HeadlessEnvironment.setUp(640, 360, counter);
+
+		int uncachedCount = countTransitionFrame(counter);
+
+		GLStateCache cache = GLStateCache.install();
+		assertSame(cache, Gdx.gl);
+		assertSame(cache, GLStateCache.install());
+
+		countTransitionFrame(counter); // fills the cache
+		int cachedCount = countTransitionFrame(counter);
+
+		assertTrue(cachedCount < uncachedCount,
+				cachedCount + " >= " + uncachedCount);
+		assertTrue(cache.getSkippedCount() > 0);
+
+		GLStateCache.uninstall();
+		assertSame(counter, Gdx.gl);
+	}
+
+	/**
+	 * @return the count of GL calls issued by a frame of an ongoing
+	 *         transition
+	 */
+	private int countTransitionFrame(CountingGL20 counter) {
+		ScreenManager<ManagedScreen, ScreenTransition> sm = new ScreenManager<>();
+		sm.initialize(new BasicInputMultiplexer(), 640, 360, false);
+
+		try {
+			sm.pushScreen(new ManagedScreenAdapter(), null);
+			sm.render(1 / 60F);
+			sm.pushScreen(new ManagedScreenAdapter(),
+					new BlendingQuadTransition(Float.MAX_VALUE));
+			sm.render(1 / 60F);
+			sm.render(1 / 60F);
+
+			counter.reset();
+			sm.render(1 / 60F);
+			return counter.getTotalCount();
+		} finally {
+			sm.dispose();
+		}
+	}
+
+}
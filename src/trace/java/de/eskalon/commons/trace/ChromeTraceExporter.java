@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 damios
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.eskalon.commons.trace;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.badlogic.gdx.utils.Disposable;
+
+import de.damios.guacamole.Preconditions;
+import de.damios.guacamole.gdx.log.Logger;
+import de.damios.guacamole.gdx.log.LoggerService;
+import de.eskalon.commons.screen.trace.TraceRecorder;
+import de.eskalon.commons.screen.trace.TraceSnapshot;
+
+/**
+ * Writes the events of a {@link TraceRecorder} to Chrome Trace Event files.
+ * Only the snapshot of the events is taken on the calling thread; the file is
+ * written by a background thread via a buffered NIO writer, so exporting a
+ * trace doesn't stall the rendering thread.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * if (Gdx.input.isKeyJustPressed(Keys.F9))
+ * 	exporter.export(recorder, Paths.get("screenmanager.trace.json"));
+ * </pre>
+ * <p>
+ * Is published as the {@code trace} artifact, as it needs {@code java.nio.file}
+ * and threads, i.e. isn't available on GWT and on Android only from API level
+ * 26 on.
+ *
+ * @since 0.8.0
+ * @author damios
+ */
+public class ChromeTraceExporter implements Disposable {
+
+	private static final Logger LOG = LoggerService
+			.getLogger(ChromeTraceExporter.class);
+
+	private final ExecutorService executor = Executors
+			.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable,
+						"screenmanager-trace-exporter");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	/**
+	 * Writes the events recorded so far to the given file. An existing file
+	 * is overwritten.
+	 * 
+	 * @param recorder
+	 *            the recorder; has to be called on the thread recording the
+	 *            events
+	 * @param file
+	 *            the file
+	 * @return a future completed when the file was written
+	 */
+	public Future<?> export(TraceRecorder recorder, Path file) {
+		Preconditions.checkNotNull(recorder);
+		Preconditions.checkNotNull(file);
+
+		TraceSnapshot snapshot = recorder.snapshot();
+		return executor.submit(() -> {
+			try (Writer writer = Files.newBufferedWriter(file,
+					StandardCharsets.UTF_8)) {
+				snapshot.writeChromeTrace(writer);
+			} catch (IOException e) {
+				LOG.error("The trace couldn't be written to " + file, e);
+				throw e;
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Stops the background thread after all pending exports are written.
+	 */
+	@Override
+	public void dispose() {
+		executor.shutdown();
+	}
+
+}